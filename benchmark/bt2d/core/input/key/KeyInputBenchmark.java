@@ -0,0 +1,214 @@
+package bt2d.core.input.key;
+
+import org.lwjgl.glfw.GLFW;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the array based {@link KeyInput} with the previous implementation that kept the key states in a
+ * {@code HashMap<Integer, Key>}.
+ * <p>
+ * Both inputs receive their events directly instead of through a window. Before measuring, every key from
+ * {@link GLFW#GLFW_KEY_A A} to {@link GLFW#GLFW_KEY_Z Z} has been pressed and released once and the movement keys are
+ * held, since the map implementation keeps every key it has ever seen.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=KeyInputBenchmark}.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyInputBenchmark
+{
+    /**
+     * The keys that are held during the benchmark.
+     */
+    private static final int[] HELD_KEYS = { GLFW.GLFW_KEY_W, GLFW.GLFW_KEY_A, GLFW.GLFW_KEY_S, GLFW.GLFW_KEY_D };
+
+    /**
+     * The keys that a typical tick of a game checks, held and not held ones.
+     */
+    private static final int[] QUERIED_KEYS = {
+            GLFW.GLFW_KEY_W, GLFW.GLFW_KEY_A, GLFW.GLFW_KEY_S, GLFW.GLFW_KEY_D,
+            GLFW.GLFW_KEY_SPACE, GLFW.GLFW_KEY_E, GLFW.GLFW_KEY_Q, GLFW.GLFW_KEY_R,
+            GLFW.GLFW_KEY_ESCAPE, GLFW.GLFW_KEY_TAB, GLFW.GLFW_KEY_1, GLFW.GLFW_KEY_2,
+            GLFW.GLFW_KEY_LEFT_SHIFT, GLFW.GLFW_KEY_LEFT_CONTROL, GLFW.GLFW_KEY_F1, GLFW.GLFW_KEY_ENTER
+    };
+
+    private KeyInput arrayInput;
+
+    private MapKeyInput mapInput;
+
+    @Setup
+    public void setUp()
+    {
+        this.arrayInput = new KeyInput();
+        this.mapInput = new MapKeyInput();
+
+        for (int key = GLFW.GLFW_KEY_A; key <= GLFW.GLFW_KEY_Z; key++)
+        {
+            this.arrayInput.keyPressed(key, 0);
+            this.mapInput.keyPressed(key, 0);
+        }
+
+        this.arrayInput.checkKeyChanges();
+        this.mapInput.checkKeyChanges();
+
+        for (int key = GLFW.GLFW_KEY_A; key <= GLFW.GLFW_KEY_Z; key++)
+        {
+            this.arrayInput.keyReleased(key, 0);
+            this.mapInput.keyReleased(key, 0);
+        }
+
+        this.arrayInput.checkKeyChanges();
+        this.mapInput.checkKeyChanges();
+
+        for (int key : HELD_KEYS)
+        {
+            this.arrayInput.keyPressed(key, 0);
+            this.mapInput.keyPressed(key, 0);
+        }
+
+        this.arrayInput.checkKeyChanges();
+        this.mapInput.checkKeyChanges();
+    }
+
+    /**
+     * The key checks of one tick against the array implementation.
+     */
+    @Benchmark
+    public void arrayQueries(Blackhole blackhole)
+    {
+        for (int key : QUERIED_KEYS)
+        {
+            blackhole.consume(this.arrayInput.isKeyDown(key));
+            blackhole.consume(this.arrayInput.isKeyJustDown(key));
+        }
+    }
+
+    /**
+     * The key checks of one tick against the map implementation.
+     */
+    @Benchmark
+    public void mapQueries(Blackhole blackhole)
+    {
+        for (int key : QUERIED_KEYS)
+        {
+            blackhole.consume(this.mapInput.isKeyDown(key));
+            blackhole.consume(this.mapInput.isKeyJustDown(key));
+        }
+    }
+
+    /**
+     * Two ticks of the array implementation, one in which a key is pressed and one in which it is released.
+     */
+    @Benchmark
+    public boolean arrayEvents()
+    {
+        this.arrayInput.keyPressed(GLFW.GLFW_KEY_SPACE, 0);
+        this.arrayInput.checkKeyChanges();
+        boolean down = this.arrayInput.isKeyJustDown(GLFW.GLFW_KEY_SPACE);
+        this.arrayInput.keyReleased(GLFW.GLFW_KEY_SPACE, 0);
+        this.arrayInput.checkKeyChanges();
+        return down;
+    }
+
+    /**
+     * Two ticks of the map implementation, one in which a key is pressed and one in which it is released.
+     */
+    @Benchmark
+    public boolean mapEvents()
+    {
+        this.mapInput.keyPressed(GLFW.GLFW_KEY_SPACE, 0);
+        this.mapInput.checkKeyChanges();
+        boolean down = this.mapInput.isKeyJustDown(GLFW.GLFW_KEY_SPACE);
+        this.mapInput.keyReleased(GLFW.GLFW_KEY_SPACE, 0);
+        this.mapInput.checkKeyChanges();
+        return down;
+    }
+
+    /**
+     * The key state handling of {@link KeyInput} before it was moved into arrays, without the window callback.
+     */
+    private static class MapKeyInput
+    {
+        private final Map<Integer, Key> keyValues = new HashMap<>();
+
+        private final Map<Integer, Key> keyChanges = new HashMap<>();
+
+        public boolean isKeyJustDown(int key)
+        {
+            var entry = this.keyValues.get(key);
+            return entry != null && entry.getStatus() == Key.KEY_JUST_DOWN
+                    && entry.getMods() == 0;
+        }
+
+        public boolean isKeyDown(int key)
+        {
+            return isKeyDown(key, 0);
+        }
+
+        public boolean isKeyDown(int key, int mods)
+        {
+            var entry = this.keyValues.get(key);
+            return entry != null
+                    && (entry.getStatus() == Key.KEY_DOWN || entry.getStatus() == Key.KEY_JUST_DOWN)
+                    && entry.getMods() == mods;
+        }
+
+        public void keyPressed(int key, int mods)
+        {
+            synchronized (this.keyChanges)
+            {
+                if (!isKeyDown(key, mods))
+                {
+                    this.keyChanges.put(key, new Key(key, Key.KEY_JUST_DOWN, mods));
+                }
+            }
+        }
+
+        public void keyReleased(int key, int mods)
+        {
+            synchronized (this.keyChanges)
+            {
+                this.keyChanges.put(key, new Key(key, Key.KEY_RELEASED, mods));
+            }
+        }
+
+        public void checkKeyChanges()
+        {
+            this.keyValues.replaceAll((k, v) ->
+                                      {
+                                          if (v.getStatus() == Key.KEY_RELEASED)
+                                          {
+                                              v.setStatus(Key.KEY_NOT_DOWN);
+                                          }
+                                          else if (v.getStatus() == Key.KEY_JUST_DOWN)
+                                          {
+                                              v.setStatus(Key.KEY_DOWN);
+                                          }
+
+                                          return v;
+                                      });
+
+            synchronized (this.keyChanges)
+            {
+                for (var key : this.keyChanges.keySet())
+                {
+                    this.keyValues.put(key, this.keyChanges.get(key));
+                }
+
+                this.keyChanges.clear();
+            }
+        }
+    }
+}
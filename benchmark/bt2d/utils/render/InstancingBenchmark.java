@@ -0,0 +1,98 @@
+package bt2d.utils.render;
+
+import bt2d.utils.Unit;
+import bt2d.utils.render.batch.InstanceBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a frame of identical rectangles through per-call {@link ShapeRenderer#fillRectangle(double, double,
+ * double, double, Color) fillRectangle} with writing them into an {@link InstanceBuffer}.
+ * <p>
+ * Only the CPU side is measured. {@link ShapeRenderer} runs in {@link RenderMode#BATCHED batched} mode and both paths
+ * are reset instead of drawn after every frame, so no OpenGL context is required.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec}.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstancingBenchmark
+{
+    @Param({ "1000", "10000" })
+    private int particles;
+
+    private float[] x;
+
+    private float[] y;
+
+    private Color[] colors;
+
+    private InstanceBuffer instances;
+
+    @Setup
+    public void setUp()
+    {
+        Unit.setRatio(2);
+        ShapeRenderer.setCuller(null);
+        ShapeRenderer.setRenderMode(RenderMode.BATCHED);
+
+        this.x = new float[this.particles];
+        this.y = new float[this.particles];
+        this.colors = new Color[this.particles];
+
+        for (int i = 0; i < this.particles; i++)
+        {
+            this.x[i] = i % 800;
+            this.y[i] = i / 800 * 4;
+            this.colors[i] = Color.of(i & 0xFF, (i >> 8) & 0xFF, 128, 255);
+        }
+
+        this.instances = new InstanceBuffer(this.particles);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        ShapeRenderer.clearBatches();
+        ShapeRenderer.kill();
+        this.instances.kill();
+        Unit.setRatio(1);
+    }
+
+    /**
+     * One {@code fillRectangle} call per particle, which writes the six vertices of two triangles into the shape
+     * batch.
+     */
+    @Benchmark
+    public void perCallFillRectangle()
+    {
+        for (int i = 0; i < this.particles; i++)
+        {
+            ShapeRenderer.fillRectangle(this.x[i], this.y[i], 2, 2, this.colors[i]);
+        }
+
+        ShapeRenderer.clearBatches();
+    }
+
+    /**
+     * One instance per particle, which writes a single offset, scale and color into the instance buffer.
+     */
+    @Benchmark
+    public void instanceBuffer()
+    {
+        for (int i = 0; i < this.particles; i++)
+        {
+            this.instances.add(this.x[i], this.y[i], 2, 2, this.colors[i]);
+        }
+
+        this.instances.clear();
+    }
+}
@@ -8,24 +8,56 @@ import bt2d.core.container.exc.GameContainerException;
 import bt2d.core.container.settings.GameContainerSettings;
 import bt2d.core.container.settings.exc.SettingsChangeException;
 import bt2d.core.input.key.KeyActions;
+import bt2d.core.input.gamepad.GamepadInput;
 import bt2d.core.input.key.KeyInput;
+import bt2d.core.input.mouse.MouseInput;
 import bt2d.core.loop.GameLoop;
+import bt2d.core.loop.RenderPacing;
+import bt2d.core.loop.metrics.TickWatchdog;
+import bt2d.core.loop.pacing.EventWaitPacing;
+import bt2d.core.loop.pacing.PacingStrategy;
+import bt2d.core.loop.rate.RenderDegradation;
 import bt2d.core.scene.Scene;
 import bt2d.core.scene.obj.ScenePair;
 import bt2d.core.window.Window;
 import bt2d.resource.load.exc.LoadException;
 import bt2d.utils.Unit;
+import bt2d.utils.render.Camera;
 import bt2d.utils.render.Color;
+import bt2d.utils.render.RenderMode;
+import bt2d.utils.render.RenderPipeline;
 import bt2d.utils.render.ShapeRenderer;
+import bt2d.utils.render.SpriteBatch;
+import bt2d.utils.render.ViewportCuller;
+import bt2d.utils.render.batch.InstancedRenderer;
+import bt2d.utils.render.batch.ShaderInstancedRenderer;
+import bt2d.utils.render.batch.ShaderVertexBatchRenderer;
+import bt2d.utils.render.batch.VertexBatchRenderer;
+import bt2d.utils.render.command.LayerRecorder;
+import bt2d.utils.render.command.RenderCommandBuffer;
+import bt2d.utils.render.command.RenderCommandQueue;
+import bt2d.utils.render.command.RenderCommandSubmitter;
+import bt2d.utils.render.command.RenderFrame;
+import bt2d.utils.render.shader.DefaultShaders;
+import bt2d.utils.render.shader.ShaderManager;
+import bt2d.utils.concurrent.TripleBuffer;
 import bt2d.utils.timer.TimerActions;
+import org.lwjgl.opengl.GL;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
+import static org.lwjgl.glfw.GLFW.GLFW_JOYSTICK_1;
+import static org.lwjgl.glfw.GLFW.glfwMakeContextCurrent;
 import static org.lwjgl.glfw.GLFW.glfwPollEvents;
+import static org.lwjgl.opengl.GL11.GL_MODELVIEW;
+import static org.lwjgl.opengl.GL11.GL_PROJECTION;
 import static org.lwjgl.opengl.GL11.glClearColor;
-import static org.lwjgl.opengl.GL11.glOrtho;
+import static org.lwjgl.opengl.GL11.glLoadMatrixf;
+import static org.lwjgl.opengl.GL11.glMatrixMode;
 
 /**
  * The core of a game.
@@ -37,6 +69,36 @@ import static org.lwjgl.opengl.GL11.glOrtho;
  */
 public class GameContainer implements Runnable, Killable
 {
+    /**
+     * The index of the {@link #tickWatchdog} phase that switches to a requested scene.
+     */
+    protected static final int PHASE_SCENE_SWITCH = 0;
+
+    /**
+     * The index of the {@link #tickWatchdog} phase that polls the window events.
+     */
+    protected static final int PHASE_POLL_EVENTS = 1;
+
+    /**
+     * The index of the {@link #tickWatchdog} phase that checks the key, mouse and gamepad changes.
+     */
+    protected static final int PHASE_INPUT = 2;
+
+    /**
+     * The index of the {@link #tickWatchdog} phase that runs the key actions.
+     */
+    protected static final int PHASE_KEY_ACTIONS = 3;
+
+    /**
+     * The index of the {@link #tickWatchdog} phase that runs the timer actions.
+     */
+    protected static final int PHASE_TIMER_ACTIONS = 4;
+
+    /**
+     * The index of the {@link #tickWatchdog} phase that ticks the current scene.
+     */
+    protected static final int PHASE_SCENE_TICK = 5;
+
     /**
      * The loop that calls this containers tick and render methods.
      */
@@ -73,6 +135,16 @@ public class GameContainer implements Runnable, Killable
      */
     protected KeyInput keyInput;
 
+    /**
+     * This containers mouse input instance which is used to check pressed buttons, the cursor and scrolling.
+     */
+    protected MouseInput mouseInput;
+
+    /**
+     * This containers gamepad input instance which polls the first gamepad.
+     */
+    protected GamepadInput gamepadInput;
+
     /**
      * A set of timer actions that can be freely configured to setup global delay based triggers.
      */
@@ -93,12 +165,132 @@ public class GameContainer implements Runnable, Killable
      */
     protected volatile boolean sceneRequested;
 
+    /**
+     * The last scene that was {@link #checkRecording(Scene) checked} by the game loop thread.
+     */
+    protected Scene checkedScene;
+
     /**
      * A mapping of scenes to unique names. The entries will hold the main scene and an
      * optional (may be null) loading scene.
      */
     protected Map<String, ScenePair> scenes;
 
+    /**
+     * The sprite batch that collects the sprites of a frame. It is flushed at the end of every render call.
+     */
+    protected SpriteBatch spriteBatch;
+
+    /**
+     * The queue that hands the recorded draw commands of the current scene to the submission stage.
+     * <p>
+     * Without threaded rendering both stages run back to back on the game loop thread, so the queue never holds more
+     * than one frame. It only separates the stages so that submission can be moved to another thread.
+     */
+    protected RenderCommandQueue renderQueue;
+
+    /**
+     * Executes the recorded draw commands.
+     */
+    protected RenderCommandSubmitter renderSubmitter;
+
+    /**
+     * Records the layers of the current scene in parallel.
+     */
+    protected LayerRecorder layerRecorder;
+
+    /**
+     * Rejects shapes and sprites outside of the visible area and counts drawn and culled primitives per frame.
+     */
+    protected ViewportCuller culler;
+
+    /**
+     * The camera whichs matrix is uploaded at the start of every frame.
+     */
+    protected Camera camera;
+
+    /**
+     * Compiles and caches the shader programs of the core profile pipeline. Null in the fixed-function pipeline.
+     */
+    protected ShaderManager shaderManager;
+
+    /**
+     * The built-in programs of the core profile pipeline. Null in the fixed-function pipeline.
+     */
+    protected DefaultShaders defaultShaders;
+
+    /**
+     * Draws many copies of the same shape with a single draw call.
+     */
+    protected InstancedRenderer instancedRenderer;
+
+    /**
+     * Hands the recorded frames from the game loop thread to the render thread. Null if
+     * {@link GameContainerSettings#getThreadedRendering() threaded rendering} is disabled.
+     */
+    protected TripleBuffer<RenderFrame> renderFrames;
+
+    /**
+     * The thread that owns the OpenGL context and draws the recorded frames. Null if threaded rendering is disabled.
+     */
+    protected Thread renderThread;
+
+    /**
+     * Indicates whether the render thread should keep drawing frames.
+     */
+    protected volatile boolean renderThreadRunning;
+
+    /**
+     * Indicates whether the swap interval has to be updated on the next frame, since it can only be set on the thread
+     * that owns the OpenGL context.
+     */
+    protected volatile boolean swapIntervalChanged = true;
+
+    /**
+     * Measures the phases of every tick and reports ticks that exceed its budget.
+     */
+    protected TickWatchdog tickWatchdog;
+
+    /**
+     * Indicates whether the game loop is currently throttled because the window is unfocused or minimized.
+     */
+    protected volatile boolean idle;
+
+    /**
+     * The pacing strategy of the loop before it was throttled.
+     */
+    protected PacingStrategy activePacing;
+
+    /**
+     * The tick rate of the loop before it was throttled.
+     */
+    protected int activeTickRate;
+
+    /**
+     * The frame rate of the loop before it was throttled.
+     */
+    protected int activeFrameRate;
+
+    /**
+     * The tick rate that was set when the loop was throttled, or -1 if the tick rate was kept.
+     */
+    protected int idleTickRate;
+
+    /**
+     * The frame rate that was set when the loop was throttled.
+     */
+    protected int idleFrameRate;
+
+    /**
+     * The pacing strategy that was set when the loop was throttled.
+     */
+    protected PacingStrategy idlePacing;
+
+    /**
+     * The interpolation alpha of the current render call, see {@link Scene#render(boolean, double)}.
+     */
+    protected volatile double interpolationAlpha;
+
     /**
      * Instantiates a new Game container.
      *
@@ -115,6 +307,13 @@ public class GameContainer implements Runnable, Killable
         this.keyActions = new KeyActions();
         this.timerActions = new TimerActions();
         this.scenes = new HashMap<>();
+        this.tickWatchdog = new TickWatchdog(settings.getTickBudget().get(),
+                                             "sceneSwitch",
+                                             "pollEvents",
+                                             "checkInputChanges",
+                                             "keyActions",
+                                             "timerActions",
+                                             "sceneTick");
     }
 
     /**
@@ -135,6 +334,7 @@ public class GameContainer implements Runnable, Killable
 
         this.settings.getWindowSize().addChangeListener((width, height) -> {
             this.window.updateWindowSize(width, height);
+            this.camera.setViewportSize(width, height);
         });
 
         this.settings.getFullscreen().addChangeListener(fullscreen -> {
@@ -149,7 +349,86 @@ public class GameContainer implements Runnable, Killable
             this.window.setStrictAspectRatio(strictAspectRatio);
         });
 
-        this.settings.getGameUnitWidth().addChangeListener(gameUnits -> Unit.setRatio(this.window.getWidth() / gameUnits));
+        this.settings.getGameUnitWidth().addChangeListener(gameUnits -> {
+            Unit.setRatio(this.window.getWidth() / gameUnits);
+            this.camera.markDirty();
+        });
+
+        this.settings.getRenderMode().addChangeListener(renderMode -> {
+            if (renderMode == RenderMode.IMMEDIATE && this.settings.getRenderPipeline().get() == RenderPipeline.CORE_PROFILE)
+            {
+                throw new SettingsChangeException("Immediate render mode is not available in the core profile pipeline");
+            }
+
+            ShapeRenderer.setRenderMode(renderMode);
+        });
+
+        this.settings.getRenderPipeline().addChangeListener(renderPipeline -> {
+            throw new SettingsChangeException("Cant change render pipeline after the window was created");
+        });
+
+        this.settings.getCulling().addChangeListener(culling -> this.culler.setEnabled(culling));
+
+        this.settings.getRenderPacing().addChangeListener(this::applyRenderPacing);
+
+        this.settings.getThreadedRendering().addChangeListener(threadedRendering -> {
+            throw new SettingsChangeException("Cant change threaded rendering after the window was created");
+        });
+
+        this.settings.getTickBudget().addChangeListener(tickBudget -> this.tickWatchdog.setBudget(tickBudget));
+
+        this.settings.getFixedTimestep().addChangeListener(fixedTimestep -> {
+            if (this.loop != null)
+            {
+                this.loop.setFixedTimestep(fixedTimestep);
+            }
+        });
+
+        this.settings.getRenderDegradation().addChangeListener(renderDegradation -> {
+            if (this.loop != null)
+            {
+                applyRenderDegradation(this.loop, renderDegradation);
+            }
+        });
+    }
+
+    /**
+     * Switches the game loop to the given render pacing and requests the matching swap interval for the next frame.
+     * <p>
+     * With threaded rendering and {@link RenderPacing#VSYNC} the buffer swap blocks the render thread, so the game loop
+     * keeps publishing frames at its internal frame rate.
+     *
+     * @param renderPacing the render pacing.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void applyRenderPacing(RenderPacing renderPacing)
+    {
+        // the idle mode always paces internally, the setting is applied once the window is active again
+        if (this.loop != null && !this.idle)
+        {
+            boolean threaded = this.settings.getThreadedRendering().get();
+            this.loop.setRenderPacing(threaded && renderPacing == RenderPacing.VSYNC ? RenderPacing.INTERNAL : renderPacing);
+        }
+
+        this.swapIntervalChanged = true;
+    }
+
+    /**
+     * Sets the swap interval of the window if the {@link GameContainerSettings#getRenderPacing() render pacing} changed
+     * since the last frame. Has to be called on the thread that owns the OpenGL context.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void updateSwapInterval()
+    {
+        if (this.swapIntervalChanged)
+        {
+            this.swapIntervalChanged = false;
+            this.window.setSwapInterval(this.settings.getRenderPacing().get() == RenderPacing.VSYNC ? 1 : 0);
+        }
     }
 
     /**
@@ -205,7 +484,8 @@ public class GameContainer implements Runnable, Killable
                                  this.settings.getFullscreen().get(),
                                  this.settings.getUndecorated().get(),
                                  this.settings.getStrictAspectRatio().get(),
-                                 60);
+                                 60,
+                                 this.settings.getRenderPipeline().get() == RenderPipeline.CORE_PROFILE);
 
         // set ratio based on settings and calculate unit size for this container
         Unit.setRatio(this.window.getWidth() / this.settings.getGameUnitWidth().get());
@@ -214,16 +494,44 @@ public class GameContainer implements Runnable, Killable
 
         this.window.setMaximized(this.settings.getMaximized().get());
 
+        if (this.settings.getRenderPipeline().get() == RenderPipeline.CORE_PROFILE)
+        {
+            this.shaderManager = new ShaderManager();
+            this.defaultShaders = new DefaultShaders(this.shaderManager);
+
+            if (this.settings.getRenderMode().get() == RenderMode.IMMEDIATE)
+            {
+                Log.debug("Immediate render mode is not available in the core profile pipeline, using batched mode instead");
+            }
+
+            ShapeRenderer.setBatchRenderer(createBatchRenderer());
+            ShapeRenderer.setRenderMode(RenderMode.BATCHED);
+        }
+        else
+        {
+            ShapeRenderer.setBatchRenderer(createBatchRenderer());
+            ShapeRenderer.setRenderMode(this.settings.getRenderMode().get());
+        }
+
+        this.spriteBatch = new SpriteBatch(createBatchRenderer());
+        this.instancedRenderer = this.defaultShaders != null ? new ShaderInstancedRenderer(this.defaultShaders) : new InstancedRenderer();
+        this.renderQueue = new RenderCommandQueue();
+        this.renderSubmitter = new RenderCommandSubmitter(this.spriteBatch, this.window);
+        this.layerRecorder = createLayerRecorder();
+
+        // the bounds of the culler are taken from the camera every frame
+        this.culler = new ViewportCuller();
+        this.culler.setEnabled(this.settings.getCulling().get());
+        ShapeRenderer.setCuller(this.culler);
+        this.spriteBatch.setCuller(this.culler);
+
         this.window.showWindow();
 
         glClearColor(0.0f, 0.0f, 0.0f, 1.0f);
 
-        glOrtho(0.f,
-                getWidth().glUnits(),
-                getHeight().glUnits(),
-                0.f,
-                0.f,
-                1.f);
+        // centered on the middle of the window, this shows the same area as a plain orthographic projection
+        this.camera = new Camera(getWidth().glUnits(), getHeight().glUnits());
+        this.camera.setPosition(getWidth().gameUnits() / 2, getHeight().gameUnits() / 2);
     }
 
     /**
@@ -239,6 +547,32 @@ public class GameContainer implements Runnable, Killable
         this.keyInput = new KeyInput(this.window.getWindow());
     }
 
+    /**
+     * Creates the {@link MouseInput} instance of this container.
+     * <p>
+     * The setup instance will be available via {@link #getMouseInput()}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void setupMouseInput()
+    {
+        this.mouseInput = new MouseInput(this.window.getWindow());
+    }
+
+    /**
+     * Creates the {@link GamepadInput} instance of this container which polls the first gamepad.
+     * <p>
+     * The setup instance will be available via {@link #getGamepadInput()}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void setupGamepadInput()
+    {
+        this.gamepadInput = new GamepadInput(GLFW_JOYSTICK_1);
+    }
+
     /**
      * The tick method of this container.
      * <p>
@@ -251,33 +585,71 @@ public class GameContainer implements Runnable, Killable
      */
     public void tick(double delta)
     {
-        // if a new scene was requested switch now
-        // to avoid complications during the current process and the killing of the old scene at the same time
-        if (this.sceneRequested)
+        this.tickWatchdog.begin();
+
+        try
         {
-            try
-            {
-                loadScene(this.requestedSceneName);
-            }
-            catch (LoadException e)
+            // if a new scene was requested switch now
+            // to avoid complications during the current process and the killing of the old scene at the same time
+            if (this.sceneRequested)
             {
-                Log.error("Error during loading of requested scene", e);
-                kill();
-                return;
+                try
+                {
+                    loadScene(this.requestedSceneName);
+                }
+                catch (LoadException e)
+                {
+                    Log.error("Error during loading of requested scene", e);
+                    kill();
+                    return;
+                }
+
+                this.sceneRequested = false;
             }
 
-            this.sceneRequested = false;
-        }
+            // main scenes are set by their loader thread, check them here before they receive their first tick
+            Scene scene = this.currentScene;
 
-        glfwPollEvents();
+            if (scene != null && scene != this.checkedScene)
+            {
+                this.checkedScene = scene;
+
+                try
+                {
+                    checkRecording(scene);
+                }
+                catch (LoadException e)
+                {
+                    Log.error("Error during start of scene", e);
+                    kill();
+                    return;
+                }
+            }
 
-        this.keyInput.checkKeyChanges();
-        this.keyActions.checkActions(this.keyInput);
-        this.timerActions.checkActions(delta);
+            this.tickWatchdog.lap(PHASE_SCENE_SWITCH);
+            glfwPollEvents();
+            updateIdleState();
+            this.tickWatchdog.lap(PHASE_POLL_EVENTS);
+            this.keyInput.checkKeyChanges();
+            this.mouseInput.checkMouseChanges();
+            this.gamepadInput.checkGamepadChanges();
+            this.tickWatchdog.lap(PHASE_INPUT);
+            this.keyActions.checkActions(this.keyInput);
+            this.tickWatchdog.lap(PHASE_KEY_ACTIONS);
+            this.timerActions.checkActions(delta);
+            this.tickWatchdog.lap(PHASE_TIMER_ACTIONS);
+
+            if (this.currentScene != null)
+            {
+                this.currentScene.tick(delta);
+            }
 
-        if (this.currentScene != null)
+            this.tickWatchdog.lap(PHASE_SCENE_TICK);
+        }
+        finally
         {
-            this.currentScene.tick(delta);
+            // also ends ticks that failed or killed the container, so that a slow one is still reported
+            this.tickWatchdog.end();
         }
 
         if (this.window.isShouldClose())
@@ -290,19 +662,68 @@ public class GameContainer implements Runnable, Killable
      * The render method of this container.
      * <p>
      * This will call {@link Window#beforeRender()} before forwarding the render call and {@link Window#afterRender()} afterwards.
+     * Batched shapes of the {@link ShapeRenderer} and sprites drawn via {@link #getSpriteBatch()} are flushed right
+     * before {@link Window#afterRender()}.
+     * <p>
+     * The draw commands of the current scene are recorded via {@link #recordFrame()} and submitted via {@link #submitFrame()}
+     * after the scenes direct {@link Scene#render(boolean) render} call. Both run on the calling thread one after the
+     * other, recording and submission only overlap with threaded rendering.
+     * <p>
+     * If {@link GameContainerSettings#getThreadedRendering() threaded rendering} is enabled this only records the frame
+     * and hands it to the render thread via {@link #publishFrame()}.
+     * <p>
+     * The scene receives the {@link GameLoop#getInterpolationAlpha() interpolation alpha} of the game loop.
      *
      * @author Lukas Hartwig
      * @since 02.11.2021
      */
     public void render()
     {
+        render(this.loop != null ? this.loop.getInterpolationAlpha() : 0);
+    }
+
+    /**
+     * The render method of this container that is called by the default game loop with the interpolation alpha of
+     * the {@link GameContainerSettings#getFixedTimestep() fixed timestep} mode.
+     * <p>
+     * Works like {@link #render()} and passes the given alpha to {@link Scene#render(boolean, double)}.
+     *
+     * @param interpolationAlpha the progress between the last and the next tick from 0 (inclusive) to 1 (exclusive).
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void render(double interpolationAlpha)
+    {
+        this.interpolationAlpha = interpolationAlpha;
+
+        // nobody can see a minimized window
+        if (this.idle && this.window.isIconified())
+        {
+            return;
+        }
+
+        if (this.renderFrames != null)
+        {
+            publishFrame();
+            return;
+        }
+
+        updateSwapInterval();
+        this.culler.resetCounters();
+        applyCamera();
+
+        recordFrame();
+
         this.window.beforeRender();
 
         if (this.currentScene != null)
         {
-            this.currentScene.render(this.settings.getDebugRendering().get());
+            this.currentScene.render(this.settings.getDebugRendering().get(), interpolationAlpha);
         }
 
+        submitFrame();
+
         // TODO remove test rendering
 
         ShapeRenderer.line(Unit.zero(), Unit.zero(),
@@ -326,13 +747,385 @@ public class GameContainer implements Runnable, Killable
         ShapeRenderer.fillRectangle(10, 10, 5, 5);
         ShapeRenderer.drawRectangle(9, 9, 7, 7, Color.RED);
 
-        ShapeRenderer.fillRectangle(70, 20, 8, 15, new Color("#4e9962"));
+        ShapeRenderer.fillRectangle(70, 20, 8, 15, Color.of("#4e9962"));
+
+        ShapeRenderer.flush();
+        this.spriteBatch.flush();
+        this.window.afterRender();
+    }
+
+    /**
+     * Throttles the game loop while the window is unfocused or minimized and restores it once the window is active again,
+     * depending on the {@link GameContainerSettings#getIdleThrottling() idle throttling} setting.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void updateIdleState()
+    {
+        boolean shouldIdle = this.settings.getIdleThrottling().get()
+                && (!this.window.isFocused() || this.window.isIconified());
+
+        if (shouldIdle && !this.idle)
+        {
+            enterIdle();
+        }
+        else if (!shouldIdle && this.idle)
+        {
+            exitIdle();
+        }
+    }
+
+    /**
+     * Lowers the tick and frame rate of the loop to the {@link GameContainerSettings#getIdleRate() idle rate} and lets it
+     * wait in the event queue of the window.
+     * <p>
+     * In {@link GameLoop#isFixedTimestep() fixed timestep} mode the tick rate is kept, since it defines the delta of
+     * every tick and changing it would change the simulation. Only rendering and pacing are throttled then.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void enterIdle()
+    {
+        this.idle = true;
+        this.activePacing = this.loop.getPacingStrategy();
+        this.activeTickRate = this.loop.getTickRate();
+        this.activeFrameRate = this.loop.getFrameRate();
+
+        int idleRate = this.settings.getIdleRate().get();
+        this.idleTickRate = -1;
+
+        if (!this.loop.isFixedTimestep())
+        {
+            this.idleTickRate = Math.min(idleRate, this.activeTickRate);
+            this.loop.setTickRate(this.idleTickRate);
+        }
+
+        this.idleFrameRate = Math.min(idleRate, this.activeFrameRate);
+        this.idlePacing = new EventWaitPacing(this.loop.getClock());
+        this.loop.setFrameRate(this.idleFrameRate);
+        this.loop.setRenderPacing(RenderPacing.INTERNAL);
+        this.loop.setPacingStrategy(this.idlePacing);
+
+        Log.debug("Window is idle, throttling game loop to {} ticks and {} frames per second", this.loop.getTickRate(), this.idleFrameRate);
+    }
+
+    /**
+     * Restores the rates and pacing that the loop had before {@link #enterIdle()}.
+     * <p>
+     * Values that were changed on the loop while it was idle are kept, only values that still match what
+     * {@link #enterIdle()} set are restored.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void exitIdle()
+    {
+        this.idle = false;
+
+        if (this.idleTickRate != -1 && this.loop.getTickRate() == this.idleTickRate)
+        {
+            this.loop.setTickRate(this.activeTickRate);
+        }
+
+        if (this.loop.getFrameRate() == this.idleFrameRate)
+        {
+            this.loop.setFrameRate(this.activeFrameRate);
+        }
+
+        if (this.loop.getPacingStrategy() == this.idlePacing)
+        {
+            this.loop.setPacingStrategy(this.activePacing);
+        }
+
+        this.idlePacing = null;
+        applyRenderPacing(this.settings.getRenderPacing().get());
+
+        Log.debug("Window is active again, game loop runs at {} ticks and {} frames per second", this.loop.getTickRate(), this.loop.getFrameRate());
+    }
+
+    /**
+     * Uploads the matrix of the {@link #camera} as the projection matrix, or as the projection uniform of the
+     * core profile pipeline, and updates the bounds of the {@link #culler}
+     * if the camera changed since the last frame.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void applyCamera()
+    {
+        if (this.camera.update())
+        {
+            this.camera.applyBounds(this.culler);
+        }
+
+        uploadProjection(this.camera.getMatrix());
+    }
+
+    /**
+     * Uploads the given matrix as the projection matrix, or as the projection uniform of the core profile pipeline.
+     * <p>
+     * The matrix is also handed to the {@link #renderSubmitter} which needs it to convert clip rectangles to window pixels.
+     *
+     * @param matrix the projection-view matrix in column-major order.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void uploadProjection(float[] matrix)
+    {
+        this.renderSubmitter.setProjection(matrix);
+
+        if (this.defaultShaders != null)
+        {
+            this.defaultShaders.setProjection(matrix);
+        }
+        else
+        {
+            glMatrixMode(GL_PROJECTION);
+            glLoadMatrixf(matrix);
+            glMatrixMode(GL_MODELVIEW);
+        }
+    }
+
+    /**
+     * Creates a renderer for vertex batches that matches the {@link GameContainerSettings#getRenderPipeline() render pipeline}.
+     *
+     * @return a {@link ShaderVertexBatchRenderer} for the core profile pipeline, a plain {@link VertexBatchRenderer} otherwise.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected VertexBatchRenderer createBatchRenderer()
+    {
+        if (this.defaultShaders != null)
+        {
+            return new ShaderVertexBatchRenderer(this.defaultShaders);
+        }
+
+        return new VertexBatchRenderer();
+    }
+
+    /**
+     * Records the draw commands of the current scene into the next free buffer of the render queue and publishes it.
+     * <p>
+     * This does not call OpenGL. It is followed by {@link #submitFrame()} on the same thread, recording the next frame
+     * while the previous one is submitted happens only with {@link GameContainerSettings#getThreadedRendering() threaded rendering},
+     * which hands frames to the render thread via {@link #publishFrame()} instead.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void recordFrame()
+    {
+        RenderCommandBuffer commands = this.renderQueue.beginRecording();
+
+        // all buffers are still waiting for submission, skip recording instead of overwriting a pending frame
+        if (commands == null)
+        {
+            return;
+        }
+
+        recordScene(commands);
+        this.renderQueue.publish();
+    }
+
+    /**
+     * Records the draw commands and render layers of the current scene into the given buffer.
+     *
+     * @param commands the buffer to record into.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void recordScene(RenderCommandBuffer commands)
+    {
+        Scene scene = this.currentScene;
+
+        if (scene != null)
+        {
+            boolean debugRendering = this.settings.getDebugRendering().get();
+            scene.record(commands, debugRendering);
+            this.layerRecorder.record(scene.getRenderLayers(), commands, debugRendering);
+        }
+    }
+
+    /**
+     * Records the current scene together with a copy of the camera into the write buffer of {@link #renderFrames} and
+     * hands it to the render thread.
+     * <p>
+     * This does not call OpenGL. If the render thread is slower than the game loop, frames that it did not pick up in
+     * time are overwritten, so it always draws the latest state.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void publishFrame()
+    {
+        RenderFrame frame = this.renderFrames.getWriteBuffer();
+        frame.getCommands().clear();
+        recordScene(frame.getCommands());
+        frame.setView(this.camera);
+
+        this.renderFrames.publish();
+        LockSupport.unpark(this.renderThread);
+    }
+
+    /**
+     * Moves the OpenGL context from the calling thread to a newly started render thread that draws the frames
+     * published via {@link #publishFrame()}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void startRenderThread()
+    {
+        this.renderFrames = new TripleBuffer<>(RenderFrame::new);
+        this.renderThreadRunning = true;
+
+        // a context can only be current on one thread at a time
+        glfwMakeContextCurrent(0);
+
+        this.renderThread = new Thread(this::runRenderThread, "RENDER");
+        this.renderThread.start();
+    }
+
+    /**
+     * The loop of the render thread. Draws the latest published frame and parks until a new one arrives.
+     * <p>
+     * If drawing a frame fails, including errors such as running out of memory, the render thread stops, releases the
+     * OpenGL context and requests the window to close, so that the game loop thread {@link #kill() kills} the container
+     * on its next tick and releases the remaining resources.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void runRenderThread()
+    {
+        Log.entry();
 
+        try
+        {
+            glfwMakeContextCurrent(this.window.getWindow());
+            GL.createCapabilities();
+
+            while (this.renderThreadRunning)
+            {
+                if (this.renderFrames.update())
+                {
+                    renderFrame(this.renderFrames.getReadBuffer());
+                }
+                else
+                {
+                    // woken up early by publishFrame, the timeout only guards against a missed unpark
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                }
+            }
+        }
+        catch (Throwable e)
+        {
+            Log.error("Error during rendering, killing the game container", e);
+            this.renderThreadRunning = false;
+            this.window.setShouldClose(true);
+        }
+        finally
+        {
+            // the game loop thread takes the context over to release the remaining resources
+            glfwMakeContextCurrent(0);
+        }
+
+        Log.exit();
+    }
+
+    /**
+     * Draws the given frame on the render thread.
+     *
+     * @param frame the frame that was picked up from {@link #renderFrames}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void renderFrame(RenderFrame frame)
+    {
+        updateSwapInterval();
+        this.culler.resetCounters();
+        frame.applyBounds(this.culler);
+        uploadProjection(frame.getProjection());
+
+        this.window.beforeRender();
+        this.renderSubmitter.submit(frame.getCommands());
+        ShapeRenderer.flush();
+        this.spriteBatch.flush();
         this.window.afterRender();
     }
 
+    /**
+     * Stops the render thread, waits for it to release the OpenGL context and makes the context current on the
+     * calling thread again, so that the remaining resources can be released.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void stopRenderThread()
+    {
+        this.renderThreadRunning = false;
+        LockSupport.unpark(this.renderThread);
+
+        if (this.renderThread != Thread.currentThread())
+        {
+            try
+            {
+                this.renderThread.join();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            glfwMakeContextCurrent(this.window.getWindow());
+        }
+    }
+
+    /**
+     * Creates the recorder that records the layers of the current scene.
+     * <p>
+     * The default recorder uses the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * Override this method to record on a dedicated pool.
+     *
+     * @return the layer recorder.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected LayerRecorder createLayerRecorder()
+    {
+        return new LayerRecorder();
+    }
+
+    /**
+     * Submits the oldest recorded frame of the render queue if there is one.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void submitFrame()
+    {
+        RenderCommandBuffer commands = this.renderQueue.beginSubmission();
+
+        if (commands != null)
+        {
+            this.renderSubmitter.submit(commands);
+            this.renderQueue.finishSubmission();
+        }
+    }
+
     /**
      * Terminates this container by closing the window and stopping the gameloop.
+     * <p>
+     * This can be called from any thread. It only stops the gameloop, the current scene, the window and the OpenGL
+     * resources are released via {@link #release()} by {@link #run()} once the loop returned, on the thread that
+     * owns the OpenGL context.
      *
      * @author Lukas Hartwig
      * @since 02.11.2021
@@ -341,8 +1134,34 @@ public class GameContainer implements Runnable, Killable
     public void kill()
     {
         Log.debug("Killing GameContainer");
-        Null.checkKill(this.currentScene);
         this.loop.kill();
+    }
+
+    /**
+     * Kills the current scene and releases the OpenGL resources and the window of this container.
+     * <p>
+     * This is called on the game loop thread after the loop stopped. If a render thread is running it is stopped first
+     * and the OpenGL context is moved back to the calling thread.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void release()
+    {
+        Log.debug("Releasing GameContainer resources");
+        Null.checkKill(this.currentScene);
+
+        if (this.renderThread != null)
+        {
+            stopRenderThread();
+        }
+
+        ShapeRenderer.kill();
+        Null.checkKill(this.spriteBatch);
+        Null.checkKill(this.instancedRenderer);
+        Null.checkKill(this.shaderManager);
+        Null.checkKill(this.gamepadInput);
+        this.tickWatchdog.kill();
         this.window.kill();
     }
 
@@ -361,13 +1180,31 @@ public class GameContainer implements Runnable, Killable
         createWindow();
         bindSettings();
         setupKeyInput();
+        setupMouseInput();
+        setupGamepadInput();
 
         if (this.loop == null)
         {
             this.loop = createDefaultGameLoop();
         }
 
-        this.loop.run();
+        applyRenderPacing(this.settings.getRenderPacing().get());
+
+        if (this.settings.getThreadedRendering().get())
+        {
+            startRenderThread();
+        }
+
+        try
+        {
+            this.loop.run();
+        }
+        finally
+        {
+            // the loop thread created the window and owns the context again once the render thread stopped
+            release();
+        }
+
         Log.exit();
     }
 
@@ -385,12 +1222,30 @@ public class GameContainer implements Runnable, Killable
     protected GameLoop createDefaultGameLoop()
     {
         GameLoop defaultLoop = new GameLoop(this::tick, this::render);
+        defaultLoop.onRender(this::render);
         defaultLoop.setFrameRate(60);
         defaultLoop.setTickRate(60);
         defaultLoop.setRateChecksPerSecond(2);
+        defaultLoop.setFixedTimestep(this.settings.getFixedTimestep().get());
+        applyRenderDegradation(defaultLoop, this.settings.getRenderDegradation().get());
         return defaultLoop;
     }
 
+    /**
+     * Sets a new {@link RenderDegradation} on the given loop or removes it, depending on the
+     * {@link GameContainerSettings#getRenderDegradation() render degradation} setting.
+     *
+     * @param loop              the loop.
+     * @param renderDegradation true to lower the frame rate while ticks are over budget.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void applyRenderDegradation(GameLoop loop, boolean renderDegradation)
+    {
+        loop.setRenderDegradation(renderDegradation ? new RenderDegradation() : null);
+    }
+
     /**
      * Gets the width of this container in units.
      * <p>
@@ -451,6 +1306,130 @@ public class GameContainer implements Runnable, Killable
         return this.keyInput;
     }
 
+    /**
+     * Gets {@link MouseInput} instance that was setup for this container.
+     * <p>
+     * The returned instance can be used to check pressed mouse buttons, the cursor position and scrolling.
+     *
+     * @return The mouse input instance setup for this container.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public MouseInput getMouseInput()
+    {
+        return this.mouseInput;
+    }
+
+    /**
+     * Gets {@link GamepadInput} instance that was setup for this container.
+     * <p>
+     * The returned instance can be used to check the buttons and axes of the first gamepad.
+     *
+     * @return The gamepad input instance setup for this container.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GamepadInput getGamepadInput()
+    {
+        return this.gamepadInput;
+    }
+
+    /**
+     * Gets the sprite batch of this container.
+     * <p>
+     * Sprites drawn to this batch during a render call are drawn at the end of that render call.
+     * This method returns null prior to the start of the container via {@link #run()}.
+     *
+     * @return the sprite batch or null if the container was not started yet.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public SpriteBatch getSpriteBatch()
+    {
+        return this.spriteBatch;
+    }
+
+    /**
+     * Gets the renderer that draws many copies of the same shape, i.e. particles, with a single draw call.
+     * <p>
+     * In the {@link RenderPipeline#CORE_PROFILE core profile} pipeline this is an instanced draw call, otherwise the
+     * instances are expanded on the CPU. This method returns null prior to the start of the container via {@link #run()}.
+     *
+     * @return the instanced renderer or null if the container was not started yet.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public InstancedRenderer getInstancedRenderer()
+    {
+        return this.instancedRenderer;
+    }
+
+    /**
+     * Gets the interpolation alpha of the current or last render call.
+     * <p>
+     * Render layers and {@link Scene#record(RenderCommandBuffer, boolean) recording} scenes can use this to interpolate
+     * their state the same way as {@link Scene#render(boolean, double)}.
+     *
+     * @return the progress between the last and the next tick from 0 (inclusive) to 1 (exclusive).
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getInterpolationAlpha()
+    {
+        return this.interpolationAlpha;
+    }
+
+    /**
+     * Gets the camera that decides which part of the scene is displayed.
+     * This method returns null prior to the start of the container via {@link #run()}.
+     *
+     * @return the camera or null if the container was not started yet.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public Camera getCamera()
+    {
+        return this.camera;
+    }
+
+    /**
+     * Gets the culler that rejects shapes and sprites outside of the visible area.
+     * <p>
+     * Its counters are reset at the start of every drawn frame, so they hold the numbers of the last frame
+     * until the next frame starts. With threaded rendering they are written by the render thread. This method returns null prior to the start of the container via {@link #run()}.
+     *
+     * @return the culler or null if the container was not started yet.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ViewportCuller getCuller()
+    {
+        return this.culler;
+    }
+
+    /**
+     * Gets the watchdog that measures the phases of every tick.
+     * <p>
+     * Its budget is taken from {@link GameContainerSettings#getTickBudget()}. Ticks that exceed it are logged as a warning with the time of every
+     * phase, see {@link TickWatchdog#onSlowTick(java.util.function.Consumer)} and {@link TickWatchdog#setStackSampling(boolean)}.
+     *
+     * @return the tick watchdog.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TickWatchdog getTickWatchdog()
+    {
+        return this.tickWatchdog;
+    }
+
     /**
      * Returns a set of timer actions that can be extended.
      * <p>
@@ -555,6 +1534,28 @@ public class GameContainer implements Runnable, Killable
         Log.exit();
     }
 
+    /**
+     * Fails if {@link GameContainerSettings#getThreadedRendering() threaded rendering} is enabled and the given scene
+     * is not {@link Scene#isRecording() recording}, since it would only draw in {@link Scene#render(boolean, double) render},
+     * which is never called in that mode.
+     * <p>
+     * This is called by {@link #tick(double)} on the game loop thread before a new scene receives its first tick.
+     *
+     * @param scene the new scene.
+     *
+     * @throws LoadException if the scene would not draw anything.
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void checkRecording(Scene scene) throws LoadException
+    {
+        if (this.settings.getThreadedRendering().get() && !scene.isRecording())
+        {
+            throw new LoadException("Scene " + scene.getClass().getName() + " only draws in render, which is not called "
+                                            + "with threaded rendering. Record its draw commands and mark it as recording instead.");
+        }
+    }
+
     /**
      * Sets the given scene. This kills the current scene if it does not equal the given one.
      *
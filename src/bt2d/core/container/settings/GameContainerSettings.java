@@ -1,12 +1,17 @@
 package bt2d.core.container.settings;
 
 import bt.log.Log;
+import bt2d.core.loop.RenderPacing;
 import bt2d.utils.property.ObservableBiNumberProperty;
 import bt2d.utils.property.ObservableBiProperty;
 import bt2d.utils.property.ObservableNumberProperty;
 import bt2d.utils.property.ObservableProperty;
+import bt2d.utils.render.RenderMode;
+import bt2d.utils.render.RenderPipeline;
 import org.lwjgl.system.Configuration;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * The settings of a game container.
  * <p>
@@ -64,6 +69,56 @@ public class GameContainerSettings
      */
     private ObservableProperty<Boolean> lwjglDebugLogging;
 
+    /**
+     * The mode that is used by the {@link bt2d.utils.render.ShapeRenderer} to submit shapes.
+     */
+    private ObservableProperty<RenderMode> renderMode;
+
+    /**
+     * Indicates whether shapes and sprites outside of the visible area should be skipped before they are drawn.
+     */
+    private ObservableProperty<Boolean> culling;
+
+    /**
+     * The OpenGL pipeline that the container renders with.
+     */
+    private ObservableProperty<RenderPipeline> renderPipeline;
+
+    /**
+     * Indicates whether frames are drawn on a dedicated render thread instead of the game loop thread.
+     */
+    private ObservableProperty<Boolean> threadedRendering;
+
+    /**
+     * Decides what paces the render calls of the game loop.
+     */
+    private ObservableProperty<RenderPacing> renderPacing;
+
+    /**
+     * Indicates whether the game loop is throttled while the window is unfocused or minimized.
+     */
+    private ObservableProperty<Boolean> idleThrottling;
+
+    /**
+     * The tick and frame rate while the game loop is throttled.
+     */
+    private ObservableNumberProperty<Integer> idleRate;
+
+    /**
+     * Indicates whether the game loop runs ticks with a constant delta and passes an interpolation alpha to the render calls.
+     */
+    private ObservableProperty<Boolean> fixedTimestep;
+
+    /**
+     * The maximum duration of a tick in nano seconds before the tick watchdog reports it as slow.
+     */
+    private ObservableNumberProperty<Long> tickBudget;
+
+    /**
+     * Indicates whether the game loop lowers the frame rate while ticks are over budget.
+     */
+    private ObservableProperty<Boolean> renderDegradation;
+
     /**
      * Instantiates a new Game container settings.
      * <p>
@@ -130,6 +185,68 @@ public class GameContainerSettings
             Configuration.DEBUG.set(newValue);
             Log.debug("LWJGLDebugLogging setting changed: {} -> {}", oldValue, newValue);
         });
+
+        this.renderMode = new ObservableProperty<>(RenderMode.IMMEDIATE);
+        this.renderMode.nonNull();
+        this.renderMode.addChangeListener((oldValue, newValue) -> {
+            Log.debug("RenderMode setting changed: {} -> {}", oldValue, newValue);
+        });
+
+        this.culling = new ObservableProperty<>(true);
+        this.culling.nonNull();
+        this.culling.addChangeListener((oldValue, newValue) -> {
+            Log.debug("Culling setting changed: {} -> {}", oldValue, newValue);
+        });
+
+        this.renderPipeline = new ObservableProperty<>(RenderPipeline.FIXED_FUNCTION);
+        this.renderPipeline.nonNull();
+        this.renderPipeline.addChangeListener((oldValue, newValue) -> {
+            Log.debug("RenderPipeline setting changed: {} -> {}", oldValue, newValue);
+        });
+
+        this.threadedRendering = new ObservableProperty<>(false);
+        this.threadedRendering.nonNull();
+        this.threadedRendering.addChangeListener((oldValue, newValue) -> {
+            Log.debug("ThreadedRendering setting changed: {} -> {}", oldValue, newValue);
+        });
+
+        this.renderPacing = new ObservableProperty<>(RenderPacing.INTERNAL);
+        this.renderPacing.nonNull();
+        this.renderPacing.addChangeListener((oldValue, newValue) -> {
+            Log.debug("RenderPacing setting changed: {} -> {}", oldValue, newValue);
+        });
+
+        this.idleThrottling = new ObservableProperty<>(true);
+        this.idleThrottling.nonNull();
+        this.idleThrottling.addChangeListener((oldValue, newValue) -> {
+            Log.debug("IdleThrottling setting changed: {} -> {}", oldValue, newValue);
+        });
+
+        this.idleRate = new ObservableNumberProperty<>(10);
+        this.idleRate.nonNull();
+        this.idleRate.range(1, Integer.MAX_VALUE);
+        this.idleRate.addChangeListener((oldValue, newValue) -> {
+            Log.debug("IdleRate setting changed: {} -> {}", oldValue, newValue);
+        });
+
+        this.fixedTimestep = new ObservableProperty<>(false);
+        this.fixedTimestep.nonNull();
+        this.fixedTimestep.addChangeListener((oldValue, newValue) -> {
+            Log.debug("FixedTimestep setting changed: {} -> {}", oldValue, newValue);
+        });
+
+        this.tickBudget = new ObservableNumberProperty<>(TimeUnit.SECONDS.toNanos(1) / 60);
+        this.tickBudget.nonNull();
+        this.tickBudget.min(1L);
+        this.tickBudget.addChangeListener((oldValue, newValue) -> {
+            Log.debug("TickBudget setting changed: {} -> {}", oldValue, newValue);
+        });
+
+        this.renderDegradation = new ObservableProperty<>(false);
+        this.renderDegradation.nonNull();
+        this.renderDegradation.addChangeListener((oldValue, newValue) -> {
+            Log.debug("RenderDegradation setting changed: {} -> {}", oldValue, newValue);
+        });
     }
 
     /**
@@ -402,4 +519,324 @@ public class GameContainerSettings
         this.lwjglDebugLogging.set(debugLogging);
         return this;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the mode that is used by the {@link bt2d.utils.render.ShapeRenderer} to submit shapes.
+     *
+     * @return the render mode property.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ObservableProperty<RenderMode> getRenderMode()
+    {
+        return this.renderMode;
+    }
+
+    /**
+     * Sets the mode that is used by the {@link bt2d.utils.render.ShapeRenderer} to submit shapes.
+     * <p>
+     * {@link RenderMode#IMMEDIATE} is the default and draws every shape right away. {@link RenderMode#BATCHED} draws
+     * all filled shapes and then all lines at the end of the frame, so shapes are no longer drawn in call order
+     * relative to each other or to other draw calls of the scene.
+     *
+     * @param renderMode the render mode. Cant be null.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameContainerSettings setRenderMode(RenderMode renderMode)
+    {
+        this.renderMode.set(renderMode);
+        return this;
+    }
+
+    /**
+     * Gets the culling setting.
+     *
+     * @return the property indicating whether shapes and sprites outside of the visible area are skipped.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ObservableProperty<Boolean> getCulling()
+    {
+        return this.culling;
+    }
+
+    /**
+     * Sets whether shapes and sprites outside of the visible area should be skipped before they are drawn.
+     *
+     * @param culling true to skip invisible primitives, false to draw everything.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameContainerSettings setCulling(boolean culling)
+    {
+        this.culling.set(culling);
+        return this;
+    }
+
+    /**
+     * Gets the render pipeline setting.
+     *
+     * @return the property of the OpenGL pipeline that the container renders with.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ObservableProperty<RenderPipeline> getRenderPipeline()
+    {
+        return this.renderPipeline;
+    }
+
+    /**
+     * Sets the OpenGL pipeline that the container renders with.
+     * <p>
+     * The pipeline decides which kind of context is created, so this can not be changed after the window was created.
+     * {@link RenderPipeline#CORE_PROFILE} always draws shapes {@link RenderMode#BATCHED batched}.
+     *
+     * @param renderPipeline the render pipeline. Cant be null.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameContainerSettings setRenderPipeline(RenderPipeline renderPipeline)
+    {
+        this.renderPipeline.set(renderPipeline);
+        return this;
+    }
+
+    /**
+     * Gets the threaded rendering setting.
+     *
+     * @return the property indicating whether frames are drawn on a dedicated render thread.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ObservableProperty<Boolean> getThreadedRendering()
+    {
+        return this.threadedRendering;
+    }
+
+    /**
+     * Sets whether frames are drawn on a dedicated render thread.
+     * <p>
+     * If enabled the game loop only records the draw commands of a frame and hands them to the render thread, which
+     * owns the OpenGL context from then on. The direct {@link bt2d.core.scene.Scene#render(boolean) render} call of
+     * scenes is skipped in this mode, so scenes have to draw through recorded commands.
+     * This can not be changed after the window was created.
+     *
+     * @param threadedRendering true to draw on a dedicated render thread, false to draw on the game loop thread.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameContainerSettings setThreadedRendering(boolean threadedRendering)
+    {
+        this.threadedRendering.set(threadedRendering);
+        return this;
+    }
+
+    /**
+     * Gets the render pacing setting.
+     *
+     * @return the property of what paces the render calls of the game loop.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ObservableProperty<RenderPacing> getRenderPacing()
+    {
+        return this.renderPacing;
+    }
+
+    /**
+     * Sets what paces the render calls of the game loop. This can be changed while the game is running.
+     * <p>
+     * {@link RenderPacing#VSYNC} enables the swap interval of the window, the other modes disable it.
+     *
+     * @param renderPacing the render pacing. Cant be null.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameContainerSettings setRenderPacing(RenderPacing renderPacing)
+    {
+        this.renderPacing.set(renderPacing);
+        return this;
+    }
+
+    /**
+     * Gets the idle throttling setting.
+     *
+     * @return the property indicating whether the game loop is throttled while the window is unfocused or minimized.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ObservableProperty<Boolean> getIdleThrottling()
+    {
+        return this.idleThrottling;
+    }
+
+    /**
+     * Sets whether the game loop is throttled while the window is unfocused or minimized.
+     * <p>
+     * While throttled the loop ticks and renders at the {@link #getIdleRate() idle rate} and waits in the event queue
+     * of the window instead of spinning. While the window is minimized rendering is skipped entirely.
+     *
+     * @param idleThrottling true to throttle idle windows.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameContainerSettings setIdleThrottling(boolean idleThrottling)
+    {
+        this.idleThrottling.set(idleThrottling);
+        return this;
+    }
+
+    /**
+     * Gets the idle rate setting.
+     *
+     * @return the property of the tick and frame rate while the game loop is throttled.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ObservableNumberProperty<Integer> getIdleRate()
+    {
+        return this.idleRate;
+    }
+
+    /**
+     * Sets the tick and frame rate while the game loop is throttled. Rates that are already lower are kept.
+     * <p>
+     * A change takes effect the next time the window becomes idle.
+     *
+     * @param idleRate the rate per second. Has to be at least 1.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameContainerSettings setIdleRate(int idleRate)
+    {
+        this.idleRate.set(idleRate);
+        return this;
+    }
+
+    /**
+     * Gets the fixed timestep setting.
+     *
+     * @return the property indicating whether the game loop runs ticks with a constant delta.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ObservableProperty<Boolean> getFixedTimestep()
+    {
+        return this.fixedTimestep;
+    }
+
+    /**
+     * Sets whether the game loop runs ticks with a constant delta of 1 / tick rate seconds.
+     * <p>
+     * In fixed timestep mode scenes receive the progress between the last and the next tick in
+     * {@link bt2d.core.scene.Scene#render(boolean, double)} to interpolate their state. This is applied to the default
+     * game loop and to any loop while the container is running, a loop set via
+     * {@link bt2d.core.container.GameContainer#setGameLoop(bt2d.core.loop.GameLoop) setGameLoop} keeps its own mode until
+     * the setting changes.
+     *
+     * @param fixedTimestep true to run ticks with a constant delta.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameContainerSettings setFixedTimestep(boolean fixedTimestep)
+    {
+        this.fixedTimestep.set(fixedTimestep);
+        return this;
+    }
+
+    /**
+     * Gets the tick budget setting.
+     *
+     * @return the property of the maximum duration of a tick in nano seconds before it is reported as slow.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ObservableNumberProperty<Long> getTickBudget()
+    {
+        return this.tickBudget;
+    }
+
+    /**
+     * Sets the maximum duration of a tick before the tick watchdog of the container reports it as slow.
+     * <p>
+     * Defaults to one sixtieth of a second. Games that tick faster than that should lower it accordingly.
+     *
+     * @param tickBudget the budget in nano seconds. Has to be above 0.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameContainerSettings setTickBudget(long tickBudget)
+    {
+        this.tickBudget.set(tickBudget);
+        return this;
+    }
+
+    /**
+     * Gets the render degradation setting.
+     *
+     * @return the property indicating whether the game loop lowers the frame rate while ticks are over budget.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ObservableProperty<Boolean> getRenderDegradation()
+    {
+        return this.renderDegradation;
+    }
+
+    /**
+     * Sets whether the game loop lowers the frame rate while ticks are over budget, to leave the time to the ticks.
+     * <p>
+     * Disabled by default. When enabled the game loop uses a {@link bt2d.core.loop.rate.RenderDegradation} with its
+     * default thresholds. This is applied to the default game loop and to any loop while the container is running.
+     *
+     * @param renderDegradation true to lower the frame rate while ticks are over budget.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameContainerSettings setRenderDegradation(boolean renderDegradation)
+    {
+        this.renderDegradation.set(renderDegradation);
+        return this;
+    }
+}
@@ -0,0 +1,274 @@
+package bt2d.core.input;
+
+import bt2d.core.input.key.Key;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * The statuses of a fixed range of keys or buttons, indexed by their GLFW code, and the logic that applies the events
+ * of an {@link InputEventRing} to them once per tick.
+ * <p>
+ * A code is {@link Key#KEY_JUST_DOWN just down} for one tick after it was pressed, {@link Key#KEY_DOWN down} while it
+ * is held and {@link Key#KEY_RELEASED released} for one tick after it was let go. Every code changes its status at
+ * most once per {@link #update(InputEventRing)}, so a press and release within the same tick are both visible for one
+ * tick each instead of the press being lost.
+ * <p>
+ * Codes outside of 0 to count - 1, i.e. {@link GLFW#GLFW_KEY_UNKNOWN}, are ignored.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ButtonStates
+{
+    /**
+     * The status of every code, i.e. {@link Key#KEY_DOWN}.
+     */
+    private final int[] status;
+
+    /**
+     * The mods of the last status change of every code.
+     */
+    private final int[] mods;
+
+    /**
+     * The nano time of the last event that changed the status of a code.
+     */
+    private final long[] timestamps;
+
+    /**
+     * The codes that are {@link Key#KEY_JUST_DOWN just down} or {@link Key#KEY_RELEASED released} and change their
+     * status during the next {@link #update(InputEventRing)}.
+     */
+    private final int[] transitional;
+
+    /**
+     * The number of valid entries in {@link #transitional}.
+     */
+    private int transitionalCount;
+
+    /**
+     * Indicates for every code whether its status changed during the current {@link #update(InputEventRing)}.
+     */
+    private final boolean[] changed;
+
+    /**
+     * Instantiates a new ButtonStates where every code is {@link Key#KEY_NOT_DOWN not down}.
+     *
+     * @param count the number of supported codes.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ButtonStates(int count)
+    {
+        this.status = new int[count];
+        this.mods = new int[count];
+        this.timestamps = new long[count];
+        this.transitional = new int[count];
+        this.changed = new boolean[count];
+    }
+
+    /**
+     * Applies the events of the given ring.
+     * <p>
+     * First this changes 'recently released' to 'not down' and 'just down' to 'down'. After that the received events are
+     * applied in the order they arrived. Events for a code that already changed its status during this call are kept
+     * in the ring for the next call, together with all events after them.
+     *
+     * @param events the events received since the last call.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void update(InputEventRing events)
+    {
+        // only codes that changed during the last update can be 'just down' or 'released'
+        for (int i = 0; i < this.transitionalCount; i++)
+        {
+            int code = this.transitional[i];
+
+            if (this.status[code] == Key.KEY_RELEASED)
+            {
+                this.status[code] = Key.KEY_NOT_DOWN;
+            }
+            else if (this.status[code] == Key.KEY_JUST_DOWN)
+            {
+                this.status[code] = Key.KEY_DOWN;
+            }
+        }
+
+        this.transitionalCount = 0;
+
+        // apply the received events in order, at most one status change per code and tick
+        while (events.hasNext())
+        {
+            int code = events.key();
+
+            if (isValid(code))
+            {
+                int eventMods = events.mods();
+                int newStatus;
+
+                if (events.action() == GLFW.GLFW_RELEASE)
+                {
+                    newStatus = Key.KEY_RELEASED;
+                }
+                else
+                {
+                    // repeated presses of a held code dont change anything
+                    newStatus = isDown(code, eventMods) ? -1 : Key.KEY_JUST_DOWN;
+                }
+
+                if (newStatus != -1)
+                {
+                    // the code already changed during this tick, keep this and all later events for the next tick
+                    if (this.changed[code])
+                    {
+                        break;
+                    }
+
+                    this.status[code] = newStatus;
+                    this.mods[code] = eventMods;
+                    this.timestamps[code] = events.timestamp();
+                    this.changed[code] = true;
+
+                    // every applied status is either 'just down' or 'released'
+                    this.transitional[this.transitionalCount++] = code;
+                }
+            }
+
+            events.remove();
+        }
+
+        for (int i = 0; i < this.transitionalCount; i++)
+        {
+            this.changed[this.transitional[i]] = false;
+        }
+    }
+
+    /**
+     * Indicates whether a code + mods combination is just now being pressed.
+     *
+     * @param code the key or button code.
+     * @param mods the bitmask of the mods.
+     *
+     * @return true if the combination was pressed during the last update.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isJustDown(int code, int mods)
+    {
+        return isValid(code)
+                && this.status[code] == Key.KEY_JUST_DOWN
+                && this.mods[code] == mods;
+    }
+
+    /**
+     * Indicates whether a code + mods combination is currently being pressed.
+     *
+     * @param code the key or button code.
+     * @param mods the bitmask of the mods.
+     *
+     * @return true if the combination is pressed, regardless of how long.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isDown(int code, int mods)
+    {
+        return isValid(code)
+                && (this.status[code] == Key.KEY_DOWN || this.status[code] == Key.KEY_JUST_DOWN)
+                && this.mods[code] == mods;
+    }
+
+    /**
+     * Indicates whether a code + mods combination was released during the last update.
+     *
+     * @param code the key or button code.
+     * @param mods the bitmask of the mods.
+     *
+     * @return true if the combination was released during the last update.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isReleased(int code, int mods)
+    {
+        return isValid(code)
+                && this.status[code] == Key.KEY_RELEASED
+                && this.mods[code] == mods;
+    }
+
+    /**
+     * Gets the mods that were pressed together with the last status change of the given code.
+     *
+     * @param code the key or button code.
+     *
+     * @return the bitmask of the mods, 0 for invalid codes.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getMods(int code)
+    {
+        return isValid(code) ? this.mods[code] : 0;
+    }
+
+    /**
+     * Gets the time at which the current status of the given code was caused.
+     *
+     * @param code the key or button code.
+     *
+     * @return the nano time of the event that led to the current status, 0 if the code was never pressed.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getTimestamp(int code)
+    {
+        return isValid(code) ? this.timestamps[code] : 0;
+    }
+
+    /**
+     * Gets the number of codes that changed their status during the last {@link #update(InputEventRing)}.
+     *
+     * @return the changed code count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getChangedCount()
+    {
+        return this.transitionalCount;
+    }
+
+    /**
+     * Gets a code that changed its status during the last {@link #update(InputEventRing)}.
+     *
+     * @param index the index from 0 to {@link #getChangedCount()} (exclusive).
+     *
+     * @return the code
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getChanged(int index)
+    {
+        return this.transitional[index];
+    }
+
+    /**
+     * Indicates whether the given code is within the range of supported codes.
+     *
+     * @param code the key or button code.
+     *
+     * @return true if the code is tracked by this instance.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isValid(int code)
+    {
+        return code >= 0 && code < this.status.length;
+    }
+}
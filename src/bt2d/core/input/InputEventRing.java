@@ -0,0 +1,258 @@
+package bt2d.core.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free ring buffer of input events that is written by exactly one thread, the GLFW callbacks, and read by
+ * exactly one thread, the tick.
+ * <p>
+ * Every event consists of a key or button code, a scancode, an action, mods and a nano time stamp. The events are
+ * stored in parallel primitive arrays, so neither writing nor reading creates any objects. The reader looks at the
+ * oldest event via {@link #key()}, {@link #action()} etc. and consumes it via {@link #remove()}, which allows it to
+ * leave events in the buffer for a later tick.
+ * <p>
+ * If the buffer is full new events are dropped and counted, see {@link #getDroppedCount()}.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class InputEventRing
+{
+    /**
+     * The default number of events that the buffer can hold.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The capacity - 1, used to wrap indices. The capacity is a power of two.
+     */
+    protected final int mask;
+
+    /**
+     * The key or button codes of the events.
+     */
+    protected final int[] keys;
+
+    /**
+     * The scancodes of the events.
+     */
+    protected final int[] scancodes;
+
+    /**
+     * The actions of the events, i.e. {@link org.lwjgl.glfw.GLFW#GLFW_PRESS GLFW_PRESS}.
+     */
+    protected final int[] actions;
+
+    /**
+     * The mods of the events.
+     */
+    protected final int[] mods;
+
+    /**
+     * The nano times at which the events were received.
+     */
+    protected final long[] timestamps;
+
+    /**
+     * The index of the next event to read. Only written by the reader.
+     */
+    protected final AtomicLong head = new AtomicLong();
+
+    /**
+     * The index of the next event to write. Only written by the writer.
+     */
+    protected final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The number of events that were dropped because the buffer was full.
+     */
+    protected volatile long droppedCount;
+
+    /**
+     * Instantiates a new InputEventRing with the {@link #DEFAULT_CAPACITY default capacity}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public InputEventRing()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new InputEventRing.
+     *
+     * @param capacity the number of events that the buffer can hold. Is rounded up to the next power of two.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public InputEventRing(int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("capacity has to be above 0");
+        }
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        size = Math.max(size, 1);
+        this.mask = size - 1;
+        this.keys = new int[size];
+        this.scancodes = new int[size];
+        this.actions = new int[size];
+        this.mods = new int[size];
+        this.timestamps = new long[size];
+    }
+
+    /**
+     * Adds an event. Must only be called by the writing thread.
+     *
+     * @param key       the key or button code.
+     * @param scancode  the scancode
+     * @param action    the action
+     * @param mods      the mods
+     * @param timestamp the nano time at which the event was received.
+     *
+     * @return true if the event was added, false if it was dropped because the buffer is full.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean offer(int key, int scancode, int action, int mods, long timestamp)
+    {
+        long tail = this.tail.get();
+
+        if (tail - this.head.getAcquire() > this.mask)
+        {
+            this.droppedCount++;
+            return false;
+        }
+
+        int index = (int)tail & this.mask;
+        this.keys[index] = key;
+        this.scancodes[index] = scancode;
+        this.actions[index] = action;
+        this.mods[index] = mods;
+        this.timestamps[index] = timestamp;
+
+        // publishes the event data written above to the reader
+        this.tail.setRelease(tail + 1);
+        return true;
+    }
+
+    /**
+     * Indicates whether there is an event to read. Must only be called by the reading thread.
+     *
+     * @return true if {@link #key()} and the other accessors refer to an event.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean hasNext()
+    {
+        return this.head.get() != this.tail.getAcquire();
+    }
+
+    /**
+     * Consumes the oldest event. Must only be called by the reading thread after {@link #hasNext()} returned true.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void remove()
+    {
+        // frees the slot for the writer after its data was read
+        this.head.setRelease(this.head.get() + 1);
+    }
+
+    /**
+     * Gets the key or button code of the oldest event.
+     *
+     * @return the code
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int key()
+    {
+        return this.keys[headIndex()];
+    }
+
+    /**
+     * Gets the scancode of the oldest event.
+     *
+     * @return the scancode
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int scancode()
+    {
+        return this.scancodes[headIndex()];
+    }
+
+    /**
+     * Gets the action of the oldest event.
+     *
+     * @return the action
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int action()
+    {
+        return this.actions[headIndex()];
+    }
+
+    /**
+     * Gets the mods of the oldest event.
+     *
+     * @return the mods
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int mods()
+    {
+        return this.mods[headIndex()];
+    }
+
+    /**
+     * Gets the time stamp of the oldest event.
+     *
+     * @return the nano time at which the event was received.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long timestamp()
+    {
+        return this.timestamps[headIndex()];
+    }
+
+    /**
+     * Gets the array index of the oldest event.
+     *
+     * @return the index
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected int headIndex()
+    {
+        return (int)this.head.get() & this.mask;
+    }
+
+    /**
+     * Gets the number of events that were dropped because the buffer was full.
+     *
+     * @return the dropped count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getDroppedCount()
+    {
+        return this.droppedCount;
+    }
+}
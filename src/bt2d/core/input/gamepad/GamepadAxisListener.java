@@ -0,0 +1,22 @@
+package bt2d.core.input.gamepad;
+
+/**
+ * Is notified by a {@link GamepadInput} when the value of a gamepad axis changed.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface GamepadAxisListener
+{
+    /**
+     * Called when the value of an axis changed after the dead zones were applied.
+     *
+     * @param axis  the GLFW gamepad axis, i.e. {@link org.lwjgl.glfw.GLFW#GLFW_GAMEPAD_AXIS_LEFT_X GLFW_GAMEPAD_AXIS_LEFT_X}.
+     * @param value the new value
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    void onAxisChange(int axis, float value);
+}
@@ -0,0 +1,23 @@
+package bt2d.core.input.gamepad;
+
+/**
+ * Is notified by a {@link GamepadInput} when the status of a gamepad button changed.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface GamepadButtonListener
+{
+    /**
+     * Called when a button was just pressed or released.
+     *
+     * @param button the GLFW gamepad button, i.e. {@link org.lwjgl.glfw.GLFW#GLFW_GAMEPAD_BUTTON_A GLFW_GAMEPAD_BUTTON_A}.
+     * @param status the new status, {@link bt2d.core.input.key.Key#KEY_JUST_DOWN KEY_JUST_DOWN} or
+     *               {@link bt2d.core.input.key.Key#KEY_RELEASED KEY_RELEASED}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    void onButtonChange(int button, int status);
+}
@@ -0,0 +1,511 @@
+package bt2d.core.input.gamepad;
+
+import bt.log.Log;
+import bt.types.Killable;
+import bt2d.core.input.key.Key;
+import org.lwjgl.glfw.GLFW;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Polls the state of a single gamepad once per tick and detects changes.
+ * <p>
+ * Gamepad buttons have the same statuses as keys of a {@link bt2d.core.input.key.KeyInput KeyInput}: a button is
+ * {@link Key#KEY_JUST_DOWN just down} for one tick after it was pressed, {@link Key#KEY_DOWN down} while it is held
+ * and {@link Key#KEY_RELEASED released} for one tick after it was let go.
+ * <p>
+ * The sticks use a radial dead zone, values inside of it are reported as 0 and values outside of it are rescaled so
+ * that they still cover the full range. The triggers rest at -1 and use a dead zone near that resting value.
+ * Listeners are only notified about buttons and axes that actually changed, so noise inside the dead zones does not
+ * reach them.
+ * <p>
+ * The state is read from a {@link GamepadStateSource} into arrays that are allocated once, so polling does not create
+ * any objects. A disconnected gamepad reports all buttons as released and all axes at rest.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class GamepadInput implements Killable
+{
+    /**
+     * The number of gamepad buttons.
+     */
+    protected static final int BUTTON_COUNT = GLFW.GLFW_GAMEPAD_BUTTON_LAST + 1;
+
+    /**
+     * The number of gamepad axes.
+     */
+    protected static final int AXIS_COUNT = GLFW.GLFW_GAMEPAD_AXIS_LAST + 1;
+
+    /**
+     * The id of the polled gamepad.
+     */
+    private final int gamepad;
+
+    /**
+     * The source of the gamepad state.
+     */
+    private final GamepadStateSource source;
+
+    /**
+     * The button states of the latest read.
+     */
+    private final byte[] rawButtons;
+
+    /**
+     * The unfiltered axis values of the latest read.
+     */
+    private final float[] rawAxes;
+
+    /**
+     * The status of every button, i.e. {@link Key#KEY_DOWN}.
+     */
+    private final int[] buttonStatus;
+
+    /**
+     * The axis values of the current tick after the dead zones were applied.
+     */
+    private final float[] axes;
+
+    /**
+     * The listeners that are notified about button changes.
+     */
+    private final List<GamepadButtonListener> buttonListeners;
+
+    /**
+     * The listeners that are notified about axis changes.
+     */
+    private final List<GamepadAxisListener> axisListeners;
+
+    /**
+     * The radial dead zone of the sticks.
+     */
+    private float stickDeadZone;
+
+    /**
+     * The dead zone of the triggers as a fraction of their range.
+     */
+    private float triggerDeadZone;
+
+    /**
+     * Indicates whether the gamepad was connected during the current tick.
+     */
+    private boolean connected;
+
+    /**
+     * Instantiates a new GamepadInput that reads the state of the given gamepad from GLFW.
+     *
+     * @param gamepad the id of the gamepad, i.e. {@link GLFW#GLFW_JOYSTICK_1}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GamepadInput(int gamepad)
+    {
+        this(gamepad, new GlfwGamepadStateSource());
+    }
+
+    /**
+     * Instantiates a new GamepadInput that reads the state of the given gamepad from the given source.
+     *
+     * @param gamepad the id of the gamepad, i.e. {@link GLFW#GLFW_JOYSTICK_1}.
+     * @param source  the source of the state.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GamepadInput(int gamepad, GamepadStateSource source)
+    {
+        this.gamepad = gamepad;
+        this.source = Objects.requireNonNull(source, "source cant be null");
+        this.rawButtons = new byte[BUTTON_COUNT];
+        this.rawAxes = new float[AXIS_COUNT];
+        this.buttonStatus = new int[BUTTON_COUNT];
+        this.axes = new float[AXIS_COUNT];
+        this.buttonListeners = new ArrayList<>();
+        this.axisListeners = new ArrayList<>();
+        this.stickDeadZone = 0.15f;
+        this.triggerDeadZone = 0.05f;
+        resetAxes(this.axes);
+    }
+
+    /**
+     * Indicates whether a button is just now being pressed. This state does not last longer than one tick.
+     *
+     * @param button the GLFW gamepad button, i.e. {@link GLFW#GLFW_GAMEPAD_BUTTON_A}.
+     *
+     * @return true if the button was just pressed.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isButtonJustDown(int button)
+    {
+        return isValidButton(button) && this.buttonStatus[button] == Key.KEY_JUST_DOWN;
+    }
+
+    /**
+     * Indicates whether a button is currently pressed.
+     *
+     * @param button the GLFW gamepad button, i.e. {@link GLFW#GLFW_GAMEPAD_BUTTON_A}.
+     *
+     * @return true if the button is pressed, regardless of how long.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isButtonDown(int button)
+    {
+        return isValidButton(button)
+                && (this.buttonStatus[button] == Key.KEY_DOWN || this.buttonStatus[button] == Key.KEY_JUST_DOWN);
+    }
+
+    /**
+     * Indicates whether a button was recently pressed and is now released.
+     *
+     * @param button the GLFW gamepad button, i.e. {@link GLFW#GLFW_GAMEPAD_BUTTON_A}.
+     *
+     * @return true if the button has been pressed somewhere in the past and was released during the last tick.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isButtonReleased(int button)
+    {
+        return isValidButton(button) && this.buttonStatus[button] == Key.KEY_RELEASED;
+    }
+
+    /**
+     * Gets the value of an axis after the dead zones were applied.
+     *
+     * @param axis the GLFW gamepad axis, i.e. {@link GLFW#GLFW_GAMEPAD_AXIS_LEFT_X}.
+     *
+     * @return the value from -1 to 1, 0 for invalid axes.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public float getAxis(int axis)
+    {
+        return axis >= 0 && axis < AXIS_COUNT ? this.axes[axis] : 0;
+    }
+
+    /**
+     * Indicates whether the gamepad was connected during the current tick.
+     *
+     * @return true if connected
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isConnected()
+    {
+        return this.connected;
+    }
+
+    /**
+     * Gets the id of the polled gamepad.
+     *
+     * @return the gamepad id
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getGamepad()
+    {
+        return this.gamepad;
+    }
+
+    /**
+     * Sets the radial dead zone of both sticks.
+     *
+     * @param deadZone the dead zone from 0 (inclusive) to 1 (exclusive).
+     *
+     * @return this instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GamepadInput setStickDeadZone(float deadZone)
+    {
+        this.stickDeadZone = checkDeadZone(deadZone);
+        return this;
+    }
+
+    /**
+     * Gets the radial dead zone of both sticks.
+     *
+     * @return the stick dead zone
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public float getStickDeadZone()
+    {
+        return this.stickDeadZone;
+    }
+
+    /**
+     * Sets the dead zone of both triggers as a fraction of their range.
+     *
+     * @param deadZone the dead zone from 0 (inclusive) to 1 (exclusive).
+     *
+     * @return this instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GamepadInput setTriggerDeadZone(float deadZone)
+    {
+        this.triggerDeadZone = checkDeadZone(deadZone);
+        return this;
+    }
+
+    /**
+     * Gets the dead zone of both triggers.
+     *
+     * @return the trigger dead zone
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public float getTriggerDeadZone()
+    {
+        return this.triggerDeadZone;
+    }
+
+    /**
+     * Adds a listener that is notified during {@link #checkGamepadChanges()} whenever a button was just pressed or
+     * released.
+     *
+     * @param listener the listener
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void onButtonChange(GamepadButtonListener listener)
+    {
+        this.buttonListeners.add(Objects.requireNonNull(listener, "listener cant be null"));
+    }
+
+    /**
+     * Adds a listener that is notified during {@link #checkGamepadChanges()} whenever the filtered value of an axis
+     * changed.
+     *
+     * @param listener the listener
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void onAxisChange(GamepadAxisListener listener)
+    {
+        this.axisListeners.add(Objects.requireNonNull(listener, "listener cant be null"));
+    }
+
+    /**
+     * Polls the state of the gamepad and updates the button statuses and axis values.
+     * <p>
+     * First 'recently released' buttons change to 'not down' and 'just down' buttons to 'down'. Then the new state is
+     * compared to the current one and the listeners are notified about every button and axis that changed.
+     * <p>
+     * This method should be called exactly once per tick.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void checkGamepadChanges()
+    {
+        for (int button = 0; button < BUTTON_COUNT; button++)
+        {
+            if (this.buttonStatus[button] == Key.KEY_RELEASED)
+            {
+                this.buttonStatus[button] = Key.KEY_NOT_DOWN;
+            }
+            else if (this.buttonStatus[button] == Key.KEY_JUST_DOWN)
+            {
+                this.buttonStatus[button] = Key.KEY_DOWN;
+            }
+        }
+
+        boolean connected = this.source.read(this.gamepad, this.rawButtons, this.rawAxes);
+
+        if (!connected)
+        {
+            Arrays.fill(this.rawButtons, (byte)GLFW.GLFW_RELEASE);
+            resetAxes(this.rawAxes);
+        }
+
+        if (connected != this.connected)
+        {
+            this.connected = connected;
+            Log.debug("Gamepad {} {}", this.gamepad, connected ? "connected" : "disconnected");
+        }
+
+        for (int button = 0; button < BUTTON_COUNT; button++)
+        {
+            boolean pressed = this.rawButtons[button] == GLFW.GLFW_PRESS;
+
+            if (pressed != isButtonDown(button))
+            {
+                this.buttonStatus[button] = pressed ? Key.KEY_JUST_DOWN : Key.KEY_RELEASED;
+
+                for (int i = 0; i < this.buttonListeners.size(); i++)
+                {
+                    this.buttonListeners.get(i).onButtonChange(button, this.buttonStatus[button]);
+                }
+            }
+        }
+
+        updateStick(GLFW.GLFW_GAMEPAD_AXIS_LEFT_X, GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y);
+        updateStick(GLFW.GLFW_GAMEPAD_AXIS_RIGHT_X, GLFW.GLFW_GAMEPAD_AXIS_RIGHT_Y);
+        updateTrigger(GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER);
+        updateTrigger(GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER);
+    }
+
+    /**
+     * Applies the radial dead zone to the raw values of a stick and updates both of its axes.
+     *
+     * @param axisX the axis of the horizontal component.
+     * @param axisY the axis of the vertical component.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void updateStick(int axisX, int axisY)
+    {
+        float x = this.rawAxes[axisX];
+        float y = this.rawAxes[axisY];
+        float magnitude = (float)Math.sqrt(x * x + y * y);
+
+        if (magnitude <= this.stickDeadZone)
+        {
+            x = 0;
+            y = 0;
+        }
+        else
+        {
+            // rescale so that the edge of the dead zone maps to 0 and the full deflection still reaches 1
+            float scale = (Math.min(magnitude, 1) - this.stickDeadZone) / (1 - this.stickDeadZone) / magnitude;
+            x *= scale;
+            y *= scale;
+        }
+
+        updateAxis(axisX, x);
+        updateAxis(axisY, y);
+    }
+
+    /**
+     * Applies the dead zone to the raw value of a trigger and updates its axis.
+     *
+     * @param axis the axis of the trigger.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void updateTrigger(int axis)
+    {
+        // triggers rest at -1, so the dead zone is measured from there
+        float pressure = (this.rawAxes[axis] + 1) / 2;
+
+        if (pressure <= this.triggerDeadZone)
+        {
+            pressure = 0;
+        }
+        else
+        {
+            pressure = (Math.min(pressure, 1) - this.triggerDeadZone) / (1 - this.triggerDeadZone);
+        }
+
+        updateAxis(axis, pressure * 2 - 1);
+    }
+
+    /**
+     * Sets the filtered value of an axis and notifies the listeners if it changed.
+     *
+     * @param axis  the axis
+     * @param value the filtered value
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void updateAxis(int axis, float value)
+    {
+        if (this.axes[axis] != value)
+        {
+            this.axes[axis] = value;
+
+            for (int i = 0; i < this.axisListeners.size(); i++)
+            {
+                this.axisListeners.get(i).onAxisChange(axis, value);
+            }
+        }
+    }
+
+    /**
+     * Sets the given axis values to the resting position, 0 for sticks and -1 for triggers.
+     *
+     * @param values the values indexed by axis.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private static void resetAxes(float[] values)
+    {
+        Arrays.fill(values, 0);
+        values[GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER] = -1;
+        values[GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER] = -1;
+    }
+
+    /**
+     * Indicates whether the given button can be stored by this input.
+     *
+     * @param button the button
+     *
+     * @return true if the button is between 0 and {@link GLFW#GLFW_GAMEPAD_BUTTON_LAST}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected static boolean isValidButton(int button)
+    {
+        return button >= 0 && button < BUTTON_COUNT;
+    }
+
+    /**
+     * Checks that the given dead zone is within its range.
+     *
+     * @param deadZone the dead zone
+     *
+     * @return the given dead zone
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private static float checkDeadZone(float deadZone)
+    {
+        if (deadZone < 0 || deadZone >= 1)
+        {
+            throw new IllegalArgumentException("Dead zone has to be at least 0 and below 1");
+        }
+
+        return deadZone;
+    }
+
+    /**
+     * Frees the source of the gamepad state if it holds native resources.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        if (this.source instanceof Killable killable)
+        {
+            killable.kill();
+        }
+    }
+}
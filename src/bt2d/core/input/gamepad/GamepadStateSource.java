@@ -0,0 +1,31 @@
+package bt2d.core.input.gamepad;
+
+/**
+ * Provides the current state of a gamepad to a {@link GamepadInput}.
+ * <p>
+ * The default source reads the state from GLFW, see {@link GlfwGamepadStateSource}. Other sources can feed recorded
+ * or generated snapshots, i.e. to replay input or to check the change detection without a physical device.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface GamepadStateSource
+{
+    /**
+     * Writes the current state of the given gamepad into the given arrays.
+     * <p>
+     * This is called once per tick and should not allocate.
+     *
+     * @param gamepad the id of the gamepad, i.e. {@link org.lwjgl.glfw.GLFW#GLFW_JOYSTICK_1 GLFW_JOYSTICK_1}.
+     * @param buttons the array to write the button states to, {@link org.lwjgl.glfw.GLFW#GLFW_PRESS GLFW_PRESS} or
+     *                {@link org.lwjgl.glfw.GLFW#GLFW_RELEASE GLFW_RELEASE} indexed by the GLFW gamepad button.
+     * @param axes    the array to write the unfiltered axis values to, indexed by the GLFW gamepad axis.
+     *
+     * @return true if the gamepad is connected and the arrays were written, false otherwise.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    boolean read(int gamepad, byte[] buttons, float[] axes);
+}
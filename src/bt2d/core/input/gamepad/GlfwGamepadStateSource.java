@@ -0,0 +1,64 @@
+package bt2d.core.input.gamepad;
+
+import bt.types.Killable;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+
+/**
+ * A {@link GamepadStateSource} that reads the state via {@link GLFW#glfwGetGamepadState(int, GLFWGamepadState)}.
+ * <p>
+ * The native state struct is allocated once and reused for every read. It has to be freed via {@link #kill()}.
+ * Like all GLFW joystick functions, {@link #read(int, byte[], float[])} has to be called from the main thread.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class GlfwGamepadStateSource implements GamepadStateSource, Killable
+{
+    /**
+     * The reused native state.
+     */
+    private GLFWGamepadState state;
+
+    /**
+     * Instantiates a new GlfwGamepadStateSource.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GlfwGamepadStateSource()
+    {
+        this.state = GLFWGamepadState.calloc();
+    }
+
+    @Override
+    public boolean read(int gamepad, byte[] buttons, float[] axes)
+    {
+        if (this.state == null || !GLFW.glfwJoystickIsGamepad(gamepad) || !GLFW.glfwGetGamepadState(gamepad, this.state))
+        {
+            return false;
+        }
+
+        for (int i = 0; i < buttons.length; i++)
+        {
+            buttons[i] = this.state.buttons(i);
+        }
+
+        for (int i = 0; i < axes.length; i++)
+        {
+            axes[i] = this.state.axes(i);
+        }
+
+        return true;
+    }
+
+    @Override
+    public void kill()
+    {
+        if (this.state != null)
+        {
+            this.state.free();
+            this.state = null;
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package bt2d.core.input.key;
 
-import java.util.HashMap;
-import java.util.Map;
+import bt.log.Log;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Defines a set of actions mapped to specific keys.
+ * <p>
+ * The actions are indexed by keycode, so {@link #checkActions(KeyInput)} only looks at the keys that changed during
+ * the current tick and the keys that are held down. Its cost depends on the input activity instead of the number of
+ * defined actions. Multiple actions can be defined for the same key, status and mods; they are executed in the order
+ * in which they were added.
  *
  * @author Lukas Hartwig
  * @since 03.11.2021
@@ -12,9 +19,19 @@ import java.util.Map;
 public class KeyActions
 {
     /**
-     * The actions mapped by the key + mods combination.
+     * The {@link Key#KEY_DOWN} actions indexed by keycode, null for keys without actions.
+     */
+    private final List<Binding>[] downActions;
+
+    /**
+     * The {@link Key#KEY_JUST_DOWN} actions indexed by keycode, null for keys without actions.
+     */
+    private final List<Binding>[] justDownActions;
+
+    /**
+     * The {@link Key#KEY_RELEASED} actions indexed by keycode, null for keys without actions.
      */
-    private Map<Key, Runnable> actions;
+    private final List<Binding>[] releasedActions;
 
     /**
      * Instantiates a new Key actions.
@@ -22,9 +39,12 @@ public class KeyActions
      * @author Lukas Hartwig
      * @since 03.11.2021
      */
+    @SuppressWarnings("unchecked")
     public KeyActions()
     {
-        this.actions = new HashMap<>();
+        this.downActions = new List[KeyInput.KEY_COUNT];
+        this.justDownActions = new List[KeyInput.KEY_COUNT];
+        this.releasedActions = new List[KeyInput.KEY_COUNT];
     }
 
     /**
@@ -61,7 +81,7 @@ public class KeyActions
      */
     public void onKeyDown(int key, int mods, Runnable action)
     {
-        this.actions.put(new Key(key, Key.KEY_DOWN, mods), action);
+        add(this.downActions, key, mods, action);
     }
 
     /**
@@ -94,7 +114,7 @@ public class KeyActions
      */
     public void onKeyJustDown(int key, int mods, Runnable action)
     {
-        this.actions.put(new Key(key, Key.KEY_JUST_DOWN, mods), action);
+        add(this.justDownActions, key, mods, action);
     }
 
     /**
@@ -127,7 +147,37 @@ public class KeyActions
      */
     public void onKeyreleased(int key, int mods, Runnable action)
     {
-        this.actions.put(new Key(key, Key.KEY_RELEASED, mods), action);
+        add(this.releasedActions, key, mods, action);
+    }
+
+    /**
+     * Adds an action to the given index.
+     * <p>
+     * Keycodes outside of the range that {@link KeyInput} tracks can never be pressed, actions for them are ignored
+     * with a warning.
+     *
+     * @param actions the actions of one status indexed by keycode.
+     * @param key     the key code of the trigger key.
+     * @param mods    the mods of the key press.
+     * @param action  the action to execute.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private void add(List<Binding>[] actions, int key, int mods, Runnable action)
+    {
+        if (!KeyInput.isValid(key))
+        {
+            Log.warn("Ignoring action for unknown keycode {}", key);
+            return;
+        }
+
+        if (actions[key] == null)
+        {
+            actions[key] = new ArrayList<>(1);
+        }
+
+        actions[key].add(new Binding(mods, action));
     }
 
     /**
@@ -141,20 +191,64 @@ public class KeyActions
      */
     public void checkActions(KeyInput input)
     {
-        for (Key key : this.actions.keySet())
+        // only keys that changed during this tick can be 'just down' or 'released'
+        for (int i = 0; i < input.getChangedKeyCount(); i++)
         {
-            if (key.getStatus() == Key.KEY_DOWN && input.isKeyDown(key.getKeycode(), key.getMods()))
+            int key = input.getChangedKey(i);
+            int mods = input.getKeyMods(key);
+
+            if (input.isKeyJustDown(key, mods))
             {
-                this.actions.get(key).run();
+                run(this.justDownActions[key], mods);
             }
-            else if (key.getStatus() == Key.KEY_JUST_DOWN && input.isKeyJustDown(key.getKeycode(), key.getMods()))
+            else
             {
-                this.actions.get(key).run();
+                run(this.releasedActions[key], mods);
             }
-            else if (key.getStatus() == Key.KEY_RELEASED && input.isKeyReleased(key.getKeycode(), key.getMods()))
+        }
+
+        // 'down' actions are repeated every tick while their key is held
+        for (int i = 0; i < input.getHeldKeyCount(); i++)
+        {
+            int key = input.getHeldKey(i);
+            run(this.downActions[key], input.getKeyMods(key));
+        }
+    }
+
+    /**
+     * Executes all given actions whose mods match the mods of the key.
+     *
+     * @param actions the actions of the key, may be null.
+     * @param mods    the current mods of the key.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private void run(List<Binding> actions, int mods)
+    {
+        if (actions == null)
+        {
+            return;
+        }
+
+        for (int i = 0; i < actions.size(); i++)
+        {
+            Binding binding = actions.get(i);
+
+            if (binding.mods == mods)
             {
-                this.actions.get(key).run();
+                binding.action.run();
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * An action together with the mods that have to be pressed with its key.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private record Binding(int mods, Runnable action)
+    {
+    }
+}
@@ -1,14 +1,23 @@
 package bt2d.core.input.key;
 
+import bt2d.core.input.ButtonStates;
+import bt2d.core.input.InputEventRing;
 import org.lwjgl.glfw.GLFW;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * A central place that will listen for key callbacks from an GLFW window.
  * <p>
  * This class offers methods to check if a key is currently pressed or or released.
+ * <p>
+ * The state of every key is kept in arrays indexed by the GLFW keycode, so a check is a single array read and
+ * handling key events does not create any objects. Keys outside of 0 to {@link GLFW#GLFW_KEY_LAST}, i.e.
+ * {@link GLFW#GLFW_KEY_UNKNOWN}, are ignored.
+ * <p>
+ * The GLFW callback only appends the event to a lock-free {@link InputEventRing}, which {@link #checkKeyChanges()}
+ * drains in order. A key changes its status at most once per tick, so a press and release within the same tick
+ * are both visible for one tick each instead of the press being lost.
  *
  * @author Lukas Hartwig
  * @since 02.11.2021
@@ -17,14 +26,34 @@ public class KeyInput
 {
 
     /**
-     * The keys mapped by their keycode keeping track of their status.
+     * The number of supported keycodes.
+     */
+    protected static final int KEY_COUNT = GLFW.GLFW_KEY_LAST + 1;
+
+    /**
+     * The status, mods and timestamp of every key indexed by keycode.
+     */
+    private final ButtonStates states;
+
+    /**
+     * The keys that are currently {@link Key#KEY_DOWN down} or {@link Key#KEY_JUST_DOWN just down}, in no particular order.
      */
-    private Map<Integer, Key> keyValues;
+    private final int[] heldKeys;
 
     /**
-     * Staged changes to the main keyValues map, will be merged during the next call of {@link #checkKeyChanges()}.
+     * The index of every key in {@link #heldKeys} indexed by keycode, -1 if the key is not held.
      */
-    private Map<Integer, Key> keyChanges;
+    private final int[] heldIndices;
+
+    /**
+     * The number of valid entries in {@link #heldKeys}.
+     */
+    private int heldCount;
+
+    /**
+     * The events received from GLFW that were not applied yet.
+     */
+    private final InputEventRing events;
 
     /**
      * Instantiates a new Key input.
@@ -36,11 +65,27 @@ public class KeyInput
      */
     public KeyInput(long windowRef)
     {
-        this.keyValues = new HashMap<>();
-        this.keyChanges = new HashMap<>();
+        this();
         GLFW.glfwSetKeyCallback(windowRef, this::onKeyAction);
     }
 
+    /**
+     * Instantiates a new Key input that does not listen to any window.
+     * <p>
+     * Key events have to be passed via {@link #keyPressed(int, int)} and {@link #keyReleased(int, int)}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected KeyInput()
+    {
+        this.states = new ButtonStates(KEY_COUNT);
+        this.heldKeys = new int[KEY_COUNT];
+        this.heldIndices = new int[KEY_COUNT];
+        Arrays.fill(this.heldIndices, -1);
+        this.events = new InputEventRing();
+    }
+
     /**
      * Indicates whether a key is just now being pressed. This state does not last longer than one tick.
      *
@@ -69,9 +114,7 @@ public class KeyInput
      */
     public boolean isKeyJustDown(int key, int mods)
     {
-        var entry = this.keyValues.get(key);
-        return entry != null && entry.getStatus() == Key.KEY_JUST_DOWN
-                && entry.getMods() == mods;
+        return this.states.isJustDown(key, mods);
     }
 
     /**
@@ -102,10 +145,7 @@ public class KeyInput
      */
     public boolean isKeyDown(int key, int mods)
     {
-        var entry = this.keyValues.get(key);
-        return entry != null
-                && (entry.getStatus() == Key.KEY_DOWN || entry.getStatus() == Key.KEY_JUST_DOWN)
-                && entry.getMods() == mods;
+        return this.states.isDown(key, mods);
     }
 
     /**
@@ -136,10 +176,152 @@ public class KeyInput
      */
     public boolean isKeyReleased(int key, int mods)
     {
-        var entry = this.keyValues.get(key);
-        return entry != null
-                && entry.getStatus() == Key.KEY_RELEASED
-                && entry.getMods() == mods;
+        return this.states.isReleased(key, mods);
+    }
+
+    /**
+     * Gets the mods that were pressed together with the last status change of the given key.
+     *
+     * @param key The key code (constant from {@link GLFW}) of the key to check.
+     *
+     * @return the bitmask of the mods, 0 for invalid keys.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getKeyMods(int key)
+    {
+        return this.states.getMods(key);
+    }
+
+    /**
+     * Gets the time at which the current status of the given key was caused, i.e. to measure the latency between a key
+     * press and its effect on screen.
+     *
+     * @param key The key code (constant from {@link GLFW}) of the key to check.
+     *
+     * @return the nano time of the event that led to the current status, 0 if the key was never pressed.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getKeyTimestamp(int key)
+    {
+        return this.states.getTimestamp(key);
+    }
+
+    /**
+     * Gets the number of keys that changed their status during the last {@link #checkKeyChanges()}, i.e. that are
+     * {@link #isKeyJustDown(int, int) just down} or {@link #isKeyReleased(int, int) released} during this tick.
+     *
+     * @return the changed key count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getChangedKeyCount()
+    {
+        return this.states.getChangedCount();
+    }
+
+    /**
+     * Gets a key that changed its status during the last {@link #checkKeyChanges()}.
+     *
+     * @param index the index from 0 to {@link #getChangedKeyCount()} (exclusive).
+     *
+     * @return the keycode
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getChangedKey(int index)
+    {
+        return this.states.getChanged(index);
+    }
+
+    /**
+     * Gets the number of keys that are currently {@link #isKeyDown(int, int) down}, regardless of their mods.
+     *
+     * @return the held key count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getHeldKeyCount()
+    {
+        return this.heldCount;
+    }
+
+    /**
+     * Gets a key that is currently down. The order of the held keys changes when keys are released.
+     *
+     * @param index the index from 0 to {@link #getHeldKeyCount()} (exclusive).
+     *
+     * @return the keycode
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getHeldKey(int index)
+    {
+        return this.heldKeys[index];
+    }
+
+    /**
+     * Adds the given key to or removes it from the {@link #heldKeys}.
+     *
+     * @param key  the keycode
+     * @param held true if the key was pressed, false if it was released.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private void updateHeld(int key, boolean held)
+    {
+        int index = this.heldIndices[key];
+
+        if (held && index < 0)
+        {
+            this.heldIndices[key] = this.heldCount;
+            this.heldKeys[this.heldCount++] = key;
+        }
+        else if (!held && index >= 0)
+        {
+            // move the last held key into the gap
+            int last = this.heldKeys[--this.heldCount];
+            this.heldKeys[index] = last;
+            this.heldIndices[last] = index;
+            this.heldIndices[key] = -1;
+        }
+    }
+
+    /**
+     * Gets the number of key events that were dropped because more events arrived between two ticks than the event
+     * buffer can hold.
+     *
+     * @return the dropped count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getDroppedEventCount()
+    {
+        return this.events.getDroppedCount();
+    }
+
+    /**
+     * Indicates whether the given keycode is within the range of supported keycodes.
+     *
+     * @param key the keycode
+     *
+     * @return true if the key is tracked by this instance.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected static boolean isValid(int key)
+    {
+        return key >= 0 && key < KEY_COUNT;
     }
 
     /**
@@ -156,14 +338,7 @@ public class KeyInput
      */
     protected void onKeyAction(long window, int key, int scancode, int action, int mods)
     {
-        if (action == GLFW.GLFW_RELEASE)
-        {
-            keyReleased(key, mods);
-        }
-        else
-        {
-            keyPressed(key, mods);
-        }
+        this.events.offer(key, scancode, action, mods, System.nanoTime());
     }
 
     /**
@@ -179,13 +354,7 @@ public class KeyInput
      */
     protected void keyPressed(int key, int mods)
     {
-        synchronized (this.keyChanges)
-        {
-            if (!isKeyDown(key, mods))
-            {
-                this.keyChanges.put(key, new Key(key, Key.KEY_JUST_DOWN, mods));
-            }
-        }
+        this.events.offer(key, 0, GLFW.GLFW_PRESS, mods, System.nanoTime());
     }
 
     /**
@@ -201,10 +370,7 @@ public class KeyInput
      */
     protected void keyReleased(int key, int mods)
     {
-        synchronized (this.keyChanges)
-        {
-            this.keyChanges.put(key, new Key(key, Key.KEY_RELEASED, mods));
-        }
+        this.events.offer(key, 0, GLFW.GLFW_RELEASE, mods, System.nanoTime());
     }
 
     /**
@@ -213,38 +379,22 @@ public class KeyInput
      * First this method will update the states of already known keys.
      * It changes 'recently released' to 'not down' and 'just down' to 'down'.
      * <p>
-     * After that the staged changes will be added to the main key map and are
-     * then available to calls like {@link #isKeyDown(int, int) isKeyDown}.
+     * After that the received key events are applied in the order they arrived and are
+     * then available to calls like {@link #isKeyDown(int, int) isKeyDown}. Events for a key that already
+     * changed its status during this call are kept for the next call, together with all events after them.
      *
      * @author Lukas Hartwig
      * @since 03.11.2021
      */
     public void checkKeyChanges()
     {
-        // changing 'recently released' to 'not down' and 'just down' to 'down'
-        this.keyValues.replaceAll((k, v) ->
-                                  {
-                                      if (v.getStatus() == Key.KEY_RELEASED)
-                                      {
-                                          v.setStatus(Key.KEY_NOT_DOWN);
-                                      }
-                                      else if (v.getStatus() == Key.KEY_JUST_DOWN)
-                                      {
-                                          v.setStatus(Key.KEY_DOWN);
-                                      }
-
-                                      return v;
-                                  });
-
-        // merge staged changes into main map and clear changes afterwards
-        synchronized (this.keyChanges)
-        {
-            for (var key : this.keyChanges.keySet())
-            {
-                this.keyValues.put(key, this.keyChanges.get(key));
-            }
+        this.states.update(this.events);
 
-            this.keyChanges.clear();
+        // every key that changed is now either 'just down' or 'released'
+        for (int i = 0; i < this.states.getChangedCount(); i++)
+        {
+            int key = this.states.getChanged(i);
+            updateHeld(key, this.states.isJustDown(key, this.states.getMods(key)));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,494 @@
+package bt2d.core.input.mouse;
+
+import bt2d.core.input.ButtonStates;
+import bt2d.core.input.InputEventRing;
+import bt2d.core.input.key.Key;
+import bt2d.core.input.key.KeyInput;
+import bt2d.utils.Unit;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * A central place that will listen for mouse button, cursor and scroll callbacks from an GLFW window.
+ * <p>
+ * Mouse buttons have the same statuses as keys of a {@link KeyInput}: a button is {@link Key#KEY_JUST_DOWN just down}
+ * for one tick after it was pressed, {@link Key#KEY_DOWN down} while it is held and {@link Key#KEY_RELEASED released}
+ * for one tick after it was let go. Button events go through an {@link InputEventRing} and are applied by the same
+ * {@link ButtonStates} as key events, so a button changes its status at most once per tick.
+ * <p>
+ * Cursor and scroll events are not queued. Mice can report their position a thousand times per second, so the
+ * callbacks only overwrite the latest position and add to running deltas without creating any objects.
+ * {@link #checkMouseChanges()} takes those accumulated values over once per tick. GLFW calls the callbacks from
+ * {@link GLFW#glfwPollEvents()}, which runs on the same thread as the tick.
+ * <p>
+ * Positions and deltas are returned in game units, converted with the {@link Unit#getRatio() ratio} at the time of
+ * the call. Like the window, the cursor origin is the upper left corner. The {@link bt2d.utils.render.Camera camera}
+ * transform is not applied.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class MouseInput
+{
+    /**
+     * The number of supported mouse buttons.
+     */
+    protected static final int BUTTON_COUNT = GLFW.GLFW_MOUSE_BUTTON_LAST + 1;
+
+    /**
+     * The status, mods and timestamp of every button indexed by button code.
+     */
+    private final ButtonStates states;
+
+    /**
+     * The button events received from GLFW that were not applied yet.
+     */
+    private final InputEventRing events;
+
+    /**
+     * The latest cursor x reported by GLFW in screen coordinates.
+     */
+    private double pendingCursorX;
+
+    /**
+     * The latest cursor y reported by GLFW in screen coordinates.
+     */
+    private double pendingCursorY;
+
+    /**
+     * The cursor movement along the x axis since the last {@link #checkMouseChanges()} in screen coordinates.
+     */
+    private double pendingDeltaX;
+
+    /**
+     * The cursor movement along the y axis since the last {@link #checkMouseChanges()} in screen coordinates.
+     */
+    private double pendingDeltaY;
+
+    /**
+     * The number of cursor events since the last {@link #checkMouseChanges()}.
+     */
+    private int pendingCursorEvents;
+
+    /**
+     * The horizontal scroll offset since the last {@link #checkMouseChanges()}.
+     */
+    private double pendingScrollX;
+
+    /**
+     * The vertical scroll offset since the last {@link #checkMouseChanges()}.
+     */
+    private double pendingScrollY;
+
+    /**
+     * The cursor x of the current tick in screen coordinates.
+     */
+    private double cursorX;
+
+    /**
+     * The cursor y of the current tick in screen coordinates.
+     */
+    private double cursorY;
+
+    /**
+     * The cursor movement along the x axis during the current tick in screen coordinates.
+     */
+    private double deltaX;
+
+    /**
+     * The cursor movement along the y axis during the current tick in screen coordinates.
+     */
+    private double deltaY;
+
+    /**
+     * The number of cursor events that were combined into the current tick.
+     */
+    private int cursorEvents;
+
+    /**
+     * The horizontal scroll offset of the current tick.
+     */
+    private double scrollX;
+
+    /**
+     * The vertical scroll offset of the current tick.
+     */
+    private double scrollY;
+
+    /**
+     * Instantiates a new Mouse input.
+     *
+     * @param windowRef the window ref
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public MouseInput(long windowRef)
+    {
+        this();
+
+        // start at the actual position so that the first movement does not report a jump from 0|0
+        double[] x = new double[1];
+        double[] y = new double[1];
+        GLFW.glfwGetCursorPos(windowRef, x, y);
+        this.pendingCursorX = this.cursorX = x[0];
+        this.pendingCursorY = this.cursorY = y[0];
+
+        GLFW.glfwSetMouseButtonCallback(windowRef, this::onButtonAction);
+        GLFW.glfwSetCursorPosCallback(windowRef, this::onCursorMove);
+        GLFW.glfwSetScrollCallback(windowRef, this::onScroll);
+    }
+
+    /**
+     * Instantiates a new Mouse input that does not listen to any window. The cursor starts at 0|0.
+     * <p>
+     * Events have to be passed via {@link #buttonPressed(int, int)}, {@link #buttonReleased(int, int)},
+     * {@link #onCursorMove(long, double, double)} and {@link #onScroll(long, double, double)}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected MouseInput()
+    {
+        this.states = new ButtonStates(BUTTON_COUNT);
+        this.events = new InputEventRing();
+    }
+
+    /**
+     * Indicates whether a button is just now being pressed. This state does not last longer than one tick.
+     *
+     * @param button The button code (constant from {@link GLFW}) of the button to check.
+     *
+     * @return true if the button was just pressed.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isButtonJustDown(int button)
+    {
+        return isButtonJustDown(button, 0);
+    }
+
+    /**
+     * Indicates whether a button + mods combination is just now being pressed. This state does not last longer than
+     * one tick.
+     *
+     * @param button The button code (constant from {@link GLFW}) of the button to check.
+     * @param mods   Bitmask of the mods that are pressed with the button, i.e shift and alt.
+     *
+     * @return true if the button was just pressed.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isButtonJustDown(int button, int mods)
+    {
+        return this.states.isJustDown(button, mods);
+    }
+
+    /**
+     * Indicates whether a button is currently pressed.
+     *
+     * @param button The button code (constant from {@link GLFW}) of the button to check.
+     *
+     * @return true if the button is pressed, regardless of how long.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isButtonDown(int button)
+    {
+        return isButtonDown(button, 0);
+    }
+
+    /**
+     * Indicates whether a button + mods combination is currently pressed.
+     *
+     * @param button The button code (constant from {@link GLFW}) of the button to check.
+     * @param mods   Bitmask of the mods that are pressed with the button, i.e shift and alt.
+     *
+     * @return true if the button is pressed, regardless of how long.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isButtonDown(int button, int mods)
+    {
+        return this.states.isDown(button, mods);
+    }
+
+    /**
+     * Indicates whether a button was recently pressed and is now released.
+     *
+     * @param button The button code (constant from {@link GLFW}) of the button to check.
+     *
+     * @return true if the button has been pressed somewhere in the past and was released during the last tick.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isButtonReleased(int button)
+    {
+        return isButtonReleased(button, 0);
+    }
+
+    /**
+     * Indicates whether a button + mods combination was recently pressed and is now released.
+     *
+     * @param button The button code (constant from {@link GLFW}) of the button to check.
+     * @param mods   Bitmask of the mods that are pressed with the button, i.e shift and alt.
+     *
+     * @return true if the button has been pressed somewhere in the past and was released during the last tick.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isButtonReleased(int button, int mods)
+    {
+        return this.states.isReleased(button, mods);
+    }
+
+    /**
+     * Gets the time at which the current status of the given button was caused.
+     *
+     * @param button The button code (constant from {@link GLFW}) of the button to check.
+     *
+     * @return the nano time of the event that led to the current status, 0 if the button was never pressed.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getButtonTimestamp(int button)
+    {
+        return this.states.getTimestamp(button);
+    }
+
+    /**
+     * Gets the x of the cursor during the current tick.
+     *
+     * @return the game unit x relative to the left border of the window.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getCursorX()
+    {
+        return Unit.toGameUnits(this.cursorX);
+    }
+
+    /**
+     * Gets the y of the cursor during the current tick.
+     *
+     * @return the game unit y relative to the top border of the window.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getCursorY()
+    {
+        return Unit.toGameUnits(this.cursorY);
+    }
+
+    /**
+     * Gets how far the cursor moved along the x axis since the previous tick.
+     *
+     * @return the sum of all movements in game units.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getCursorDeltaX()
+    {
+        return Unit.toGameUnits(this.deltaX);
+    }
+
+    /**
+     * Gets how far the cursor moved along the y axis since the previous tick.
+     *
+     * @return the sum of all movements in game units.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getCursorDeltaY()
+    {
+        return Unit.toGameUnits(this.deltaY);
+    }
+
+    /**
+     * Indicates whether the cursor moved since the previous tick.
+     *
+     * @return true if at least one cursor event was received.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean hasCursorMoved()
+    {
+        return this.cursorEvents > 0;
+    }
+
+    /**
+     * Gets the number of cursor events that were combined into the values of the current tick.
+     *
+     * @return the cursor event count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getCursorEventCount()
+    {
+        return this.cursorEvents;
+    }
+
+    /**
+     * Gets the horizontal scroll offset since the previous tick, i.e. from a touchpad or a tilting wheel.
+     *
+     * @return the summed up offset
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getScrollX()
+    {
+        return this.scrollX;
+    }
+
+    /**
+     * Gets the vertical scroll offset since the previous tick. Positive values mean scrolling up.
+     *
+     * @return the summed up offset
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getScrollY()
+    {
+        return this.scrollY;
+    }
+
+    /**
+     * Gets the number of button events that were dropped because they arrived faster than they were applied.
+     *
+     * @return the dropped event count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getDroppedEventCount()
+    {
+        return this.events.getDroppedCount();
+    }
+
+    /**
+     * Callback for GLFW mouse button events.
+     *
+     * @param window The window reference.
+     * @param button The button code of the button.
+     * @param action The action of this event, i.e release.
+     * @param mods   The the modifications of this action, i.e. shift or alt.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void onButtonAction(long window, int button, int action, int mods)
+    {
+        this.events.offer(button, 0, action, mods, System.nanoTime());
+    }
+
+    /**
+     * Callback for GLFW cursor events.
+     *
+     * @param window The window reference.
+     * @param x      The new cursor x in screen coordinates.
+     * @param y      The new cursor y in screen coordinates.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void onCursorMove(long window, double x, double y)
+    {
+        this.pendingDeltaX += x - this.pendingCursorX;
+        this.pendingDeltaY += y - this.pendingCursorY;
+        this.pendingCursorX = x;
+        this.pendingCursorY = y;
+        this.pendingCursorEvents++;
+    }
+
+    /**
+     * Callback for GLFW scroll events.
+     *
+     * @param window  The window reference.
+     * @param offsetX The horizontal scroll offset.
+     * @param offsetY The vertical scroll offset.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void onScroll(long window, double offsetX, double offsetY)
+    {
+        this.pendingScrollX += offsetX;
+        this.pendingScrollY += offsetY;
+    }
+
+    /**
+     * Marks the given button + mods combination as pressed if it isnt already.
+     * <p>
+     * This is only a staged change, it will come into effect after the next {@link #checkMouseChanges()} call.
+     *
+     * @param button the button code
+     * @param mods   the mods, i.e. shift ro alt
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void buttonPressed(int button, int mods)
+    {
+        this.events.offer(button, 0, GLFW.GLFW_PRESS, mods, System.nanoTime());
+    }
+
+    /**
+     * Marks the given button + mods combination as released if it isnt already.
+     * <p>
+     * This is only a staged change, it will come into effect after the next {@link #checkMouseChanges()} call.
+     *
+     * @param button the button code
+     * @param mods   the mods, i.e. shift ro alt
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void buttonReleased(int button, int mods)
+    {
+        this.events.offer(button, 0, GLFW.GLFW_RELEASE, mods, System.nanoTime());
+    }
+
+    /**
+     * Checks for new staged mouse changes.
+     * <p>
+     * First this method changes 'recently released' buttons to 'not down' and 'just down' buttons to 'down'. After
+     * that the received button events are applied in the order they arrived, at most one status change per button.
+     * Finally the cursor position, movement and scroll offsets that were accumulated since the last call become the
+     * values of the current tick.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void checkMouseChanges()
+    {
+        this.states.update(this.events);
+
+        this.cursorX = this.pendingCursorX;
+        this.cursorY = this.pendingCursorY;
+        this.deltaX = this.pendingDeltaX;
+        this.deltaY = this.pendingDeltaY;
+        this.cursorEvents = this.pendingCursorEvents;
+        this.scrollX = this.pendingScrollX;
+        this.scrollY = this.pendingScrollY;
+
+        this.pendingDeltaX = 0;
+        this.pendingDeltaY = 0;
+        this.pendingCursorEvents = 0;
+        this.pendingScrollX = 0;
+        this.pendingScrollY = 0;
+    }
+}
@@ -3,15 +3,25 @@ package bt2d.core.loop;
 import bt.log.Log;
 import bt.runtime.InstanceKiller;
 import bt.types.Killable;
-import bt.utils.Exceptions;
 import bt.utils.Null;
-import bt.utils.ThrowRunnable;
-
+import bt2d.core.loop.clock.Clock;
+import bt2d.core.loop.clock.SystemClock;
+import bt2d.core.loop.metrics.FrameMetrics;
+import bt2d.core.loop.pacing.ParkSpinPacing;
+import bt2d.core.loop.pacing.PacingStrategy;
+import bt2d.core.loop.rate.RateController;
+import bt2d.core.loop.rate.RenderDegradation;
+
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
  * A simple game loop that will try to call tick and render methods at set rates.
  * <p>
+ * By default every tick receives the time that passed since the previous tick. In {@link #setFixedTimestep(boolean) fixed timestep}
+ * mode every tick receives exactly 1 / tick rate seconds instead, and the render callback set via
+ * {@link #onRender(Consumer)} receives how far the loop is between the last and the next tick.
+ * <p>
  * Usage:
  * <pre>
  *     GameLoop loop = new GameLoop(this::myTick,
@@ -55,6 +65,11 @@ public class GameLoop implements Killable, Runnable
      */
     protected long rateCheckInterval = 0;
 
+    /**
+     * The length in seconds of the last rate check window, which can be longer than the {@link #rateCheckInterval}.
+     */
+    protected double rateCheckWindow = 0;
+
     /**
      * Nano second interval between render calls.
      */
@@ -83,9 +98,58 @@ public class GameLoop implements Killable, Runnable
     /**
      * The amount of nano seconds that will be added or subtracted from the tick/render interval for each
      * frame/tick per second difference to the desired value.
+     *
+     * @deprecated the intervals are adjusted by {@link #tickRateController} and {@link #renderRateController}.
      */
+    @Deprecated
     protected long intervalCorrection = 10000;
 
+    /**
+     * Adjusts the {@link #tickInterval} so that the measured tick rate converges on the desired tick rate.
+     */
+    protected RateController tickRateController;
+
+    /**
+     * Adjusts the {@link #renderInterval} so that the measured frame rate converges on the desired, possibly degraded, frame rate.
+     */
+    protected RateController renderRateController;
+
+    /**
+     * Lowers the frame rate while ticks are over budget. Null, the default, to always aim for the desired frame rate.
+     */
+    protected RenderDegradation renderDegradation;
+
+    /**
+     * Decides what paces the render calls. Can be switched while the loop is running.
+     */
+    protected volatile RenderPacing renderPacing = RenderPacing.INTERNAL;
+
+    /**
+     * Indicates whether ticks are run with a constant delta of 1 / {@link #desiredTicksPerSecond}.
+     */
+    protected boolean fixedTimestep;
+
+    /**
+     * The maximum number of ticks that are run in a single iteration in fixed timestep mode to catch up with real time.
+     * Time beyond that is dropped so that an overloaded loop does not fall further and further behind.
+     */
+    protected int maxCatchUpTicks = 5;
+
+    /**
+     * The progress between the last and the next tick in fixed timestep mode, from 0 (inclusive) to 1 (exclusive).
+     */
+    protected double interpolationAlpha = 0;
+
+    /**
+     * The source of time for this loop and its {@link #pacing}.
+     */
+    protected Clock clock = new SystemClock();
+
+    /**
+     * Decides how the loop waits between its tick and render calls.
+     */
+    protected PacingStrategy pacing = new ParkSpinPacing(this.clock);
+
     /**
      * The set tick consumer that receives the delta seconds since the last tick.
      */
@@ -96,6 +160,11 @@ public class GameLoop implements Killable, Runnable
      */
     protected Runnable render;
 
+    /**
+     * An optional render consumer that receives the {@link #interpolationAlpha}. It is used instead of {@link #render} if set.
+     */
+    protected Consumer<Double> interpolatedRender;
+
     /**
      * A callback to initialize stuff before the rendering starts. Can be used to setup the window on the same thread as the rendering.
      */
@@ -106,6 +175,16 @@ public class GameLoop implements Killable, Runnable
      */
     protected Consumer<Integer> onFpsUpdate;
 
+    /**
+     * The timings of the current rate check window.
+     */
+    protected FrameMetrics metrics = new FrameMetrics();
+
+    /**
+     * The set consumer that receives the {@link #metrics} at the end of every rate check window.
+     */
+    protected Consumer<FrameMetrics> onMetricsUpdate;
+
     /**
      * Creates a new instance and sets the runnables for tick and render methods.
      *
@@ -205,9 +284,13 @@ public class GameLoop implements Killable, Runnable
     public void setFrameRate(int desiredFramesPerSecond)
     {
         this.desiredFramesPerSecond = desiredFramesPerSecond;
+        this.renderRateController = resetController(this.renderRateController, desiredFramesPerSecond);
+        this.renderInterval = this.renderRateController.getInterval();
 
-        // calculating nano second interval
-        this.renderInterval = (long)(GameLoop.NANO_TO_BASE / desiredFramesPerSecond);
+        if (this.renderDegradation != null)
+        {
+            this.renderDegradation.reset();
+        }
     }
 
     /**
@@ -221,9 +304,155 @@ public class GameLoop implements Killable, Runnable
     public void setTickRate(int desiredTicksPerSecond)
     {
         this.desiredTicksPerSecond = desiredTicksPerSecond;
+        this.tickRateController = resetController(this.tickRateController, desiredTicksPerSecond);
+        this.tickInterval = this.tickRateController.getInterval();
+    }
 
-        // calculating nano second interval
-        this.tickInterval = (long)(GameLoop.NANO_TO_BASE / desiredTicksPerSecond);
+    /**
+     * Sets the given controller to the given target rate and resets it, or creates a new one if it is null.
+     *
+     * @param controller the controller or null.
+     * @param targetRate the target rate.
+     *
+     * @return the reset controller.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected RateController resetController(RateController controller, int targetRate)
+    {
+        if (controller == null)
+        {
+            return new RateController(targetRate);
+        }
+
+        controller.setTargetRate(targetRate);
+        controller.reset();
+        return controller;
+    }
+
+    /**
+     * Gets the target frame rate that this loop tries to maintain.
+     *
+     * @return the desired number of renders per second.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getFrameRate()
+    {
+        return this.desiredFramesPerSecond;
+    }
+
+    /**
+     * Gets the target tick rate that this loop tries to maintain.
+     *
+     * @return the desired number of ticks per second.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getTickRate()
+    {
+        return this.desiredTicksPerSecond;
+    }
+
+    /**
+     * Enables or disables the fixed timestep mode.
+     * <p>
+     * In fixed timestep mode the loop accumulates the passed time and runs as many ticks of exactly
+     * 1 / {@link #setTickRate(int) tick rate} seconds as fit into it, up to {@link #setMaxCatchUpTicks(int)} per iteration.
+     * This makes ticks deterministic and independent of the frame rate. The tick interval is not adjusted in this mode.
+     *
+     * @param fixedTimestep true to run ticks with a constant delta, false to pass the measured delta.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setFixedTimestep(boolean fixedTimestep)
+    {
+        this.fixedTimestep = fixedTimestep;
+
+        // drop corrections of the variable mode, the accumulator keeps the rate exact
+        setTickRate(this.desiredTicksPerSecond);
+    }
+
+    /**
+     * Indicates whether ticks are run with a constant delta.
+     *
+     * @return true if the fixed timestep mode is enabled.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isFixedTimestep()
+    {
+        return this.fixedTimestep;
+    }
+
+    /**
+     * Sets the maximum number of ticks that are run in a single iteration in fixed timestep mode.
+     * <p>
+     * If the loop falls further behind than that, i.e. after a long garbage collection, the remaining time is dropped
+     * instead of being caught up, which would only cause the next iteration to fall behind even more.
+     *
+     * @param maxCatchUpTicks the maximum number of ticks per iteration. Has to be at least 1.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setMaxCatchUpTicks(int maxCatchUpTicks)
+    {
+        if (maxCatchUpTicks < 1)
+        {
+            throw new IllegalArgumentException("maxCatchUpTicks has to be at least 1");
+        }
+
+        this.maxCatchUpTicks = maxCatchUpTicks;
+    }
+
+    /**
+     * Gets the maximum number of ticks that are run in a single iteration in fixed timestep mode.
+     *
+     * @return the maximum number of catch up ticks.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getMaxCatchUpTicks()
+    {
+        return this.maxCatchUpTicks;
+    }
+
+    /**
+     * Gets the progress between the last and the next tick at the time of the current render call.
+     * <p>
+     * Rendering the state of the last tick interpolated towards the next one by this value gives smooth movement
+     * even if the frame rate is higher than the tick rate. This is always 0 if the fixed timestep mode is disabled.
+     *
+     * @return the interpolation alpha from 0 (inclusive) to 1 (exclusive).
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getInterpolationAlpha()
+    {
+        return this.interpolationAlpha;
+    }
+
+    /**
+     * Defines a render action that receives the {@link #getInterpolationAlpha() interpolation alpha}.
+     * <p>
+     * If set, this consumer is called instead of the render runnable that was passed to the constructor.
+     *
+     * @param onRender A consumer which will receive the interpolation alpha, or null to use the render runnable again.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void onRender(Consumer<Double> onRender)
+    {
+        this.interpolatedRender = onRender;
     }
 
     /**
@@ -241,6 +470,36 @@ public class GameLoop implements Killable, Runnable
         this.onFpsUpdate = onUpdate;
     }
 
+    /**
+     * Defines an action that receives the timings of the last rate check window whenever the frame and tick rate are recalculated.
+     * <p>
+     * The metrics are reset right after the call, so values that should be kept have to be read within the consumer.
+     *
+     * @param onUpdate A consumer which will receive the metrics of the finished window.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void onMetricsUpdate(Consumer<FrameMetrics> onUpdate)
+    {
+        this.onMetricsUpdate = onUpdate;
+    }
+
+    /**
+     * Gets the timings of the current, not yet finished rate check window.
+     * <p>
+     * The returned instance is reused and written by the loop thread.
+     *
+     * @return the frame metrics
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public FrameMetrics getFrameMetrics()
+    {
+        return this.metrics;
+    }
+
     /**
      * Sets how many times the current frame and tick rate are calculated and the intervals between tick and render calls are adjusted.
      *
@@ -282,7 +541,7 @@ public class GameLoop implements Killable, Runnable
      */
     public int getCurrentTicksPerSecond()
     {
-        return this.currentFramesPerSecond;
+        return this.currentTicksPerSecond;
     }
 
     /**
@@ -308,7 +567,9 @@ public class GameLoop implements Killable, Runnable
      *
      * @author Lukas Hartwig
      * @since 31.10.2021
+     * @deprecated the intervals are adjusted by {@link RateController}s, see {@link #getTickRateController()}.
      */
+    @Deprecated
     public long getIntervalCorrection()
     {
         return this.intervalCorrection;
@@ -322,21 +583,127 @@ public class GameLoop implements Killable, Runnable
      *
      * @author Lukas Hartwig
      * @since 31.10.2021
+     * @deprecated this value is no longer used, configure the gains of the {@link #getTickRateController() tick} and
+     * {@link #getRenderRateController() render} rate controllers instead.
      */
+    @Deprecated
     public void setIntervalCorrection(long intervalCorrection)
     {
         this.intervalCorrection = intervalCorrection;
     }
 
     /**
-     * Runs the render runnable if it is not null.
+     * Sets what paces the render calls of this loop. This can be changed while the loop is running.
+     * <p>
+     * With {@link RenderPacing#INTERNAL} the loop waits for the render interval itself. With {@link RenderPacing#VSYNC}
+     * and {@link RenderPacing#UNCAPPED} it renders in every iteration and only waits for the next tick, so the render
+     * call itself, i.e. a blocking buffer swap, decides the frame rate. Ticks are scheduled the same way in every mode.
+     * Enabling the swap interval for vsync is up to the owner of the window.
+     *
+     * @param renderPacing the render pacing. Cant be null.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setRenderPacing(RenderPacing renderPacing)
+    {
+        this.renderPacing = Objects.requireNonNull(renderPacing, "renderPacing cant be null");
+    }
+
+    /**
+     * Gets what paces the render calls of this loop.
+     *
+     * @return the render pacing
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderPacing getRenderPacing()
+    {
+        return this.renderPacing;
+    }
+
+    /**
+     * Gets the controller that adjusts the tick interval to hit the desired tick rate.
+     * <p>
+     * It is recreated with default gains whenever the {@link #setTickRate(int) tick rate} is set for the first time.
+     *
+     * @return the tick rate controller.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RateController getTickRateController()
+    {
+        return this.tickRateController;
+    }
+
+    /**
+     * Gets the controller that adjusts the render interval to hit the desired, possibly degraded, frame rate.
+     *
+     * @return the render rate controller.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RateController getRenderRateController()
+    {
+        return this.renderRateController;
+    }
+
+    /**
+     * Sets the policy that lowers the frame rate while ticks are over budget.
+     * <p>
+     * By default no policy is set and the loop always aims for the desired frame rate.
+     *
+     * @param renderDegradation the policy, or null to always aim for the desired frame rate.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setRenderDegradation(RenderDegradation renderDegradation)
+    {
+        this.renderDegradation = renderDegradation;
+
+        if (renderDegradation == null)
+        {
+            this.renderRateController.setTargetRate(this.desiredFramesPerSecond);
+        }
+    }
+
+    /**
+     * Gets the policy that lowers the frame rate while ticks are over budget.
+     *
+     * @return the policy or null if the frame rate is never degraded.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderDegradation getRenderDegradation()
+    {
+        return this.renderDegradation;
+    }
+
+    /**
+     * Runs the render consumer with the current interpolation alpha if one is set, otherwise runs the render runnable if it is not null.
      *
      * @author Lukas Hartwig
      * @since 28.10.2021
      */
     protected void runRender()
     {
-        Null.checkRun(this.render);
+        long start = this.clock.nanoTime();
+
+        if (this.interpolatedRender != null)
+        {
+            this.interpolatedRender.accept(this.interpolationAlpha);
+        }
+        else
+        {
+            Null.checkRun(this.render);
+        }
+
+        this.metrics.getRenderTimes().record(this.clock.nanoTime() - start);
     }
 
     /**
@@ -349,7 +716,9 @@ public class GameLoop implements Killable, Runnable
      */
     protected void runTick(double delta)
     {
+        long start = this.clock.nanoTime();
         Null.checkConsume(this.tick, delta);
+        this.metrics.getTickTimes().record(this.clock.nanoTime() - start);
     }
 
     /**
@@ -362,10 +731,10 @@ public class GameLoop implements Killable, Runnable
      */
     protected void loop()
     {
-        // the current JVM nano time
-        long currentNanoTime = System.nanoTime();
+        // the current nano time of the clock
+        long currentNanoTime = this.clock.nanoTime();
 
-        // the JVM nano time of the previous iteration
+        // the nano time of the previous iteration
         long lastNanoTime = currentNanoTime;
 
         // accumulated delta between render calls
@@ -386,11 +755,19 @@ public class GameLoop implements Killable, Runnable
         // accumulated delta between frame and tick rate checks
         long rateCheckDeltaSum = 0;
 
+        // the nano time at the start of the previous render call
+        long lastRenderNanoTime = -1;
+
         while (this.running)
         {
             // wait until the next action
             // either tick or render
-            currentNanoTime = sync(Math.min(this.tickInterval - tickDeltaSum, this.renderInterval - renderDeltaSum));
+            long syncStart = this.clock.nanoTime();
+            // without internal pacing the render call is not waited for, it paces itself or not at all
+            boolean pacedRendering = this.renderPacing == RenderPacing.INTERNAL;
+            long renderWait = pacedRendering ? this.renderInterval - renderDeltaSum : 0;
+            currentNanoTime = sync(Math.min(this.tickInterval - tickDeltaSum, renderWait));
+            this.metrics.getSyncTimes().record(currentNanoTime - syncStart);
 
             // calculate delta to last iteration
             nanoDelta = currentNanoTime - lastNanoTime;
@@ -400,8 +777,32 @@ public class GameLoop implements Killable, Runnable
             renderDeltaSum += nanoDelta;
             rateCheckDeltaSum += nanoDelta;
 
+            if (this.fixedTimestep)
+            {
+                int catchUpTicks = 0;
+
+                // run as many fixed ticks as fit into the accumulated time
+                while (tickDeltaSum >= this.tickInterval && catchUpTicks < this.maxCatchUpTicks && this.running)
+                {
+                    this.delta = 1.0 / this.desiredTicksPerSecond;
+                    tickDeltaSum -= this.tickInterval;
+
+                    runTick(this.delta);
+
+                    ticks++;
+                    catchUpTicks++;
+                }
+
+                // drop whatever could not be caught up to avoid a spiral of ever growing backlogs
+                if (tickDeltaSum >= this.tickInterval)
+                {
+                    tickDeltaSum %= this.tickInterval;
+                }
+
+                this.interpolationAlpha = (double)tickDeltaSum / this.tickInterval;
+            }
             // check if tick call has to be executed
-            if (tickDeltaSum >= this.tickInterval)
+            else if (tickDeltaSum >= this.tickInterval)
             {
                 // convert tickDeltaSum to seconds
                 this.delta = (double)tickDeltaSum / GameLoop.NANO_TO_BASE;
@@ -414,8 +815,17 @@ public class GameLoop implements Killable, Runnable
             }
 
             // check if render call has to be executed
-            if (renderDeltaSum >= this.renderInterval)
+            if (!pacedRendering || renderDeltaSum >= this.renderInterval)
             {
+                long renderNanoTime = this.clock.nanoTime();
+
+                if (lastRenderNanoTime >= 0)
+                {
+                    this.metrics.getFrameTimes().record(renderNanoTime - lastRenderNanoTime);
+                }
+
+                lastRenderNanoTime = renderNanoTime;
+
                 runRender();
                 renderDeltaSum = 0;
 
@@ -426,17 +836,25 @@ public class GameLoop implements Killable, Runnable
             // check if frame and tick rate need to be recalculated and adjusted
             if (rateCheckDeltaSum >= this.rateCheckInterval)
             {
-                // estimate current frames per second
-                this.currentFramesPerSecond = (int)(frames / (rateCheckDeltaSum / GameLoop.NANO_TO_BASE));
+                this.rateCheckWindow = rateCheckDeltaSum / GameLoop.NANO_TO_BASE;
+
+                // estimate current frames and ticks per second
+                this.currentFramesPerSecond = (int)(frames / this.rateCheckWindow);
                 frames = 0;
+                this.currentTicksPerSecond = (int)(ticks / this.rateCheckWindow);
+                ticks = 0;
+
                 adjustRenderInterval();
 
-                // estimate current ticks per second
-                this.currentTicksPerSecond = (int)(ticks / (rateCheckDeltaSum / GameLoop.NANO_TO_BASE));
-                ticks = 0;
-                adjustTickInterval();
+                // the accumulator of the fixed timestep mode already keeps the tick rate exact
+                if (!this.fixedTimestep)
+                {
+                    adjustTickInterval();
+                }
 
                 Null.checkConsume(this.onFpsUpdate, this.currentFramesPerSecond);
+                Null.checkConsume(this.onMetricsUpdate, this.metrics);
+                this.metrics.reset();
 
                 rateCheckDeltaSum = 0;
             }
@@ -444,33 +862,79 @@ public class GameLoop implements Killable, Runnable
     }
 
     /**
-     * Calculates the difference between the current ticks per second and the desired ticks per second.
-     * If there is a difference then the tick interval is adjusted by ({@link #intervalCorrection} * tick difference) in an attempt to remove the gap.
+     * Adjusts the tick interval after a rate check window so that the measured tick rate converges on the desired one.
+     * <p>
+     * Calls {@link #adjustTickInterval(double)} with the length of the last window.
      *
      * @author Lukas Hartwig
      * @since 30.10.2021
      */
     protected void adjustTickInterval()
     {
-        long tickDiff = this.currentTicksPerSecond - this.desiredTicksPerSecond;
-        this.tickInterval += tickDiff * this.intervalCorrection;
+        adjustTickInterval(this.rateCheckWindow);
+    }
+
+    /**
+     * Lets the {@link #tickRateController} compute the next tick interval from the current ticks per second.
+     *
+     * @param windowSeconds the length of the rate check window in seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void adjustTickInterval(double windowSeconds)
+    {
+        this.tickInterval = this.tickRateController.update(this.currentTicksPerSecond, windowSeconds);
     }
 
     /**
-     * Calculates the difference between the current frames per second and the desired frames per second.
-     * If there is a difference then the render interval is adjusted by ({@link #intervalCorrection} * frame difference) in an attempt to remove the gap.
+     * Adjusts the render interval after a rate check window so that the measured frame rate converges on the desired one.
+     * <p>
+     * Calls {@link #adjustRenderInterval(double)} with the length of the last window.
      *
      * @author Lukas Hartwig
      * @since 30.10.2021
      */
     protected void adjustRenderInterval()
     {
-        long frameDiff = this.currentFramesPerSecond - this.desiredFramesPerSecond;
-        this.renderInterval += frameDiff * this.intervalCorrection;
+        adjustRenderInterval(this.rateCheckWindow);
+    }
+
+    /**
+     * Lets the {@link #renderDegradation} decide on the frame rate for the next window and the {@link #renderRateController}
+     * compute the render interval that reaches it.
+     *
+     * @param windowSeconds the length of the rate check window in seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void adjustRenderInterval(double windowSeconds)
+    {
+        // the frame rate is not controlled by the loop
+        if (this.renderPacing != RenderPacing.INTERNAL)
+        {
+            return;
+        }
+
+        if (this.renderDegradation != null)
+        {
+            int frameRate = this.renderDegradation.update(this.metrics,
+                                                          this.desiredTicksPerSecond,
+                                                          this.currentTicksPerSecond,
+                                                          this.desiredFramesPerSecond);
+
+            if (frameRate != this.renderRateController.getTargetRate())
+            {
+                this.renderRateController.setTargetRate(frameRate);
+            }
+        }
+
+        this.renderInterval = this.renderRateController.update(this.currentFramesPerSecond, windowSeconds);
     }
 
     /**
-     * Sleeps until the given amount of nano seconds has passed.
+     * Waits until the given amount of nano seconds has passed by using the set {@link #pacing} strategy.
      *
      * @param duration The nano time that should be waited.
      *
@@ -481,25 +945,71 @@ public class GameLoop implements Killable, Runnable
      */
     protected long sync(long duration)
     {
-        long current = 0;
+        return this.pacing.sync(duration);
+    }
 
-        // do we need to wait at all?
-        if (duration > 0)
-        {
-            long start = System.nanoTime();
-            ThrowRunnable sleep = () -> Thread.sleep(1);
+    /**
+     * Sets the strategy that decides how the loop waits between its tick and render calls.
+     * <p>
+     * The default is a {@link ParkSpinPacing} which hits its deadlines within a few micro seconds.
+     * A {@link bt2d.core.loop.pacing.SleepPacing} uses less CPU time but overshoots by up to a milli second.
+     * The strategy is switched to the {@link #setClock(Clock) clock} of this loop.
+     *
+     * @param pacing the pacing strategy. Cant be null.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setPacingStrategy(PacingStrategy pacing)
+    {
+        this.pacing = Objects.requireNonNull(pacing, "pacing cant be null");
+        this.pacing.setClock(this.clock);
+    }
 
-            while ((current = System.nanoTime()) - start < duration)
-            {
-                Exceptions.ignoreThrow(sleep);
-            }
-        }
-        else
-        {
-            current = System.nanoTime();
-        }
+    /**
+     * Sets the source of time for this loop and its pacing strategy.
+     * <p>
+     * The default {@link SystemClock} runs in real time. A {@link bt2d.core.loop.clock.ManualClock} or
+     * {@link bt2d.core.loop.clock.ScaledClock} runs the loop faster than real time with the same tick semantics.
+     * This has to be set before the loop is started.
+     *
+     * @param clock the clock. Cant be null.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setClock(Clock clock)
+    {
+        this.clock = Objects.requireNonNull(clock, "clock cant be null");
+        this.pacing.setClock(clock);
+    }
+
+    /**
+     * Gets the source of time for this loop.
+     *
+     * @return the clock
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public Clock getClock()
+    {
+        return this.clock;
+    }
 
-        return current;
+    /**
+     * Gets the strategy that decides how the loop waits between its tick and render calls.
+     * <p>
+     * Its {@link PacingStrategy#getJitterStats() jitter statistics} show how precisely the loop hits its deadlines.
+     *
+     * @return the pacing strategy.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public PacingStrategy getPacingStrategy()
+    {
+        return this.pacing;
     }
 
     /**
@@ -0,0 +1,167 @@
+package bt2d.core.loop;
+
+import bt.utils.Null;
+import bt2d.core.loop.clock.Clock;
+import bt2d.core.loop.clock.ManualClock;
+import bt2d.core.loop.clock.ScaledClock;
+import bt2d.core.loop.pacing.ParkSpinPacing;
+
+import java.util.function.Consumer;
+
+/**
+ * Runs a {@link GameLoop} on the calling thread without a window for a given number of ticks.
+ * <p>
+ * The loop uses the given {@link Clock}, so with a {@link ManualClock} it runs as fast as possible while ticks see
+ * the same deltas as in real time, and with a {@link ScaledClock} it runs at a fixed multiple of real time.
+ * <p>
+ * Usage:
+ * <pre>
+ *     HeadlessRunner runner = HeadlessRunner.unthrottled(match::tick, null);
+ *     runner.getLoop().setTickRate(60);
+ *     runner.getLoop().setFixedTimestep(true);
+ *
+ *     // simulate a 10 minute match
+ *     runner.runTicks(60 * 60 * 10);
+ * </pre>
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class HeadlessRunner
+{
+    /**
+     * The loop that is run.
+     */
+    protected final GameLoop loop;
+
+    /**
+     * The tick consumer of the simulation.
+     */
+    protected Consumer<Double> tick;
+
+    /**
+     * The number of ticks that were run so far.
+     */
+    protected long ticks;
+
+    /**
+     * The tick count at which the current run stops.
+     */
+    protected long targetTicks;
+
+    /**
+     * Instantiates a new HeadlessRunner.
+     *
+     * @param tick   Callback for tick calls.
+     * @param render Callback for render calls. May be null to only tick.
+     * @param clock  the clock that the loop uses.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public HeadlessRunner(Consumer<Double> tick, Runnable render, Clock clock)
+    {
+        this.tick = tick;
+        this.loop = new GameLoop(this::runTick, render);
+        this.loop.setClock(clock);
+
+        // clocks that do not really sleep do not overshoot, so spinning would only waste iterations
+        this.loop.setPacingStrategy(new ParkSpinPacing(clock, 0));
+    }
+
+    /**
+     * Creates a runner that runs as fast as possible on a {@link ManualClock}.
+     *
+     * @param tick   Callback for tick calls.
+     * @param render Callback for render calls. May be null to only tick.
+     *
+     * @return the runner
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static HeadlessRunner unthrottled(Consumer<Double> tick, Runnable render)
+    {
+        return new HeadlessRunner(tick, render, new ManualClock());
+    }
+
+    /**
+     * Creates a runner that runs at the given multiple of real time on a {@link ScaledClock}.
+     *
+     * @param tick   Callback for tick calls.
+     * @param render Callback for render calls. May be null to only tick.
+     * @param scale  the factor by which the loop runs faster than real time.
+     *
+     * @return the runner
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static HeadlessRunner scaled(Consumer<Double> tick, Runnable render, double scale)
+    {
+        return new HeadlessRunner(tick, render, new ScaledClock(scale));
+    }
+
+    /**
+     * Runs the loop on the calling thread until the given number of ticks was executed.
+     *
+     * @param count the number of ticks to run.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void runTicks(long count)
+    {
+        if (count <= 0)
+        {
+            return;
+        }
+
+        this.targetTicks = this.ticks + count;
+        this.loop.run();
+    }
+
+    /**
+     * Gets the loop of this runner to configure rates, the timestep mode or listeners.
+     *
+     * @return the loop
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public GameLoop getLoop()
+    {
+        return this.loop;
+    }
+
+    /**
+     * Gets the number of ticks that were run so far.
+     *
+     * @return the tick count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getTickCount()
+    {
+        return this.ticks;
+    }
+
+    /**
+     * Runs the tick of the simulation and stops the loop once the target tick count is reached.
+     *
+     * @param delta the delta since the last tick call in seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void runTick(double delta)
+    {
+        Null.checkConsume(this.tick, delta);
+
+        if (++this.ticks >= this.targetTicks)
+        {
+            this.loop.kill();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package bt2d.core.loop;
+
+/**
+ * Defines what decides when a {@link GameLoop} renders. Ticks are scheduled the same way in every mode.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public enum RenderPacing
+{
+    /**
+     * The loop waits between render calls itself to hit its {@link GameLoop#setFrameRate(int) frame rate}.
+     */
+    INTERNAL,
+
+    /**
+     * The loop renders whenever it has nothing else to do and relies on the buffer swap blocking until the next
+     * vertical blank of the display, so the frame rate follows the refresh rate of the display.
+     */
+    VSYNC,
+
+    /**
+     * The loop renders whenever it has nothing else to do without any waiting, i.e. for benchmarks.
+     */
+    UNCAPPED
+}
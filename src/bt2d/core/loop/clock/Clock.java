@@ -0,0 +1,40 @@
+package bt2d.core.loop.clock;
+
+/**
+ * The source of time and waiting for a {@link bt2d.core.loop.GameLoop} and its pacing.
+ * <p>
+ * Replacing the {@link SystemClock} allows running time based logic faster than real time or completely deterministic.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public interface Clock
+{
+    /**
+     * Gets the current time of this clock in nano seconds. Only the difference between two values is meaningful.
+     *
+     * @return the current nano time.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long nanoTime();
+
+    /**
+     * Blocks the calling thread for about the given time. The actual time may be longer.
+     *
+     * @param nanos the nano seconds to wait.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void parkNanos(long nanos);
+
+    /**
+     * Called repeatedly while busy waiting for a short time.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void onSpinWait();
+}
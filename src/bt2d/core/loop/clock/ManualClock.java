@@ -0,0 +1,102 @@
+package bt2d.core.loop.clock;
+
+/**
+ * A {@link Clock} that only advances when it is told to, i.e. by waiting on it.
+ * <p>
+ * Parking advances the clock by the parked time and returns immediately, so a {@link bt2d.core.loop.GameLoop} using
+ * this clock runs as fast as the machine allows while seeing exactly the same time steps as in real time.
+ * Time spent inside of ticks and renders is not counted, which makes runs fully deterministic.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ManualClock implements Clock
+{
+    /**
+     * The current time of this clock in nano seconds.
+     */
+    protected volatile long time;
+
+    /**
+     * The nano seconds that a single {@link #onSpinWait()} call advances the clock.
+     */
+    protected long spinStep;
+
+    /**
+     * Instantiates a new ManualClock starting at 0 that advances by 1 micro second per spin.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ManualClock()
+    {
+        this(0, 1_000);
+    }
+
+    /**
+     * Instantiates a new ManualClock.
+     *
+     * @param startTime the initial nano time.
+     * @param spinStep  the nano seconds that a single {@link #onSpinWait()} call advances the clock. Has to be above 0.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ManualClock(long startTime, long spinStep)
+    {
+        if (spinStep <= 0)
+        {
+            throw new IllegalArgumentException("spinStep has to be above 0");
+        }
+
+        this.time = startTime;
+        this.spinStep = spinStep;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param nanos the nano seconds to advance. Negative values are ignored.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void advance(long nanos)
+    {
+        if (nanos > 0)
+        {
+            this.time += nanos;
+        }
+    }
+
+    /**
+     * @see Clock#nanoTime()
+     */
+    @Override
+    public long nanoTime()
+    {
+        return this.time;
+    }
+
+    /**
+     * Advances the clock by the given time without blocking.
+     *
+     * @see Clock#parkNanos(long)
+     */
+    @Override
+    public void parkNanos(long nanos)
+    {
+        advance(nanos);
+    }
+
+    /**
+     * Advances the clock by the spin step without blocking.
+     *
+     * @see Clock#onSpinWait()
+     */
+    @Override
+    public void onSpinWait()
+    {
+        advance(this.spinStep);
+    }
+}
@@ -0,0 +1,86 @@
+package bt2d.core.loop.clock;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link Clock} that runs a fixed multiple faster (or slower) than real time.
+ * <p>
+ * Unlike the {@link ManualClock}, time spent inside of ticks and renders is counted (scaled as well), so a loop
+ * using this clock behaves like a real time loop on a proportionally faster machine.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ScaledClock implements Clock
+{
+    /**
+     * The real nano time at which this clock was created.
+     */
+    protected final long origin;
+
+    /**
+     * The factor by which this clock runs faster than real time.
+     */
+    protected final double scale;
+
+    /**
+     * Instantiates a new ScaledClock.
+     *
+     * @param scale the factor by which this clock runs faster than real time, i.e. 50 for 50x real time. Has to be above 0.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ScaledClock(double scale)
+    {
+        if (scale <= 0)
+        {
+            throw new IllegalArgumentException("scale has to be above 0");
+        }
+
+        this.origin = System.nanoTime();
+        this.scale = scale;
+    }
+
+    /**
+     * @see Clock#nanoTime()
+     */
+    @Override
+    public long nanoTime()
+    {
+        return (long)((System.nanoTime() - this.origin) * this.scale);
+    }
+
+    /**
+     * Parks for the real time that corresponds to the given scaled time.
+     *
+     * @see Clock#parkNanos(long)
+     */
+    @Override
+    public void parkNanos(long nanos)
+    {
+        LockSupport.parkNanos((long)(nanos / this.scale));
+    }
+
+    /**
+     * @see Clock#onSpinWait()
+     */
+    @Override
+    public void onSpinWait()
+    {
+        Thread.onSpinWait();
+    }
+
+    /**
+     * Gets the factor by which this clock runs faster than real time.
+     *
+     * @return the scale
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getScale()
+    {
+        return this.scale;
+    }
+}
@@ -0,0 +1,41 @@
+package bt2d.core.loop.clock;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link Clock} based on {@link System#nanoTime()} that really waits.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class SystemClock implements Clock
+{
+    /**
+     * @see Clock#nanoTime()
+     */
+    @Override
+    public long nanoTime()
+    {
+        return System.nanoTime();
+    }
+
+    /**
+     * Parks the calling thread via {@link LockSupport#parkNanos(long)}.
+     *
+     * @see Clock#parkNanos(long)
+     */
+    @Override
+    public void parkNanos(long nanos)
+    {
+        LockSupport.parkNanos(nanos);
+    }
+
+    /**
+     * @see Clock#onSpinWait()
+     */
+    @Override
+    public void onSpinWait()
+    {
+        Thread.onSpinWait();
+    }
+}
@@ -0,0 +1,108 @@
+package bt2d.core.loop.metrics;
+
+/**
+ * The per call timings of a {@link bt2d.core.loop.GameLoop} during one rate check window.
+ * <p>
+ * Unlike the averaged frame rate these keep the distribution of the durations, so a single long frame shows up in
+ * the {@link TimeHistogram#getMax() maximum} and the high percentiles instead of disappearing in the average.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class FrameMetrics
+{
+    /**
+     * The durations of the tick calls.
+     */
+    protected final TimeHistogram tickTimes = new TimeHistogram();
+
+    /**
+     * The durations of the render calls.
+     */
+    protected final TimeHistogram renderTimes = new TimeHistogram();
+
+    /**
+     * The time that the loop spent waiting per iteration.
+     */
+    protected final TimeHistogram syncTimes = new TimeHistogram();
+
+    /**
+     * The time between the starts of two consecutive render calls.
+     */
+    protected final TimeHistogram frameTimes = new TimeHistogram();
+
+    /**
+     * Gets the durations of the tick calls.
+     *
+     * @return the tick time histogram
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TimeHistogram getTickTimes()
+    {
+        return this.tickTimes;
+    }
+
+    /**
+     * Gets the durations of the render calls.
+     *
+     * @return the render time histogram
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TimeHistogram getRenderTimes()
+    {
+        return this.renderTimes;
+    }
+
+    /**
+     * Gets the time that the loop spent waiting per iteration.
+     *
+     * @return the sync time histogram
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TimeHistogram getSyncTimes()
+    {
+        return this.syncTimes;
+    }
+
+    /**
+     * Gets the time between the starts of two consecutive render calls, which is the frame time that a player notices.
+     *
+     * @return the frame time histogram
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TimeHistogram getFrameTimes()
+    {
+        return this.frameTimes;
+    }
+
+    /**
+     * Removes all recorded values from all histograms.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void reset()
+    {
+        this.tickTimes.reset();
+        this.renderTimes.reset();
+        this.syncTimes.reset();
+        this.frameTimes.reset();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "FrameMetrics[frame=" + this.frameTimes
+                + ", tick=" + this.tickTimes
+                + ", render=" + this.renderTimes
+                + ", sync=" + this.syncTimes + "]";
+    }
+}
@@ -0,0 +1,189 @@
+package bt2d.core.loop.metrics;
+
+import java.util.Arrays;
+
+/**
+ * The phase timings of a single tick that exceeded the budget of a {@link TickWatchdog}.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class SlowTickTrace
+{
+    /**
+     * The names of the phases.
+     */
+    protected final String[] phaseNames;
+
+    /**
+     * The durations of the phases in nano seconds, in the same order as {@link #phaseNames}.
+     */
+    protected final long[] phaseNanos;
+
+    /**
+     * The duration of the whole tick in nano seconds.
+     */
+    protected final long totalNanos;
+
+    /**
+     * The budget that was exceeded in nano seconds.
+     */
+    protected final long budgetNanos;
+
+    /**
+     * The stack of the ticking thread at the moment the budget was exceeded, or null if none was sampled.
+     */
+    protected final StackTraceElement[] stackSample;
+
+    /**
+     * Instantiates a new SlowTickTrace.
+     *
+     * @param phaseNames  the names of the phases.
+     * @param phaseNanos  the durations of the phases in nano seconds. The array is copied.
+     * @param totalNanos  the duration of the whole tick in nano seconds.
+     * @param budgetNanos the budget that was exceeded in nano seconds.
+     * @param stackSample the stack of the ticking thread while it was over budget, may be null.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public SlowTickTrace(String[] phaseNames, long[] phaseNanos, long totalNanos, long budgetNanos, StackTraceElement[] stackSample)
+    {
+        this.phaseNames = phaseNames;
+        this.phaseNanos = phaseNanos.clone();
+        this.totalNanos = totalNanos;
+        this.budgetNanos = budgetNanos;
+        this.stackSample = stackSample;
+    }
+
+    /**
+     * Gets the number of phases.
+     *
+     * @return the phase count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getPhaseCount()
+    {
+        return this.phaseNanos.length;
+    }
+
+    /**
+     * Gets the name of the phase with the given index.
+     *
+     * @param phase the index of the phase.
+     *
+     * @return the name
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public String getPhaseName(int phase)
+    {
+        return this.phaseNames[phase];
+    }
+
+    /**
+     * Gets the duration of the phase with the given index.
+     *
+     * @param phase the index of the phase.
+     *
+     * @return the duration in nano seconds, 0 if the phase did not run.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getPhaseNanos(int phase)
+    {
+        return this.phaseNanos[phase];
+    }
+
+    /**
+     * Gets the index of the phase that took the longest.
+     *
+     * @return the index of the slowest phase.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getSlowestPhase()
+    {
+        int slowest = 0;
+
+        for (int i = 1; i < this.phaseNanos.length; i++)
+        {
+            if (this.phaseNanos[i] > this.phaseNanos[slowest])
+            {
+                slowest = i;
+            }
+        }
+
+        return slowest;
+    }
+
+    /**
+     * Gets the duration of the whole tick.
+     *
+     * @return the duration in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getTotalNanos()
+    {
+        return this.totalNanos;
+    }
+
+    /**
+     * Gets the budget that was exceeded.
+     *
+     * @return the budget in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getBudgetNanos()
+    {
+        return this.budgetNanos;
+    }
+
+    /**
+     * Gets the stack of the ticking thread at the moment the budget was exceeded.
+     *
+     * @return the stack sample or null if {@link TickWatchdog#setStackSampling(boolean) stack sampling} is disabled
+     * or the sampler did not catch the tick in time.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public StackTraceElement[] getStackSample()
+    {
+        return this.stackSample;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Slow tick: %.3fms (budget %.3fms) [", this.totalNanos / 1e6, this.budgetNanos / 1e6));
+
+        for (int i = 0; i < this.phaseNanos.length; i++)
+        {
+            builder.append(i == 0 ? "" : ", ")
+                   .append(this.phaseNames[i])
+                   .append(String.format("=%.3fms", this.phaseNanos[i] / 1e6));
+        }
+
+        builder.append(']');
+
+        if (this.stackSample != null)
+        {
+            Arrays.stream(this.stackSample).forEach(element -> builder.append(System.lineSeparator())
+                                                                      .append("\tat ")
+                                                                      .append(element));
+        }
+
+        return builder.toString();
+    }
+}
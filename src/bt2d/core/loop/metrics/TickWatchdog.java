@@ -0,0 +1,285 @@
+package bt2d.core.loop.metrics;
+
+import bt.log.Log;
+import bt.types.Killable;
+
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Measures the phases of every tick and reports a {@link SlowTickTrace} for ticks that exceed a budget.
+ * <p>
+ * The ticking thread calls {@link #begin()} at the start of a tick, {@link #lap(int)} after every phase and
+ * {@link #end()} at the end. A lap is one {@link System#nanoTime()} call and an array write, so the overhead of a
+ * tick that stays within budget is a clock read per phase. Only slow ticks allocate their trace.
+ * <p>
+ * If {@link #setStackSampling(boolean) stack sampling} is enabled a daemon thread additionally captures the stack of
+ * the ticking thread once per tick while it is over budget, which shows what the tick was busy with at that moment.
+ * <p>
+ * Usage:
+ * <pre>
+ *     TickWatchdog watchdog = new TickWatchdog(TimeUnit.MILLISECONDS.toNanos(10), "input", "scene");
+ *
+ *     watchdog.begin();
+ *     input.check();
+ *     watchdog.lap(0);
+ *     scene.tick(delta);
+ *     watchdog.lap(1);
+ *     watchdog.end();
+ * </pre>
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class TickWatchdog implements Killable
+{
+    /**
+     * The names of the phases.
+     */
+    protected final String[] phaseNames;
+
+    /**
+     * The durations of the phases of the current tick in nano seconds.
+     */
+    protected final long[] phaseNanos;
+
+    /**
+     * The maximum duration of a tick in nano seconds.
+     */
+    protected volatile long budgetNanos;
+
+    /**
+     * The start of the current tick, or -1 outside of a tick. Read by the sampler thread.
+     */
+    protected volatile long tickStart = -1;
+
+    /**
+     * The end of the last phase of the current tick.
+     */
+    protected long lapStart;
+
+    /**
+     * The thread that runs the ticks.
+     */
+    protected volatile Thread tickThread;
+
+    /**
+     * The stack that was sampled for the tick that started at {@link #sampledTickStart}.
+     */
+    protected volatile StackTraceElement[] stackSample;
+
+    /**
+     * The start of the tick that {@link #stackSample} belongs to.
+     */
+    protected volatile long sampledTickStart = -1;
+
+    /**
+     * The thread that samples the stacks of slow ticks, null if stack sampling is disabled.
+     */
+    protected Thread sampler;
+
+    /**
+     * Indicates whether the {@link #sampler} should keep running.
+     */
+    protected volatile boolean sampling;
+
+    /**
+     * Receives the traces of slow ticks.
+     */
+    protected Consumer<SlowTickTrace> onSlowTick = trace -> Log.warn(trace.toString());
+
+    /**
+     * Instantiates a new TickWatchdog.
+     *
+     * @param budgetNanos the maximum duration of a tick in nano seconds.
+     * @param phaseNames  the names of the phases in the order of their indices.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TickWatchdog(long budgetNanos, String... phaseNames)
+    {
+        setBudget(budgetNanos);
+        this.phaseNames = phaseNames.clone();
+        this.phaseNanos = new long[phaseNames.length];
+    }
+
+    /**
+     * Starts measuring a tick. Has to be called on the ticking thread.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void begin()
+    {
+        Thread current = Thread.currentThread();
+
+        if (this.tickThread != current)
+        {
+            this.tickThread = current;
+        }
+
+        for (int i = 0; i < this.phaseNanos.length; i++)
+        {
+            this.phaseNanos[i] = 0;
+        }
+
+        this.lapStart = System.nanoTime();
+        this.tickStart = this.lapStart;
+    }
+
+    /**
+     * Ends the given phase and adds the time since the previous lap, or the begin of the tick, to it.
+     *
+     * @param phase the index of the phase that just finished.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void lap(int phase)
+    {
+        long now = System.nanoTime();
+        this.phaseNanos[phase] += now - this.lapStart;
+        this.lapStart = now;
+    }
+
+    /**
+     * Ends the tick and reports a trace if it exceeded the budget.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void end()
+    {
+        long start = this.tickStart;
+        this.tickStart = -1;
+        long total = System.nanoTime() - start;
+
+        if (start >= 0 && total > this.budgetNanos)
+        {
+            StackTraceElement[] sample = this.sampledTickStart == start ? this.stackSample : null;
+            this.onSlowTick.accept(new SlowTickTrace(this.phaseNames, this.phaseNanos, total, this.budgetNanos, sample));
+        }
+    }
+
+    /**
+     * Sets the maximum duration of a tick.
+     *
+     * @param budgetNanos the budget in nano seconds. Has to be above 0.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setBudget(long budgetNanos)
+    {
+        if (budgetNanos <= 0)
+        {
+            throw new IllegalArgumentException("budgetNanos has to be above 0");
+        }
+
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Gets the maximum duration of a tick.
+     *
+     * @return the budget in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getBudget()
+    {
+        return this.budgetNanos;
+    }
+
+    /**
+     * Defines the action that receives the traces of slow ticks. By default they are logged as a warning.
+     *
+     * @param onSlowTick the consumer. Cant be null. It is called on the ticking thread.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void onSlowTick(Consumer<SlowTickTrace> onSlowTick)
+    {
+        this.onSlowTick = Objects.requireNonNull(onSlowTick, "onSlowTick cant be null");
+    }
+
+    /**
+     * Enables or disables sampling the stack of the ticking thread while a tick is over budget.
+     * <p>
+     * Sampling runs on a daemon thread that checks the current tick four times per budget.
+     *
+     * @param enabled true to sample stacks.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public synchronized void setStackSampling(boolean enabled)
+    {
+        if (enabled && this.sampler == null)
+        {
+            this.sampling = true;
+            this.sampler = new Thread(this::sample, "TICK-WATCHDOG");
+            this.sampler.setDaemon(true);
+            this.sampler.start();
+        }
+        else if (!enabled && this.sampler != null)
+        {
+            this.sampling = false;
+            LockSupport.unpark(this.sampler);
+            this.sampler = null;
+        }
+    }
+
+    /**
+     * Indicates whether stacks of slow ticks are sampled.
+     *
+     * @return true if stack sampling is enabled.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public synchronized boolean isStackSampling()
+    {
+        return this.sampler != null;
+    }
+
+    /**
+     * The loop of the sampler thread.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void sample()
+    {
+        while (this.sampling)
+        {
+            long start = this.tickStart;
+            Thread thread = this.tickThread;
+
+            if (start >= 0 && thread != null && this.sampledTickStart != start && System.nanoTime() - start > this.budgetNanos)
+            {
+                // the sample is published before the tick it belongs to, end() reads them in the opposite order
+                this.stackSample = thread.getStackTrace();
+                this.sampledTickStart = start;
+            }
+
+            LockSupport.parkNanos(this.budgetNanos / 4);
+        }
+    }
+
+    /**
+     * Stops the stack sampler.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        setStackSampling(false);
+    }
+}
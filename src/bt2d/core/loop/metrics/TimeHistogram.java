@@ -0,0 +1,266 @@
+package bt2d.core.loop.metrics;
+
+import java.util.Arrays;
+
+/**
+ * An allocation free histogram of nano second durations with a constant relative precision, in the style of an HDR histogram.
+ * <p>
+ * Durations below {@value #LINEAR_LIMIT} ns are counted exactly. Above that every power of two is split into
+ * {@value #SUB_BUCKETS} equally sized buckets, so a recorded value is off by at most 1 / {@value #SUB_BUCKETS}
+ * (about 3%) of its size. Durations up to about 39 hours are tracked, larger ones are counted in the last bucket.
+ * The exact maximum is tracked separately.
+ * <p>
+ * Recording is a few shifts and an array increment. The histogram is not thread safe.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class TimeHistogram
+{
+    /**
+     * The number of bits that select the bucket within a power of two.
+     */
+    protected static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of buckets per power of two.
+     */
+    protected static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The limit below which values are counted exactly.
+     */
+    protected static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+
+    /**
+     * The highest power of two that is still split into buckets.
+     */
+    protected static final int MAX_EXPONENT = 46;
+
+    /**
+     * The counts of all buckets.
+     */
+    protected final long[] counts;
+
+    /**
+     * The number of recorded values.
+     */
+    protected long count;
+
+    /**
+     * The largest recorded value.
+     */
+    protected long max;
+
+    /**
+     * The sum of all recorded values.
+     */
+    protected long sum;
+
+    /**
+     * Instantiates a new empty TimeHistogram.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TimeHistogram()
+    {
+        this.counts = new long[LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS];
+    }
+
+    /**
+     * Records a single duration.
+     *
+     * @param nanos the duration in nano seconds. Negative values are counted as 0.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void record(long nanos)
+    {
+        long value = Math.max(nanos, 0);
+        this.counts[Math.min(bucketIndex(value), this.counts.length - 1)]++;
+        this.count++;
+        this.sum += value;
+
+        if (value > this.max)
+        {
+            this.max = value;
+        }
+    }
+
+    /**
+     * Gets the index of the bucket that counts the given value.
+     *
+     * @param value the non-negative value.
+     *
+     * @return the bucket index, which may exceed the number of buckets for very large values.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected static int bucketIndex(long value)
+    {
+        if (value < LINEAR_LIMIT)
+        {
+            return (int)value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int)(value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Gets the largest value that is counted by the bucket with the given index.
+     *
+     * @param index the bucket index.
+     *
+     * @return the upper bound of the bucket.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected static long bucketUpperBound(int index)
+    {
+        if (index < LINEAR_LIMIT)
+        {
+            return index;
+        }
+
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Gets the value below or at which the given percentage of all recorded values lie.
+     *
+     * @param percentile the percentile from 0 to 100, i.e. 99 for the 99th percentile.
+     *
+     * @return the percentile value in nano seconds, never above {@link #getMax()}, or 0 if nothing was recorded.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getPercentile(double percentile)
+    {
+        if (this.count == 0)
+        {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long)Math.ceil(Math.min(percentile, 100) / 100 * this.count));
+        long seen = 0;
+
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            seen += this.counts[i];
+
+            if (seen >= rank)
+            {
+                return Math.min(bucketUpperBound(i), this.max);
+            }
+        }
+
+        return this.max;
+    }
+
+    /**
+     * Gets the median.
+     *
+     * @return the 50th percentile in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getP50()
+    {
+        return getPercentile(50);
+    }
+
+    /**
+     * Gets the 95th percentile.
+     *
+     * @return the 95th percentile in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getP95()
+    {
+        return getPercentile(95);
+    }
+
+    /**
+     * Gets the 99th percentile.
+     *
+     * @return the 99th percentile in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getP99()
+    {
+        return getPercentile(99);
+    }
+
+    /**
+     * Gets the exact largest recorded value.
+     *
+     * @return the maximum in nano seconds or 0 if nothing was recorded.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getMax()
+    {
+        return this.max;
+    }
+
+    /**
+     * Gets the exact mean of all recorded values.
+     *
+     * @return the mean in nano seconds or 0 if nothing was recorded.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getMean()
+    {
+        return this.count == 0 ? 0 : (double)this.sum / this.count;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Removes all recorded values.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void reset()
+    {
+        Arrays.fill(this.counts, 0);
+        this.count = 0;
+        this.max = 0;
+        this.sum = 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("[count=%d, p50=%.3fms, p95=%.3fms, p99=%.3fms, max=%.3fms]",
+                             this.count, getP50() / 1e6, getP95() / 1e6, getP99() / 1e6, getMax() / 1e6);
+    }
+}
@@ -0,0 +1,65 @@
+package bt2d.core.loop.pacing;
+
+import bt2d.core.loop.clock.Clock;
+import bt2d.core.loop.clock.SystemClock;
+
+import static org.lwjgl.glfw.GLFW.glfwWaitEventsTimeout;
+
+/**
+ * Waits by blocking in glfwWaitEventsTimeout until the deadline, so the thread sleeps in the event queue of the
+ * operating system instead of parking or spinning and window events are processed as soon as they arrive.
+ * <p>
+ * This is meant for idle phases, i.e. while the window is minimized. Like all GLFW event processing it has to be
+ * used on the main thread.
+ * <p>
+ * The GLFW timeout runs in real time, so with any clock other than a {@link SystemClock}, i.e. a scaled or manual
+ * clock, this waits via {@link Clock#parkNanos(long)} instead and does not process events while waiting.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class EventWaitPacing extends PacingStrategy
+{
+    /**
+     * Conversion constant from nano seconds to seconds.
+     */
+    protected static final double NANO_TO_BASE = 1.0e9;
+
+    /**
+     * Instantiates a new EventWaitPacing.
+     *
+     * @param clock the clock that is used for measuring.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public EventWaitPacing(Clock clock)
+    {
+        super(clock);
+    }
+
+    /**
+     * @see PacingStrategy#waitUntil(long)
+     */
+    @Override
+    protected long waitUntil(long deadline)
+    {
+        long current;
+        boolean realTime = this.clock instanceof SystemClock;
+
+        // events wake the wait early, keep waiting for the remaining time
+        while ((current = this.clock.nanoTime()) < deadline)
+        {
+            if (realTime)
+            {
+                glfwWaitEventsTimeout((deadline - current) / NANO_TO_BASE);
+            }
+            else
+            {
+                this.clock.parkNanos(deadline - current);
+            }
+        }
+
+        return current;
+    }
+}
@@ -0,0 +1,145 @@
+package bt2d.core.loop.pacing;
+
+/**
+ * Collects how far the wake up times of a {@link PacingStrategy} deviated from their targets.
+ * <p>
+ * The deviation of a wait is the time it actually took minus the requested time, so positive values mean that the
+ * strategy overshot. Recording does not allocate. The statistics are not thread safe.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class JitterStats
+{
+    /**
+     * The number of recorded waits.
+     */
+    protected long count;
+
+    /**
+     * The running mean of the deviations in nano seconds.
+     */
+    protected double mean;
+
+    /**
+     * The running sum of squared differences from the mean (Welford).
+     */
+    protected double squaredDifferences;
+
+    /**
+     * The smallest recorded deviation in nano seconds.
+     */
+    protected long min = Long.MAX_VALUE;
+
+    /**
+     * The largest recorded deviation in nano seconds.
+     */
+    protected long max = Long.MIN_VALUE;
+
+    /**
+     * Records the deviation of a single wait.
+     *
+     * @param deviation the actual minus the requested wait time in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void record(long deviation)
+    {
+        this.count++;
+
+        double difference = deviation - this.mean;
+        this.mean += difference / this.count;
+        this.squaredDifferences += difference * (deviation - this.mean);
+
+        this.min = Math.min(this.min, deviation);
+        this.max = Math.max(this.max, deviation);
+    }
+
+    /**
+     * Gets the number of recorded waits.
+     *
+     * @return the count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Gets the mean deviation.
+     *
+     * @return the mean in nano seconds or 0 if nothing was recorded.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getMean()
+    {
+        return this.mean;
+    }
+
+    /**
+     * Gets the standard deviation of the deviations, which is the jitter of the strategy.
+     *
+     * @return the standard deviation in nano seconds or 0 if less than two waits were recorded.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getStandardDeviation()
+    {
+        return this.count < 2 ? 0 : Math.sqrt(this.squaredDifferences / (this.count - 1));
+    }
+
+    /**
+     * Gets the smallest recorded deviation.
+     *
+     * @return the minimum in nano seconds or 0 if nothing was recorded.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getMin()
+    {
+        return this.count == 0 ? 0 : this.min;
+    }
+
+    /**
+     * Gets the largest recorded deviation.
+     *
+     * @return the maximum in nano seconds or 0 if nothing was recorded.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getMax()
+    {
+        return this.count == 0 ? 0 : this.max;
+    }
+
+    /**
+     * Removes all recorded values.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void reset()
+    {
+        this.count = 0;
+        this.mean = 0;
+        this.squaredDifferences = 0;
+        this.min = Long.MAX_VALUE;
+        this.max = Long.MIN_VALUE;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("JitterStats[count=%d, mean=%.0fns, stddev=%.0fns, min=%dns, max=%dns]",
+                             this.count, this.mean, getStandardDeviation(), getMin(), getMax());
+    }
+}
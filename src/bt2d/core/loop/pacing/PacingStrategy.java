@@ -0,0 +1,114 @@
+package bt2d.core.loop.pacing;
+
+import bt2d.core.loop.clock.Clock;
+
+/**
+ * Decides how a {@link bt2d.core.loop.GameLoop} waits until its next tick or render call.
+ * <p>
+ * Every wait is measured against its target and recorded in the {@link #getJitterStats() jitter statistics},
+ * which allows comparing strategies, i.e. with a fake {@link Clock}.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public abstract class PacingStrategy
+{
+    /**
+     * The clock that is used for measuring and waiting.
+     */
+    protected Clock clock;
+
+    /**
+     * The deviations of all waits of this strategy.
+     */
+    protected final JitterStats jitterStats;
+
+    /**
+     * Instantiates a new PacingStrategy.
+     *
+     * @param clock the clock that is used for measuring and waiting.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected PacingStrategy(Clock clock)
+    {
+        this.clock = clock;
+        this.jitterStats = new JitterStats();
+    }
+
+    /**
+     * Waits until the given amount of nano seconds has passed.
+     *
+     * @param duration the nano time that should be waited. Nothing is waited if this is not above 0.
+     *
+     * @return the current nano time of the clock after the wait.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long sync(long duration)
+    {
+        long start = this.clock.nanoTime();
+
+        if (duration <= 0)
+        {
+            return start;
+        }
+
+        long end = waitUntil(start + duration);
+        this.jitterStats.record(end - start - duration);
+        return end;
+    }
+
+    /**
+     * Waits until the clock reached the given deadline.
+     *
+     * @param deadline the nano time to wait for.
+     *
+     * @return the current nano time of the clock after the wait.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected abstract long waitUntil(long deadline);
+
+    /**
+     * Gets the clock that this strategy uses.
+     *
+     * @return the clock
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public Clock getClock()
+    {
+        return this.clock;
+    }
+
+    /**
+     * Sets the clock that this strategy uses.
+     *
+     * @param clock the clock
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setClock(Clock clock)
+    {
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the deviations of all waits of this strategy.
+     *
+     * @return the jitter statistics
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public JitterStats getJitterStats()
+    {
+        return this.jitterStats;
+    }
+}
@@ -0,0 +1,137 @@
+package bt2d.core.loop.pacing;
+
+import bt2d.core.loop.clock.Clock;
+
+/**
+ * Parks the thread for the bulk of a wait and busy waits for the rest to hit the deadline precisely.
+ * <p>
+ * Parking usually wakes up later than requested. This strategy keeps a running estimate of that overshoot and ends
+ * the parking phase early enough for the estimate plus the {@link #setSpinThreshold(long) spin threshold}.
+ * The remaining time is spent in {@link Clock#onSpinWait()}. A larger threshold lowers the jitter at the cost of CPU time.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ParkSpinPacing extends PacingStrategy
+{
+    /**
+     * The default spin threshold of 200 micro seconds.
+     */
+    public static final long DEFAULT_SPIN_THRESHOLD = 200_000;
+
+    /**
+     * The weight of a new overshoot measurement in the running estimate, as a power of two divisor.
+     */
+    protected static final int ESTIMATE_SHIFT = 3;
+
+    /**
+     * The time in nano seconds before the deadline at which parking stops and spinning starts, not counting the overshoot estimate.
+     */
+    protected long spinThreshold;
+
+    /**
+     * The running estimate of how much later than requested a park returns, in nano seconds.
+     */
+    protected long overshootEstimate;
+
+    /**
+     * Instantiates a new ParkSpinPacing with the {@link #DEFAULT_SPIN_THRESHOLD}.
+     *
+     * @param clock the clock that is used for measuring and waiting.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ParkSpinPacing(Clock clock)
+    {
+        this(clock, DEFAULT_SPIN_THRESHOLD);
+    }
+
+    /**
+     * Instantiates a new ParkSpinPacing.
+     *
+     * @param clock         the clock that is used for measuring and waiting.
+     * @param spinThreshold the time in nano seconds before the deadline at which parking stops and spinning starts.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ParkSpinPacing(Clock clock, long spinThreshold)
+    {
+        super(clock);
+        setSpinThreshold(spinThreshold);
+    }
+
+    /**
+     * @see PacingStrategy#waitUntil(long)
+     */
+    @Override
+    protected long waitUntil(long deadline)
+    {
+        long current = this.clock.nanoTime();
+        long parkTime;
+
+        while ((parkTime = deadline - current - this.spinThreshold - this.overshootEstimate) > 0)
+        {
+            long before = current;
+            this.clock.parkNanos(parkTime);
+            current = this.clock.nanoTime();
+
+            // exponential moving average of the time that the park took longer than requested
+            long overshoot = Math.max(0, current - before - parkTime);
+            this.overshootEstimate += (overshoot - this.overshootEstimate) >> ESTIMATE_SHIFT;
+        }
+
+        while (current < deadline)
+        {
+            this.clock.onSpinWait();
+            current = this.clock.nanoTime();
+        }
+
+        return current;
+    }
+
+    /**
+     * Sets the time before the deadline at which parking stops and spinning starts.
+     *
+     * @param spinThreshold the threshold in nano seconds. Cant be negative.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setSpinThreshold(long spinThreshold)
+    {
+        if (spinThreshold < 0)
+        {
+            throw new IllegalArgumentException("spinThreshold cant be negative");
+        }
+
+        this.spinThreshold = spinThreshold;
+    }
+
+    /**
+     * Gets the time before the deadline at which parking stops and spinning starts.
+     *
+     * @return the threshold in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getSpinThreshold()
+    {
+        return this.spinThreshold;
+    }
+
+    /**
+     * Gets the current estimate of how much later than requested a park returns.
+     *
+     * @return the overshoot estimate in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getOvershootEstimate()
+    {
+        return this.overshootEstimate;
+    }
+}
@@ -0,0 +1,48 @@
+package bt2d.core.loop.pacing;
+
+import bt2d.core.loop.clock.Clock;
+
+/**
+ * The original pacing of the {@link bt2d.core.loop.GameLoop}. It waits in steps of one milli second until the deadline has passed.
+ * <p>
+ * This uses little CPU but overshoots the deadline by up to a milli second plus the scheduler latency.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class SleepPacing extends PacingStrategy
+{
+    /**
+     * The length of a single wait step in nano seconds.
+     */
+    protected static final long STEP = 1_000_000;
+
+    /**
+     * Instantiates a new SleepPacing.
+     *
+     * @param clock the clock that is used for measuring and waiting.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public SleepPacing(Clock clock)
+    {
+        super(clock);
+    }
+
+    /**
+     * @see PacingStrategy#waitUntil(long)
+     */
+    @Override
+    protected long waitUntil(long deadline)
+    {
+        long current;
+
+        while ((current = this.clock.nanoTime()) < deadline)
+        {
+            this.clock.parkNanos(STEP);
+        }
+
+        return current;
+    }
+}
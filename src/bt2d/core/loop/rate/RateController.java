@@ -0,0 +1,246 @@
+package bt2d.core.loop.rate;
+
+/**
+ * A proportional-integral controller that adjusts the interval between calls so that a measured rate converges on a target rate.
+ * <p>
+ * The error is the relative difference between the measured and the target rate. The proportional part reacts to the
+ * current error, the integral part removes the remaining offset that is caused by constant overhead, i.e. the time the
+ * calls themselves take. The resulting interval is clamped to a range around the ideal interval of 1 / target rate.
+ * While the output is clamped the integral stops growing in that direction (conditional integration), so the
+ * controller does not overshoot after a long overload.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class RateController
+{
+    /**
+     * Conversion constant from seconds to nano seconds.
+     */
+    protected static final double BASE_TO_NANO = 1.0e9;
+
+    /**
+     * The rate that the controller tries to reach.
+     */
+    protected double targetRate;
+
+    /**
+     * The ideal interval in nano seconds for the target rate if the calls took no time.
+     */
+    protected double baseInterval;
+
+    /**
+     * The factor applied to the relative error.
+     */
+    protected double proportionalGain = 0.3;
+
+    /**
+     * The factor applied to the integrated relative error per second.
+     */
+    protected double integralGain = 1.0;
+
+    /**
+     * The smallest interval relative to {@link #baseInterval}.
+     */
+    protected double minFactor = 0.5;
+
+    /**
+     * The largest interval relative to {@link #baseInterval}.
+     */
+    protected double maxFactor = 1.5;
+
+    /**
+     * The integrated relative error.
+     */
+    protected double integral;
+
+    /**
+     * The current output interval in nano seconds.
+     */
+    protected long interval;
+
+    /**
+     * Instantiates a new RateController.
+     *
+     * @param targetRate the rate to reach in calls per second. Has to be above 0.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RateController(double targetRate)
+    {
+        setTargetRate(targetRate);
+        this.interval = (long)this.baseInterval;
+    }
+
+    /**
+     * Sets the rate to reach. The integrated error is kept, since it mostly reflects overhead that does not depend on the target.
+     *
+     * @param targetRate the rate in calls per second. Has to be above 0.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setTargetRate(double targetRate)
+    {
+        if (targetRate <= 0)
+        {
+            throw new IllegalArgumentException("targetRate has to be above 0");
+        }
+
+        this.targetRate = targetRate;
+        this.baseInterval = BASE_TO_NANO / targetRate;
+        this.interval = clamp(this.interval);
+    }
+
+    /**
+     * Gets the rate to reach.
+     *
+     * @return the target rate in calls per second.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getTargetRate()
+    {
+        return this.targetRate;
+    }
+
+    /**
+     * Computes the next interval from the rate that was measured with the previous one.
+     *
+     * @param measuredRate the measured rate in calls per second.
+     * @param seconds      the length of the measurement window in seconds.
+     *
+     * @return the new interval in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long update(double measuredRate, double seconds)
+    {
+        // positive if the calls happen too often, which requires a longer interval
+        double error = (measuredRate - this.targetRate) / this.targetRate;
+        double integral = this.integral + error * seconds;
+        double factor = 1 + this.proportionalGain * error + this.integralGain * integral;
+
+        // only integrate if that does not push a saturated output further into saturation
+        if (!(factor > this.maxFactor && error > 0) && !(factor < this.minFactor && error < 0))
+        {
+            this.integral = integral;
+        }
+
+        factor = 1 + this.proportionalGain * error + this.integralGain * this.integral;
+        this.interval = clamp((long)(this.baseInterval * factor));
+        return this.interval;
+    }
+
+    /**
+     * Clamps the given interval to the allowed range around the {@link #baseInterval}.
+     *
+     * @param interval the interval in nano seconds.
+     *
+     * @return the clamped interval.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected long clamp(long interval)
+    {
+        return Math.max((long)(this.baseInterval * this.minFactor), Math.min((long)(this.baseInterval * this.maxFactor), interval));
+    }
+
+    /**
+     * Gets the interval that was computed by the last {@link #update(double, double)}.
+     *
+     * @return the interval in nano seconds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getInterval()
+    {
+        return this.interval;
+    }
+
+    /**
+     * Forgets the integrated error and returns to the ideal interval.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void reset()
+    {
+        this.integral = 0;
+        this.interval = (long)this.baseInterval;
+    }
+
+    /**
+     * Sets the gains of the controller.
+     * <p>
+     * Larger gains converge faster but overshoot and oscillate more, especially with few rate checks per second.
+     *
+     * @param proportionalGain the factor applied to the relative error. Cant be negative.
+     * @param integralGain     the factor applied to the integrated relative error per second. Cant be negative.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setGains(double proportionalGain, double integralGain)
+    {
+        if (proportionalGain < 0 || integralGain < 0)
+        {
+            throw new IllegalArgumentException("Gains cant be negative");
+        }
+
+        this.proportionalGain = proportionalGain;
+        this.integralGain = integralGain;
+    }
+
+    /**
+     * Gets the factor applied to the relative error.
+     *
+     * @return the proportional gain
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getProportionalGain()
+    {
+        return this.proportionalGain;
+    }
+
+    /**
+     * Gets the factor applied to the integrated relative error per second.
+     *
+     * @return the integral gain
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getIntegralGain()
+    {
+        return this.integralGain;
+    }
+
+    /**
+     * Sets the range of the interval relative to the ideal interval of 1 / target rate.
+     *
+     * @param minFactor the smallest allowed factor. Has to be above 0.
+     * @param maxFactor the largest allowed factor. Cant be below minFactor.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setLimits(double minFactor, double maxFactor)
+    {
+        if (minFactor <= 0 || maxFactor < minFactor)
+        {
+            throw new IllegalArgumentException("Limits have to satisfy 0 < minFactor <= maxFactor");
+        }
+
+        this.minFactor = minFactor;
+        this.maxFactor = maxFactor;
+        this.interval = clamp(this.interval);
+    }
+}
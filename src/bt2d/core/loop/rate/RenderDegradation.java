@@ -0,0 +1,240 @@
+package bt2d.core.loop.rate;
+
+import bt.log.Log;
+import bt2d.core.loop.metrics.FrameMetrics;
+
+/**
+ * Lowers the frame rate of a {@link bt2d.core.loop.GameLoop} while its ticks are over budget, so that the time
+ * freed from rendering keeps the tick rate, and with it the simulation, on schedule.
+ * <p>
+ * A rate check window is overloaded if the 95th percentile of the tick times exceeds the given share of the tick
+ * interval, or if the measured tick rate lags behind the desired one by more than the tolerance. Every overloaded
+ * window lowers the frame rate by one step down to a minimum. After a number of healthy windows in a row the frame
+ * rate is raised by one step again, which avoids flipping between two rates.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class RenderDegradation
+{
+    /**
+     * The share of the tick interval that the 95th percentile of the tick times may use.
+     */
+    protected double tickBudget = 0.5;
+
+    /**
+     * The relative amount by which the tick rate may lag behind the desired rate.
+     */
+    protected double tickRateTolerance = 0.1;
+
+    /**
+     * The factor applied to the frame rate per step.
+     */
+    protected double step = 0.75;
+
+    /**
+     * The lowest frame rate that is degraded to.
+     */
+    protected int minFrameRate = 15;
+
+    /**
+     * The number of healthy windows in a row before the frame rate is raised again.
+     */
+    protected int recoveryWindows = 4;
+
+    /**
+     * The number of healthy windows since the last overload.
+     */
+    protected int healthyWindows;
+
+    /**
+     * The current frame rate relative to the desired frame rate.
+     */
+    protected double frameRateFactor = 1;
+
+    /**
+     * Evaluates the last rate check window and computes the frame rate for the next one.
+     *
+     * @param metrics                the timings of the last window.
+     * @param desiredTicksPerSecond  the tick rate that the loop tries to maintain.
+     * @param currentTicksPerSecond  the tick rate that was measured in the last window.
+     * @param desiredFramesPerSecond the frame rate that the loop tries to maintain without degradation.
+     *
+     * @return the frame rate to use.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int update(FrameMetrics metrics, int desiredTicksPerSecond, int currentTicksPerSecond, int desiredFramesPerSecond)
+    {
+        double tickInterval = 1.0e9 / desiredTicksPerSecond;
+        boolean overBudget = metrics.getTickTimes().getCount() > 0
+                && metrics.getTickTimes().getP95() > tickInterval * this.tickBudget;
+        boolean lagging = currentTicksPerSecond < desiredTicksPerSecond * (1 - this.tickRateTolerance);
+        double minFactor = Math.min(1, (double)this.minFrameRate / desiredFramesPerSecond);
+
+        if (overBudget || lagging)
+        {
+            this.healthyWindows = 0;
+
+            if (this.frameRateFactor > minFactor)
+            {
+                this.frameRateFactor = Math.max(minFactor, this.frameRateFactor * this.step);
+                Log.debug("Ticks over budget, degrading frame rate to {}", getFrameRate(desiredFramesPerSecond));
+            }
+        }
+        else if (this.frameRateFactor < 1 && ++this.healthyWindows >= this.recoveryWindows)
+        {
+            this.healthyWindows = 0;
+            this.frameRateFactor = Math.min(1, this.frameRateFactor / this.step);
+            Log.debug("Ticks within budget, raising frame rate to {}", getFrameRate(desiredFramesPerSecond));
+        }
+
+        return getFrameRate(desiredFramesPerSecond);
+    }
+
+    /**
+     * Applies the current degradation to the given frame rate.
+     *
+     * @param desiredFramesPerSecond the frame rate without degradation.
+     *
+     * @return the degraded frame rate, at least 1.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getFrameRate(int desiredFramesPerSecond)
+    {
+        return Math.max(1, (int)Math.round(desiredFramesPerSecond * this.frameRateFactor));
+    }
+
+    /**
+     * Indicates whether the frame rate is currently lowered.
+     *
+     * @return true if degraded.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isDegraded()
+    {
+        return this.frameRateFactor < 1;
+    }
+
+    /**
+     * Returns to the undegraded frame rate.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void reset()
+    {
+        this.frameRateFactor = 1;
+        this.healthyWindows = 0;
+    }
+
+    /**
+     * Sets the share of the tick interval that the 95th percentile of the tick times may use before rendering is degraded.
+     *
+     * @param tickBudget the budget, i.e. 0.5 for half of the tick interval. Has to be above 0.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderDegradation setTickBudget(double tickBudget)
+    {
+        if (tickBudget <= 0)
+        {
+            throw new IllegalArgumentException("tickBudget has to be above 0");
+        }
+
+        this.tickBudget = tickBudget;
+        return this;
+    }
+
+    /**
+     * Sets the relative amount by which the tick rate may lag behind the desired rate before rendering is degraded.
+     *
+     * @param tickRateTolerance the tolerance, i.e. 0.1 for 10%. Cant be negative.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderDegradation setTickRateTolerance(double tickRateTolerance)
+    {
+        if (tickRateTolerance < 0)
+        {
+            throw new IllegalArgumentException("tickRateTolerance cant be negative");
+        }
+
+        this.tickRateTolerance = tickRateTolerance;
+        return this;
+    }
+
+    /**
+     * Sets the factor that is applied to the frame rate per degradation step.
+     *
+     * @param step the factor. Has to be above 0 and below 1.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderDegradation setStep(double step)
+    {
+        if (step <= 0 || step >= 1)
+        {
+            throw new IllegalArgumentException("step has to be above 0 and below 1");
+        }
+
+        this.step = step;
+        return this;
+    }
+
+    /**
+     * Sets the lowest frame rate that is degraded to.
+     *
+     * @param minFrameRate the minimum frame rate. Has to be at least 1.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderDegradation setMinFrameRate(int minFrameRate)
+    {
+        if (minFrameRate < 1)
+        {
+            throw new IllegalArgumentException("minFrameRate has to be at least 1");
+        }
+
+        this.minFrameRate = minFrameRate;
+        return this;
+    }
+
+    /**
+     * Sets the number of healthy rate check windows in a row before the frame rate is raised by one step.
+     *
+     * @param recoveryWindows the number of windows. Has to be at least 1.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderDegradation setRecoveryWindows(int recoveryWindows)
+    {
+        if (recoveryWindows < 1)
+        {
+            throw new IllegalArgumentException("recoveryWindows has to be at least 1");
+        }
+
+        this.recoveryWindows = recoveryWindows;
+        return this;
+    }
+}
@@ -4,6 +4,10 @@ import bt.types.Killable;
 import bt2d.core.container.GameContainer;
 import bt2d.core.intf.Tickable;
 import bt2d.resource.load.intf.Loadable;
+import bt2d.utils.render.command.RenderCommandBuffer;
+import bt2d.utils.render.command.RenderLayer;
+
+import java.util.List;
 
 /**
  * A scene describes an isolated part of a game (i. e. a level, a city or a mainmenu).
@@ -63,4 +67,65 @@ public interface Scene extends Tickable, Loadable, Killable
      * @since 11.11.2021
      */
     public void render(boolean debugRendering);
-}
\ No newline at end of file
+
+    /**
+     * Renders the contents of the scene with the state interpolated between the last and the next tick.
+     * <p>
+     * This is what the game container calls every frame. In {@link bt2d.core.loop.GameLoop#setFixedTimestep(boolean) fixed timestep}
+     * mode the alpha tells how far the loop is between the last and the next tick, drawing each entity at
+     * {@code previous + (current - previous) * alpha} gives smooth movement even if the frame rate is higher than the
+     * tick rate. Outside of fixed timestep mode the alpha is always 0.
+     * <p>
+     * With {@link bt2d.core.container.settings.GameContainerSettings#getThreadedRendering() threaded rendering} this
+     * is not called, the scene has to draw through {@link #record(RenderCommandBuffer, boolean) record} or its
+     * {@link #getRenderLayers() render layers} instead.
+     *
+     * @param debugRendering     true if additional debug rendering, such as drawing hitboxes, is enabled and expected, false otherwise.
+     * @param interpolationAlpha the progress between the last and the next tick from 0 (inclusive) to 1 (exclusive).
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void render(boolean debugRendering, double interpolationAlpha);
+
+    /**
+     * Records the draw commands of this scene into the given buffer.
+     * <p>
+     * Unlike {@link #render(boolean)} this must not call OpenGL. The recorded commands are submitted by the game
+     * container afterwards, which allows recording to be done away from the thread that owns the OpenGL context.
+     *
+     * @param commands       the buffer to record into.
+     * @param debugRendering true if additional debug rendering, such as drawing hitboxes, is enabled and expected, false otherwise.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void record(RenderCommandBuffer commands, boolean debugRendering);
+
+    /**
+     * Gets the independent layers of this scene, i.e. background, entities and UI.
+     * <p>
+     * The layers are recorded in parallel after {@link #record(RenderCommandBuffer, boolean)} and their commands are
+     * merged in the order of the returned list, so later layers are drawn on top of earlier ones.
+     *
+     * @return the layers of this scene. May be empty but not null.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public List<RenderLayer> getRenderLayers();
+
+    /**
+     * Indicates whether this scene draws through {@link #record(RenderCommandBuffer, boolean) record} or its
+     * {@link #getRenderLayers() render layers}.
+     * <p>
+     * With {@link bt2d.core.container.settings.GameContainerSettings#getThreadedRendering() threaded rendering} the
+     * game container refuses to play scenes that return false, since they would not draw anything in that mode.
+     *
+     * @return true if the scene records its draw commands, false if it only draws in {@link #render(boolean, double) render}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isRecording();
+}
@@ -2,8 +2,16 @@ package bt2d.core.scene.impl;
 
 import bt.log.Log;
 import bt2d.core.container.GameContainer;
+import bt2d.core.intf.Tickable;
 import bt2d.core.scene.Scene;
+import bt2d.core.scene.system.SystemScheduler;
+import bt2d.core.scene.system.TickSystem;
 import bt2d.resource.load.exc.LoadException;
+import bt2d.utils.render.command.RenderCommandBuffer;
+import bt2d.utils.render.command.RenderLayer;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A basic implementation of the {@link Scene} interface.
@@ -17,6 +25,21 @@ public class BaseScene implements Scene
 {
     protected GameContainer gameContainer;
 
+    /**
+     * The layers of this scene in drawing order.
+     */
+    protected List<RenderLayer> renderLayers = new ArrayList<>();
+
+    /**
+     * Indicates whether this scene draws through {@link #record(RenderCommandBuffer, boolean) record}.
+     */
+    protected boolean recording;
+
+    /**
+     * Runs the systems of this scene every tick.
+     */
+    protected SystemScheduler systemScheduler = new SystemScheduler();
+
     /**
      * @see Scene#onStart()
      */
@@ -63,12 +86,100 @@ public class BaseScene implements Scene
     }
 
     /**
+     * Ignores the interpolation alpha and calls {@link #render(boolean)}.
+     *
+     * @see Scene#render(boolean, double)
+     */
+    @Override
+    public void render(boolean debugRendering, double interpolationAlpha)
+    {
+        render(debugRendering);
+    }
+
+    /**
+     * @see Scene#record(RenderCommandBuffer, boolean)
+     */
+    @Override
+    public void record(RenderCommandBuffer commands, boolean debugRendering)
+    {
+
+    }
+
+    /**
+     * @see Scene#getRenderLayers()
+     */
+    @Override
+    public List<RenderLayer> getRenderLayers()
+    {
+        return this.renderLayers;
+    }
+
+    /**
+     * Returns true if this scene was {@link #setRecording(boolean) marked as recording} or has render layers.
+     *
+     * @see Scene#isRecording()
+     */
+    @Override
+    public boolean isRecording()
+    {
+        return this.recording || !this.renderLayers.isEmpty();
+    }
+
+    /**
+     * Marks this scene as drawing through {@link #record(RenderCommandBuffer, boolean) record}. Subclasses that
+     * override record should call this, scenes with render layers are considered recording anyway.
+     *
+     * @param recording true if the scene records its draw commands.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setRecording(boolean recording)
+    {
+        this.recording = recording;
+    }
+
+    /**
+     * Adds a layer that is drawn on top of all previously added layers.
+     *
+     * @param layer the layer to add.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void addRenderLayer(RenderLayer layer)
+    {
+        this.renderLayers.add(layer);
+    }
+
+    /**
+     * Adds a system that is run every tick, in parallel to all systems that it does not conflict with.
+     * <p>
+     * The returned instance is used to declare the component types that the system reads and writes.
+     * See {@link SystemScheduler} for details.
+     *
+     * @param name   the name of the system.
+     * @param system the tick action of the system.
+     *
+     * @return the added system.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TickSystem addSystem(String name, Tickable system)
+    {
+        return this.systemScheduler.addSystem(name, system);
+    }
+
+    /**
+     * Ticks the systems of this scene. Subclasses that override this method should call it to keep their systems running.
+     *
      * @see Scene#tick(double)
      */
     @Override
     public void tick(double delta)
     {
-
+        this.systemScheduler.tick(delta);
     }
 
     /**
@@ -0,0 +1,402 @@
+package bt2d.core.scene.system;
+
+import bt.log.Log;
+import bt2d.core.intf.Tickable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the {@link TickSystem systems} of a scene on a {@link ForkJoinPool}, with systems that do not conflict running in parallel.
+ * <p>
+ * A system depends on every system that was added before it and {@link TickSystem#conflictsWith(TickSystem) conflicts}
+ * with it. Conflicting systems therefore always run in the order they were added, while for example an AI system that
+ * only writes its own component type runs at the same time as the animation system. Systems that do not declare any
+ * access conflict with every other system.
+ * <p>
+ * The dependency graph is built on the first tick after the systems or their declared access changed and reused
+ * afterwards, so a tick does not create any objects.
+ * <p>
+ * Usage:
+ * <pre>
+ *     scheduler.addSystem("movement", this::move).reads(Velocity.class).writes(Position.class);
+ *     scheduler.addSystem("ai", this::think).reads(Position.class).writes(Intent.class);
+ *     scheduler.addSystem("animation", this::animate).writes(Sprite.class);
+ *
+ *     // movement and animation run in parallel, ai waits for movement
+ *     scheduler.tick(delta);
+ * </pre>
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class SystemScheduler
+{
+    /**
+     * The pool that the systems run on.
+     */
+    protected ForkJoinPool pool;
+
+    /**
+     * The systems in the order they were added.
+     */
+    protected List<TickSystem> systems;
+
+    /**
+     * One reusable task per system, in the order of {@link #systems}.
+     */
+    protected List<SystemTask> tasks;
+
+    /**
+     * The task that starts all systems without dependencies and completes when all systems are done.
+     */
+    protected RootTask rootTask;
+
+    /**
+     * Indicates whether the dependency graph has to be rebuilt before the next tick.
+     */
+    protected boolean dirty;
+
+    /**
+     * Instantiates a new SystemScheduler that uses the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public SystemScheduler()
+    {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Instantiates a new SystemScheduler.
+     *
+     * @param pool the pool that the systems run on.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public SystemScheduler(ForkJoinPool pool)
+    {
+        this.pool = Objects.requireNonNull(pool, "pool cant be null");
+        this.systems = new ArrayList<>();
+        this.tasks = new ArrayList<>();
+    }
+
+    /**
+     * Adds a system that runs after all previously added systems that it conflicts with.
+     * <p>
+     * The returned instance is used to declare the component types that the system accesses.
+     *
+     * @param name   the name of the system.
+     * @param system the tick action of the system.
+     *
+     * @return the added system.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TickSystem addSystem(String name, Tickable system)
+    {
+        Objects.requireNonNull(name, "name cant be null");
+        Objects.requireNonNull(system, "system cant be null");
+
+        TickSystem tickSystem = new TickSystem(name, system, this);
+        this.systems.add(tickSystem);
+        markDirty();
+        return tickSystem;
+    }
+
+    /**
+     * Removes the given system.
+     *
+     * @param system the system to remove.
+     *
+     * @return true if the system was registered at this scheduler.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean removeSystem(TickSystem system)
+    {
+        boolean removed = this.systems.remove(system);
+        markDirty();
+        return removed;
+    }
+
+    /**
+     * Gets the systems in the order they were added.
+     *
+     * @return the systems
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public List<TickSystem> getSystems()
+    {
+        return List.copyOf(this.systems);
+    }
+
+    /**
+     * Requests a rebuild of the dependency graph before the next tick.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void markDirty()
+    {
+        this.dirty = true;
+    }
+
+    /**
+     * Ticks all systems and returns when all of them are done.
+     * <p>
+     * If a system throws, systems that did not start yet are skipped, while systems that already started are not
+     * interrupted. The exception is rethrown once all started systems are done, so that no system of this tick is still
+     * running when the next tick starts. Exceptions of further systems are added as suppressed.
+     *
+     * @param delta the elapsed time in seconds since the last tick call.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void tick(double delta)
+    {
+        int count = this.systems.size();
+
+        if (count == 0)
+        {
+            return;
+        }
+
+        if (count == 1)
+        {
+            this.systems.get(0).tick(delta);
+            return;
+        }
+
+        if (this.dirty)
+        {
+            buildGraph();
+        }
+
+        for (int i = 0; i < count; i++)
+        {
+            SystemTask task = this.tasks.get(i);
+            task.reinitialize();
+            task.delta = delta;
+            task.remainingDependencies.set(task.dependencyCount);
+        }
+
+        this.rootTask.failure.set(null);
+        this.rootTask.reinitialize();
+
+        // system exceptions are caught by the tasks, so this returns only after every task completed
+        this.pool.invoke(this.rootTask);
+
+        Throwable failure = this.rootTask.failure.get();
+
+        if (failure instanceof RuntimeException e)
+        {
+            throw e;
+        }
+        else if (failure instanceof Error e)
+        {
+            throw e;
+        }
+        else if (failure != null)
+        {
+            throw new IllegalStateException("System failed", failure);
+        }
+    }
+
+    /**
+     * Rebuilds the tasks and the dependencies between them from the declared access of the systems.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void buildGraph()
+    {
+        this.rootTask = new RootTask();
+        this.tasks.clear();
+        int edges = 0;
+
+        for (int i = 0; i < this.systems.size(); i++)
+        {
+            SystemTask task = new SystemTask(this.rootTask, this.systems.get(i));
+
+            for (int j = 0; j < i; j++)
+            {
+                if (task.system.conflictsWith(this.tasks.get(j).system))
+                {
+                    this.tasks.get(j).successors.add(task);
+                    task.dependencyCount++;
+                    edges++;
+                }
+            }
+
+            this.tasks.add(task);
+        }
+
+        this.dirty = false;
+        Log.debug("Built system graph with {} systems and {} dependencies", this.tasks.size(), edges);
+    }
+
+    /**
+     * Starts all systems without dependencies and completes once every system task completed.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected class RootTask extends CountedCompleter<Void>
+    {
+        /**
+         * The first exception thrown by a system in the current tick, or null.
+         */
+        protected final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        /**
+         * Records the given exception of a system. Every exception after the first is added to it as suppressed.
+         *
+         * @param e the exception.
+         *
+         * @author Lukas Hartwig
+         * @since 17.10.2026
+         */
+        protected void fail(Throwable e)
+        {
+            if (!this.failure.compareAndSet(null, e))
+            {
+                Throwable first = this.failure.get();
+
+                synchronized (first)
+                {
+                    first.addSuppressed(e);
+                }
+            }
+        }
+
+        /**
+         * Indicates whether a system failed in the current tick.
+         *
+         * @return true if a system threw an exception.
+         *
+         * @author Lukas Hartwig
+         * @since 17.10.2026
+         */
+        protected boolean hasFailed()
+        {
+            return this.failure.get() != null;
+        }
+
+        @Override
+        public void compute()
+        {
+            // one pending count per system, the tryComplete below accounts for this task itself
+            setPendingCount(tasks.size());
+
+            for (SystemTask task : tasks)
+            {
+                if (task.dependencyCount == 0)
+                {
+                    task.fork();
+                }
+            }
+
+            tryComplete();
+        }
+    }
+
+    /**
+     * Ticks a single system and starts every successor whose dependencies are all done.
+     * <p>
+     * Exceptions of the system are handed to the {@link RootTask} instead of completing this task exceptionally, which
+     * would complete the root task while other systems are still running. Once a system failed the remaining tasks
+     * skip their system but still start their successors, so that every task completes.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected static class SystemTask extends CountedCompleter<Void>
+    {
+        /**
+         * The system to tick.
+         */
+        protected final TickSystem system;
+
+        /**
+         * The task that is completed after all system tasks and collects their exceptions.
+         */
+        protected final RootTask root;
+
+        /**
+         * The tasks that depend on this one.
+         */
+        protected final List<SystemTask> successors = new ArrayList<>();
+
+        /**
+         * The number of tasks that this one depends on.
+         */
+        protected int dependencyCount;
+
+        /**
+         * The number of dependencies that did not finish yet in the current tick.
+         */
+        protected final AtomicInteger remainingDependencies = new AtomicInteger();
+
+        /**
+         * The delta of the current tick.
+         */
+        protected double delta;
+
+        /**
+         * Instantiates a new SystemTask.
+         *
+         * @param root   the task that is completed after all system tasks.
+         * @param system the system to tick.
+         *
+         * @author Lukas Hartwig
+         * @since 17.10.2026
+         */
+        protected SystemTask(RootTask root, TickSystem system)
+        {
+            super(root);
+            this.root = root;
+            this.system = system;
+        }
+
+        @Override
+        public void compute()
+        {
+            if (!this.root.hasFailed())
+            {
+                try
+                {
+                    this.system.tick(this.delta);
+                }
+                catch (Throwable e)
+                {
+                    this.root.fail(e);
+                }
+            }
+
+            for (int i = 0; i < this.successors.size(); i++)
+            {
+                SystemTask successor = this.successors.get(i);
+
+                if (successor.remainingDependencies.decrementAndGet() == 0)
+                {
+                    successor.fork();
+                }
+            }
+
+            tryComplete();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package bt2d.core.scene.system;
+
+import bt2d.core.intf.Tickable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A part of a scene tick, i.e. movement or collision, together with the component types that it reads and writes.
+ * <p>
+ * The declared access decides which systems a {@link SystemScheduler} may run at the same time. A system must not
+ * touch any data outside of its declared components while it is ticked. A system that does not declare any access is
+ * exclusive and never runs at the same time as another system.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class TickSystem
+{
+    /**
+     * The name of this system, used in logs.
+     */
+    protected final String name;
+
+    /**
+     * The tick action of this system.
+     */
+    protected final Tickable system;
+
+    /**
+     * The component types that this system only reads.
+     */
+    protected final Set<Class<?>> reads;
+
+    /**
+     * The component types that this system writes.
+     */
+    protected final Set<Class<?>> writes;
+
+    /**
+     * The scheduler that has to rebuild its dependencies when the access of this system changes.
+     */
+    protected final SystemScheduler scheduler;
+
+    /**
+     * Instantiates a new TickSystem.
+     *
+     * @param name      the name of the system.
+     * @param system    the tick action.
+     * @param scheduler the scheduler that the system is registered at.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected TickSystem(String name, Tickable system, SystemScheduler scheduler)
+    {
+        this.name = name;
+        this.system = system;
+        this.scheduler = scheduler;
+        this.reads = new HashSet<>();
+        this.writes = new HashSet<>();
+    }
+
+    /**
+     * Declares that this system reads the given component types.
+     *
+     * @param components the component types.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TickSystem reads(Class<?>... components)
+    {
+        Collections.addAll(this.reads, components);
+        this.scheduler.markDirty();
+        return this;
+    }
+
+    /**
+     * Declares that this system writes the given component types. Writing includes reading.
+     *
+     * @param components the component types.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TickSystem writes(Class<?>... components)
+    {
+        Collections.addAll(this.writes, components);
+        this.scheduler.markDirty();
+        return this;
+    }
+
+    /**
+     * Indicates whether this system and the given one access the same component type and at least one of them writes it,
+     * so that they can not run at the same time.
+     * <p>
+     * Systems without any declared access are {@link #isExclusive() exclusive} and conflict with every other system.
+     *
+     * @param other the other system.
+     *
+     * @return true if the systems conflict.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean conflictsWith(TickSystem other)
+    {
+        if (isExclusive() || other.isExclusive())
+        {
+            return true;
+        }
+
+        for (Class<?> component : this.writes)
+        {
+            if (other.reads.contains(component) || other.writes.contains(component))
+            {
+                return true;
+            }
+        }
+
+        for (Class<?> component : other.writes)
+        {
+            if (this.reads.contains(component))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Indicates whether this system did not declare any component types, which means that it may access anything.
+     *
+     * @return true if the system neither reads nor writes any declared component type.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isExclusive()
+    {
+        return this.reads.isEmpty() && this.writes.isEmpty();
+    }
+
+    /**
+     * Ticks this system.
+     *
+     * @param delta the elapsed time in seconds since the last tick call.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void tick(double delta)
+    {
+        this.system.tick(delta);
+    }
+
+    /**
+     * Gets the name of this system.
+     *
+     * @return the name
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TickSystem[" + this.name + ", reads=" + this.reads + ", writes=" + this.writes + "]";
+    }
+}
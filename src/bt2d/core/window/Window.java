@@ -110,6 +110,26 @@ public class Window implements Killable
      */
     protected boolean strictAspectRatio;
 
+    /**
+     * Indicates whether this window has the input focus. Updated by GLFW during event processing.
+     */
+    protected volatile boolean focused = true;
+
+    /**
+     * The width of the OpenGL viewport in framebuffer pixels.
+     */
+    protected volatile int viewportWidth;
+
+    /**
+     * The height of the OpenGL viewport in framebuffer pixels.
+     */
+    protected volatile int viewportHeight;
+
+    /**
+     * Indicates whether this window is minimized. Updated by GLFW during event processing.
+     */
+    protected volatile boolean iconified;
+
     /**
      * Basic constructor for the Window class
      *
@@ -124,6 +144,25 @@ public class Window implements Killable
      * @since 01-11-2021
      */
     public Window(int width, int height, String title, boolean fullScreen, boolean undecorated, boolean strictAspectRatio, int refreshRate)
+    {
+        this(width, height, title, fullScreen, undecorated, strictAspectRatio, refreshRate, false);
+    }
+
+    /**
+     * Constructor for the Window class that can request an OpenGL 3.3 core profile context.
+     *
+     * @param width             width of the window
+     * @param height            height of the window
+     * @param title             displayed title of the window
+     * @param fullScreen        indicates whether the window starts in full screen
+     * @param strictAspectRatio indicates whether the aspect ratio of the initial window size should be kept
+     * @param refreshRate       refresh rate of the window in hertz
+     * @param coreProfile       true to create a forward compatible 3.3 core profile context, false for a compatibility context.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public Window(int width, int height, String title, boolean fullScreen, boolean undecorated, boolean strictAspectRatio, int refreshRate, boolean coreProfile)
     {
         // set logging callbacks
         Configuration.DEBUG_STREAM.set(createLWJGLDebugPrintStream());
@@ -163,6 +202,14 @@ public class Window implements Killable
         glfwWindowHint(GLFW_RESIZABLE, GLFW_FALSE);
         glfwWindowHint(GLFW_DECORATED, undecorated ? GLFW_FALSE : GLFW_TRUE);
 
+        if (coreProfile)
+        {
+            glfwWindowHint(GLFW_CONTEXT_VERSION_MAJOR, 3);
+            glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, 3);
+            glfwWindowHint(GLFW_OPENGL_PROFILE, GLFW_OPENGL_CORE_PROFILE);
+            glfwWindowHint(GLFW_OPENGL_FORWARD_COMPAT, GLFW_TRUE);
+        }
+
         this.monitor = glfwGetPrimaryMonitor();
 
         this.window = glfwCreateWindow(width, height, windowTitle, fullScreenMode ? monitor : 0, 0);
@@ -175,7 +222,20 @@ public class Window implements Killable
 
         glfwMakeContextCurrent(this.window);
         GL.createCapabilities();
+
+        // the initial viewport covers the whole framebuffer, which can be larger than the window on high dpi screens
+        try (MemoryStack stack = stackPush())
+        {
+            IntBuffer pWidth = stack.mallocInt(1);
+            IntBuffer pHeight = stack.mallocInt(1);
+            glfwGetFramebufferSize(this.window, pWidth, pHeight);
+            this.viewportWidth = pWidth.get(0);
+            this.viewportHeight = pHeight.get(0);
+        }
+
         glfwSetFramebufferSizeCallback(window, this::framebufferSizeCallback);
+        glfwSetWindowFocusCallback(window, this::windowFocusCallback);
+        glfwSetWindowIconifyCallback(window, this::windowIconifyCallback);
 
         videoMode = glfwGetVideoMode(monitor);
         if (videoMode != null)
@@ -514,6 +574,21 @@ public class Window implements Killable
         glfwSwapBuffers(this.window);
     }
 
+    /**
+     * Sets the number of vertical blanks that a buffer swap waits for. 0 swaps immediately, 1 enables vsync.
+     * <p>
+     * This has to be called on the thread that the OpenGL context of this window is current on.
+     *
+     * @param interval the swap interval.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setSwapInterval(int interval)
+    {
+        glfwSwapInterval(interval);
+    }
+
     /**
      * This method can be called to kill this window. This window will be destroyed. CAUTION: NOT ONLY WILL THE WINDOW
      * BE DESTROYED BUT ALSO glfwTerminate() is called, resulting in FREEING ALL ALLOCATED RESOURCES BY GLFW.
@@ -573,11 +648,95 @@ public class Window implements Killable
         if (this.strictAspectRatio)
         {
             // keep original aspect ratio to avoid stretching when going into maximized for example
-            glViewport(0, 0, width, (int)(width / this.aspectRatio));
-        }
-        else
-        {
-            glViewport(0, 0, width, height);
+            height = (int)(width / this.aspectRatio);
         }
+
+        glViewport(0, 0, width, height);
+        this.viewportWidth = width;
+        this.viewportHeight = height;
+    }
+
+    /**
+     * Gets the width of the OpenGL viewport, which starts at the bottom left corner of the framebuffer.
+     *
+     * @return the viewport width in framebuffer pixels.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getViewportWidth()
+    {
+        return this.viewportWidth;
+    }
+
+    /**
+     * Gets the height of the OpenGL viewport, which starts at the bottom left corner of the framebuffer.
+     *
+     * @return the viewport height in framebuffer pixels.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getViewportHeight()
+    {
+        return this.viewportHeight;
+    }
+
+    /**
+     * Method called when the window gains or loses the input focus.
+     *
+     * @param window  the reference for the window
+     * @param focused true if the window gained the focus, false if it lost it.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    void windowFocusCallback(long window, boolean focused)
+    {
+        this.focused = focused;
+    }
+
+    /**
+     * Method called when the window is minimized or restored.
+     *
+     * @param window    the reference for the window
+     * @param iconified true if the window was minimized, false if it was restored.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    void windowIconifyCallback(long window, boolean iconified)
+    {
+        this.iconified = iconified;
+    }
+
+    /**
+     * Indicates whether this window has the input focus.
+     * <p>
+     * This is updated while events are processed, i.e. by glfwPollEvents.
+     *
+     * @return true if the window is focused.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isFocused()
+    {
+        return this.focused;
+    }
+
+    /**
+     * Indicates whether this window is minimized.
+     * <p>
+     * This is updated while events are processed, i.e. by glfwPollEvents.
+     *
+     * @return true if the window is iconified.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isIconified()
+    {
+        return this.iconified;
     }
-}
\ No newline at end of file
+}
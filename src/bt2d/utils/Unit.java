@@ -48,6 +48,40 @@ public record Unit(double gameUnits)
         Unit.ratio = glUnitsPerGameUnit;
     }
 
+    /**
+     * Converts the given game units to OpenGL units using the current ratio.
+     * <p>
+     * Unlike {@link #forGameUnits(double)} this does not create an instance and is meant for hot paths such as rendering.
+     *
+     * @param gameUnits the game units
+     *
+     * @return the OpenGL units
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static double toGlUnits(double gameUnits)
+    {
+        return gameUnits * Unit.ratio;
+    }
+
+    /**
+     * Converts the given OpenGL units to game units using the current ratio.
+     * <p>
+     * Unlike {@link #forGlUnits(double)} this does not create an instance and is meant for hot paths such as rendering.
+     *
+     * @param glUnits the OpenGL units
+     *
+     * @return the game units
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static double toGameUnits(double glUnits)
+    {
+        return glUnits / Unit.ratio;
+    }
+
     /**
      * Returns a constant instance with a game unit and openGl unit value of zero.
      *
@@ -0,0 +1,139 @@
+package bt2d.utils.concurrent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Three instances of a value that are handed from exactly one writing thread to exactly one reading thread without locks.
+ * <p>
+ * The writer always has a buffer of its own to fill and the reader always has a buffer of its own to read. Publishing
+ * and picking up a buffer is a single atomic swap of the buffer in the middle, so neither side ever waits for the other.
+ * If the writer publishes faster than the reader picks up, older buffers are overwritten and the reader only sees the latest one.
+ * <p>
+ * Usage:
+ * <pre>
+ *     // writing thread
+ *     State state = buffer.getWriteBuffer();
+ *     state.copyFrom(world);
+ *     buffer.publish();
+ *
+ *     // reading thread
+ *     if (buffer.update())
+ *     {
+ *         draw(buffer.getReadBuffer());
+ *     }
+ * </pre>
+ *
+ * @param <T> the type of the buffered values.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class TripleBuffer<T>
+{
+    /**
+     * The bit of {@link #middle} that marks a published buffer which was not picked up yet.
+     */
+    protected static final int DIRTY = 4;
+
+    /**
+     * The bits of {@link #middle} that hold the buffer index.
+     */
+    protected static final int INDEX_MASK = 3;
+
+    /**
+     * The three buffers.
+     */
+    protected final Object[] buffers;
+
+    /**
+     * The index of the buffer in the middle, combined with the {@link #DIRTY} bit.
+     */
+    protected final AtomicInteger middle;
+
+    /**
+     * The index of the buffer that is currently written. Only accessed by the writing thread.
+     */
+    protected int back;
+
+    /**
+     * The index of the buffer that is currently read. Only accessed by the reading thread.
+     */
+    protected int front;
+
+    /**
+     * Instantiates a new TripleBuffer.
+     *
+     * @param factory creates the three buffers.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TripleBuffer(Supplier<T> factory)
+    {
+        this.buffers = new Object[] { factory.get(), factory.get(), factory.get() };
+        this.back = 0;
+        this.middle = new AtomicInteger(1);
+        this.front = 2;
+    }
+
+    /**
+     * Gets the buffer that the writing thread fills. It is not seen by the reader until {@link #publish()} is called.
+     *
+     * @return the write buffer
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer()
+    {
+        return (T)this.buffers[this.back];
+    }
+
+    /**
+     * Hands the write buffer over to the reader and continues with the buffer in the middle.
+     * <p>
+     * The new write buffer still holds older contents.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void publish()
+    {
+        this.back = this.middle.getAndSet(this.back | DIRTY) & INDEX_MASK;
+    }
+
+    /**
+     * Picks up the latest published buffer if there is one that the reader did not see yet.
+     *
+     * @return true if {@link #getReadBuffer()} now returns a newly published buffer, false if it is unchanged.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean update()
+    {
+        if ((this.middle.get() & DIRTY) == 0)
+        {
+            return false;
+        }
+
+        this.front = this.middle.getAndSet(this.front) & INDEX_MASK;
+        return true;
+    }
+
+    /**
+     * Gets the buffer that the reading thread picked up with the last successful {@link #update()}.
+     *
+     * @return the read buffer
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @SuppressWarnings("unchecked")
+    public T getReadBuffer()
+    {
+        return (T)this.buffers[this.front];
+    }
+}
@@ -0,0 +1,376 @@
+package bt2d.utils.render;
+
+import bt2d.utils.Unit;
+
+/**
+ * A 2D camera with a position, zoom and rotation that produces the combined projection-view matrix of a frame.
+ * <p>
+ * The matrix maps OpenGL units to clip space, the same way the orthographic projection of the game container did,
+ * with the camera transform applied on top. It is cached and only recomputed after a property of the camera changed,
+ * so the matrix can be uploaded once per frame without any per-vertex work on the CPU.
+ * <p>
+ * The position is the game unit point that is shown at the center of the viewport.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class Camera
+{
+    /**
+     * The x of the point at the center of the viewport in game units.
+     */
+    protected double x;
+
+    /**
+     * The y of the point at the center of the viewport in game units.
+     */
+    protected double y;
+
+    /**
+     * The zoom factor. Values above 1 enlarge the displayed contents.
+     */
+    protected double zoom;
+
+    /**
+     * The rotation in radians.
+     */
+    protected double rotation;
+
+    /**
+     * The width of the viewport in OpenGL units.
+     */
+    protected double viewportWidth;
+
+    /**
+     * The height of the viewport in OpenGL units.
+     */
+    protected double viewportHeight;
+
+    /**
+     * The combined projection-view matrix in column-major order.
+     */
+    protected final float[] matrix;
+
+    /**
+     * Indicates whether {@link #matrix} and the visible bounds have to be recomputed.
+     */
+    protected boolean dirty;
+
+    /**
+     * The visible left border in OpenGL units.
+     */
+    protected double visibleMinX;
+
+    /**
+     * The visible top border in OpenGL units.
+     */
+    protected double visibleMinY;
+
+    /**
+     * The visible right border in OpenGL units.
+     */
+    protected double visibleMaxX;
+
+    /**
+     * The visible bottom border in OpenGL units.
+     */
+    protected double visibleMaxY;
+
+    /**
+     * Instantiates a new Camera without zoom and rotation that is centered on 0|0.
+     *
+     * @param viewportWidth  the width of the viewport in OpenGL units.
+     * @param viewportHeight the height of the viewport in OpenGL units.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public Camera(double viewportWidth, double viewportHeight)
+    {
+        this.matrix = new float[16];
+        this.zoom = 1;
+        setViewportSize(viewportWidth, viewportHeight);
+    }
+
+    /**
+     * Sets the size of the area that the camera renders to, i.e. after the window was resized.
+     *
+     * @param viewportWidth  the width of the viewport in OpenGL units.
+     * @param viewportHeight the height of the viewport in OpenGL units.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setViewportSize(double viewportWidth, double viewportHeight)
+    {
+        if (viewportWidth <= 0 || viewportHeight <= 0)
+        {
+            throw new IllegalArgumentException("Viewport size has to be above 0");
+        }
+
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.dirty = true;
+    }
+
+    /**
+     * Moves the camera so that the given point is shown at the center of the viewport.
+     *
+     * @param gameUnitX the game unit x
+     * @param gameUnitY the game unit y
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setPosition(double gameUnitX, double gameUnitY)
+    {
+        this.x = gameUnitX;
+        this.y = gameUnitY;
+        this.dirty = true;
+    }
+
+    /**
+     * Moves the camera by the given game units.
+     *
+     * @param gameUnitX the game units to move along the x axis.
+     * @param gameUnitY the game units to move along the y axis.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void move(double gameUnitX, double gameUnitY)
+    {
+        setPosition(this.x + gameUnitX, this.y + gameUnitY);
+    }
+
+    /**
+     * Gets the x of the point at the center of the viewport.
+     *
+     * @return the game unit x
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getX()
+    {
+        return this.x;
+    }
+
+    /**
+     * Gets the y of the point at the center of the viewport.
+     *
+     * @return the game unit y
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getY()
+    {
+        return this.y;
+    }
+
+    /**
+     * Sets the zoom factor. Values above 1 enlarge the displayed contents, values below 1 show a larger area.
+     *
+     * @param zoom the zoom factor. Has to be above 0.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setZoom(double zoom)
+    {
+        if (zoom <= 0)
+        {
+            throw new IllegalArgumentException("Zoom has to be above 0");
+        }
+
+        this.zoom = zoom;
+        this.dirty = true;
+    }
+
+    /**
+     * Gets the zoom factor.
+     *
+     * @return the zoom
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getZoom()
+    {
+        return this.zoom;
+    }
+
+    /**
+     * Sets the rotation of the displayed contents around the center of the viewport.
+     *
+     * @param radians the rotation in radians.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setRotation(double radians)
+    {
+        this.rotation = radians;
+        this.dirty = true;
+    }
+
+    /**
+     * Gets the rotation of the displayed contents.
+     *
+     * @return the rotation in radians.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getRotation()
+    {
+        return this.rotation;
+    }
+
+    /**
+     * Forces a recomputation on the next {@link #update()}, i.e. after the {@link Unit#setRatio(double) unit ratio} changed.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void markDirty()
+    {
+        this.dirty = true;
+    }
+
+    /**
+     * Recomputes the matrix and the visible bounds if a property changed since the last call.
+     *
+     * @return true if anything was recomputed, false if the cached values are still valid.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean update()
+    {
+        if (!this.dirty)
+        {
+            return false;
+        }
+
+        double centerX = Unit.toGlUnits(this.x);
+        double centerY = Unit.toGlUnits(this.y);
+        double cos = Math.cos(this.rotation);
+        double sin = Math.sin(this.rotation);
+        double scaledCos = cos * this.zoom;
+        double scaledSin = sin * this.zoom;
+        double scaleX = 2 / this.viewportWidth;
+        double scaleY = -2 / this.viewportHeight;
+
+        // ortho(0, width, height, 0, 0, 1) * translate(viewport center) * rotate * scale(zoom) * translate(-camera center)
+        this.matrix[0] = (float)(scaleX * scaledCos);
+        this.matrix[1] = (float)(scaleY * scaledSin);
+        this.matrix[4] = (float)(scaleX * -scaledSin);
+        this.matrix[5] = (float)(scaleY * scaledCos);
+        this.matrix[10] = -2;
+        this.matrix[12] = (float)(scaleX * (scaledSin * centerY - scaledCos * centerX));
+        this.matrix[13] = (float)(scaleY * (-scaledSin * centerX - scaledCos * centerY));
+        this.matrix[14] = -1;
+        this.matrix[15] = 1;
+
+        // bounding box of the rotated viewport in world space
+        double halfWidth = this.viewportWidth / 2 / this.zoom;
+        double halfHeight = this.viewportHeight / 2 / this.zoom;
+        double extentX = Math.abs(cos) * halfWidth + Math.abs(sin) * halfHeight;
+        double extentY = Math.abs(sin) * halfWidth + Math.abs(cos) * halfHeight;
+        this.visibleMinX = centerX - extentX;
+        this.visibleMinY = centerY - extentY;
+        this.visibleMaxX = centerX + extentX;
+        this.visibleMaxY = centerY + extentY;
+
+        this.dirty = false;
+        return true;
+    }
+
+    /**
+     * Gets the combined projection-view matrix in column-major order, recomputing it if necessary.
+     * <p>
+     * The returned array is reused, so it must not be modified and is only valid until the camera changes.
+     *
+     * @return the matrix
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public float[] getMatrix()
+    {
+        update();
+        return this.matrix;
+    }
+
+    /**
+     * Gets the left border of the visible area, recomputing it if necessary.
+     *
+     * @return the visible min x in OpenGL units.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getVisibleMinX()
+    {
+        update();
+        return this.visibleMinX;
+    }
+
+    /**
+     * Gets the top border of the visible area, recomputing it if necessary.
+     *
+     * @return the visible min y in OpenGL units.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getVisibleMinY()
+    {
+        update();
+        return this.visibleMinY;
+    }
+
+    /**
+     * Gets the right border of the visible area, recomputing it if necessary.
+     *
+     * @return the visible max x in OpenGL units.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getVisibleMaxX()
+    {
+        update();
+        return this.visibleMaxX;
+    }
+
+    /**
+     * Gets the bottom border of the visible area, recomputing it if necessary.
+     *
+     * @return the visible max y in OpenGL units.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getVisibleMaxY()
+    {
+        update();
+        return this.visibleMaxY;
+    }
+
+    /**
+     * Sets the bounds of the given culler to the area that is visible through this camera.
+     *
+     * @param culler the culler to update.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void applyBounds(ViewportCuller culler)
+    {
+        update();
+        culler.setBounds(this.visibleMinX, this.visibleMinY, this.visibleMaxX, this.visibleMaxY);
+    }
+}
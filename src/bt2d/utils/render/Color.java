@@ -1,8 +1,16 @@
 package bt2d.utils.render;
 
+import java.nio.ByteOrder;
+
 /**
  * A simple class to store RGBA values for a color. This class is basically a simpler copy of {@link java.awt.Color}
  * and is used to convert from ranges 0-255 to openGL ranges 0-1.
+ * <p>
+ * Next to the float components every color holds a packed 32 bit form (see {@link #getPacked()}) which can be
+ * written straight into vertex buffers.
+ * <p>
+ * Instances are immutable. Colors that are used repeatedly should be obtained through one of the {@code of} methods,
+ * which return cached instances instead of creating and parsing new ones every call.
  *
  * @author Lukas Hartwig
  * @since 09.01.2022
@@ -23,10 +31,48 @@ public class Color
     public static final Color CYAN = new Color(0, 255, 255);
     public static final Color BLUE = new Color(0, 0, 255);
 
-    private float r;
-    private float g;
-    private float b;
-    private float a;
+    /**
+     * The number of slots in the cache for colors created via {@link #of(int, int, int, int)}. Has to be a power of two.
+     */
+    private static final int CACHE_SIZE = 4096;
+
+    /**
+     * A direct mapped cache of colors by their RGBA value. A slot is simply overwritten if a different color maps to it.
+     * <p>
+     * Since colors are immutable and all fields are final, instances can be shared between threads without further synchronization.
+     */
+    private static final Color[] CACHE = new Color[CACHE_SIZE];
+
+    /**
+     * The number of slots in the cache for colors created via {@link #of(String)}. Has to be a power of two.
+     */
+    private static final int HEX_CACHE_SIZE = 256;
+
+    /**
+     * A direct mapped cache of colors by the string they were parsed from. Like {@link #CACHE} a slot is simply
+     * overwritten if a different string maps to it, so the cache can not grow.
+     */
+    private static final HexEntry[] HEX_CACHE = new HexEntry[HEX_CACHE_SIZE];
+
+    /**
+     * Indicates whether the platform stores ints in little endian byte order.
+     */
+    private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    private final float r;
+    private final float g;
+    private final float b;
+    private final float a;
+
+    /**
+     * The components packed as 0xRRGGBBAA.
+     */
+    private final int rgba;
+
+    /**
+     * The components packed so that writing the int in native byte order results in the bytes R, G, B, A.
+     */
+    private final int packed;
 
     /**
      * Instantiates a new Color.
@@ -36,17 +82,21 @@ public class Color
      * @param b the blue component within a range of 0-255.
      * @param a the alphacomponent within a range of 0-255.
      *
+     * @throws IllegalArgumentException if a component is outside of 0-255.
      * @author Lukas Hartwig
      * @since 09.01.2022
      */
     public Color(int r, int g, int b, int a)
     {
+        this.rgba = toRGBA(r, g, b, a);
+
         // convert from range 0-255 to range 0-1
         this.r = r / 255.0f;
         this.g = g / 255.0f;
         this.b = b / 255.0f;
         this.a = a / 255.0f;
 
+        this.packed = LITTLE_ENDIAN ? Integer.reverseBytes(this.rgba) : this.rgba;
     }
 
     /**
@@ -74,14 +124,142 @@ public class Color
      */
     public Color(String hexString)
     {
-        Integer intval = Integer.decode(hexString);
-        int i = intval.intValue();
+        this(Integer.decode(hexString).intValue());
+    }
+
+    /**
+     * Instantiates a new opaque Color.
+     *
+     * @param rgb the color as 0xRRGGBB. The upper 8 bits are ignored.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private Color(int rgb)
+    {
+        // get parts of the hex value
+        this((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF, 255);
+    }
+
+    /**
+     * Returns a cached color for the given components.
+     * <p>
+     * Repeated calls with the same values return the same instance without allocating as long as the
+     * cache slot was not taken over by a different color in the meantime.
+     *
+     * @param r the red component within a range of 0-255.
+     * @param g the green component within a range of 0-255.
+     * @param b the blue component within a range of 0-255.
+     * @param a the alpha component within a range of 0-255.
+     *
+     * @return the color
+     *
+     * @throws IllegalArgumentException if a component is outside of 0-255.
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static Color of(int r, int g, int b, int a)
+    {
+        int rgba = toRGBA(r, g, b, a);
+
+        // spread the bits a little, similar colors would otherwise fight over the same slots
+        int hash = rgba * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+
+        Color color = CACHE[slot];
+
+        if (color == null || color.rgba != rgba)
+        {
+            color = new Color(r, g, b, a);
+            CACHE[slot] = color;
+        }
+
+        return color;
+    }
+
+    /**
+     * Returns a cached opaque color for the given components.
+     *
+     * @param r the red component within a range of 0-255.
+     * @param g the green component within a range of 0-255.
+     * @param b the blue component within a range of 0-255.
+     *
+     * @return the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static Color of(int r, int g, int b)
+    {
+        return of(r, g, b, 255);
+    }
 
-        // get parts of the hex value and convert from range 0-255 to range 0-1
-        this.r = ((i >> 16) & 0xFF) / 255.0f;
-        this.g = ((i >> 8) & 0xFF) / 255.0f;
-        this.b = (i & 0xFF) / 255.0f;
-        this.a = 1.0f;
+    /**
+     * Returns a cached opaque color for the given value.
+     *
+     * @param rgb the color as 0xRRGGBB. The upper 8 bits are ignored.
+     *
+     * @return the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static Color of(int rgb)
+    {
+        return of((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF, 255);
+    }
+
+    /**
+     * Returns a cached color for the given hex string.
+     * <p>
+     * The string is only parsed the first time it is used.
+     *
+     * @param hexString the hex string in range #000000-#ffffff.
+     *
+     * @return the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static Color of(String hexString)
+    {
+        int hash = hexString.hashCode() * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & (HEX_CACHE_SIZE - 1);
+
+        HexEntry entry = HEX_CACHE[slot];
+
+        if (entry == null || !entry.hexString().equals(hexString))
+        {
+            entry = new HexEntry(hexString, new Color(hexString));
+            HEX_CACHE[slot] = entry;
+        }
+
+        return entry.color();
+    }
+
+    /**
+     * Packs the given components into a single int as 0xRRGGBBAA.
+     *
+     * @param r the red component within a range of 0-255.
+     * @param g the green component within a range of 0-255.
+     * @param b the blue component within a range of 0-255.
+     * @param a the alpha component within a range of 0-255.
+     *
+     * @return the packed rgba value
+     *
+     * @throws IllegalArgumentException if a component is outside of 0-255.
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private static int toRGBA(int r, int g, int b, int a)
+    {
+        if (((r | g | b | a) & ~0xFF) != 0)
+        {
+            throw new IllegalArgumentException(String.format("Color components have to be within 0-255 but were r=%d, g=%d, b=%d, a=%d",
+                                                             r, g, b, a));
+        }
+
+        return (r << 24) | (g << 16) | (b << 8) | a;
     }
 
     /**
@@ -135,4 +313,100 @@ public class Color
     {
         return a;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the components packed into a single int as 0xRRGGBBAA.
+     *
+     * @return the packed rgba value
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getRGBA()
+    {
+        return this.rgba;
+    }
+
+    /**
+     * Gets the components packed into a single int so that writing it to a buffer in native byte order
+     * results in the bytes R, G, B, A.
+     * <p>
+     * This is the layout expected by OpenGL for a normalized color attribute of 4 unsigned bytes.
+     *
+     * @return the packed value for vertex buffers
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getPacked()
+    {
+        return this.packed;
+    }
+
+    /**
+     * Indicates whether the given object is a color with the same components.
+     * <p>
+     * Cached and newly created instances of the same color are equal.
+     *
+     * @param o the object to compare with.
+     *
+     * @return true if all four components are equal.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+
+        Color color = (Color)o;
+        return this.rgba == color.rgba;
+    }
+
+    /**
+     * Gets a hash code that is derived from the packed components.
+     *
+     * @return the hash code
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public int hashCode()
+    {
+        return Integer.hashCode(this.rgba);
+    }
+
+    /**
+     * Gets the components as a hex string, i.e. {@code Color{#ff0000ff}} for opaque red.
+     *
+     * @return the string in the format 0xRRGGBBAA.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("Color{#%08x}", this.rgba);
+    }
+
+    /**
+     * A slot of the {@link #HEX_CACHE}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private record HexEntry(String hexString, Color color)
+    {
+    }
+}
@@ -0,0 +1,23 @@
+package bt2d.utils.render;
+
+/**
+ * Defines how the {@link ShapeRenderer} submits its shapes to OpenGL.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public enum RenderMode
+{
+    /**
+     * Every shape is drawn right away with its own glBegin/glEnd pair.
+     * <p>
+     * This is the slowest mode and mostly kept for comparison and debugging.
+     */
+    IMMEDIATE,
+
+    /**
+     * Shapes are collected in vertex batches and drawn with a single draw call per primitive type
+     * when {@link ShapeRenderer#flush()} is called.
+     */
+    BATCHED
+}
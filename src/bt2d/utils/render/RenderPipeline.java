@@ -0,0 +1,24 @@
+package bt2d.utils.render;
+
+/**
+ * Defines which OpenGL pipeline the game container renders with. The pipeline is chosen when the window is created.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public enum RenderPipeline
+{
+    /**
+     * The legacy fixed-function pipeline of a compatibility context.
+     * <p>
+     * Supports both {@link RenderMode render modes}.
+     */
+    FIXED_FUNCTION,
+
+    /**
+     * A core profile context that draws vertex arrays with shader programs.
+     * <p>
+     * Fixed-function calls are not available in this pipeline, so shapes are always {@link RenderMode#BATCHED batched}.
+     */
+    CORE_PROFILE
+}
@@ -1,11 +1,20 @@
 package bt2d.utils.render;
 
 import bt2d.utils.Unit;
+import bt2d.utils.render.batch.VertexBatch;
+import bt2d.utils.render.batch.VertexBatchRenderer;
 
 import static org.lwjgl.opengl.GL11.*;
 
 /**
  * A utility class to render basic shapes primarely for debugging purposes.
+ * <p>
+ * Depending on the set {@link RenderMode} shapes are either drawn right away or collected and drawn
+ * during the next {@link #flush()} call. In batched mode all filled shapes are drawn before all lines,
+ * so the order of calls is only kept within the same primitive type.
+ * <p>
+ * The methods taking plain game unit values do not create any objects. The {@link Unit} variants only read
+ * the given instances, so drawing does not cause garbage either way.
  *
  * @author Lukas Hartwig
  * @since 09.01.2022
@@ -14,6 +23,180 @@ public final class ShapeRenderer
 {
     private static Color defaultColor = Color.WHITE;
 
+    private static RenderMode renderMode = RenderMode.IMMEDIATE;
+
+    /**
+     * Collects the triangles of filled shapes while in {@link RenderMode#BATCHED batched} mode.
+     */
+    private static VertexBatch triangleBatch;
+
+    /**
+     * Collects the lines while in {@link RenderMode#BATCHED batched} mode.
+     */
+    private static VertexBatch lineBatch;
+
+    /**
+     * Uploads and draws the batches during {@link #flush()}.
+     */
+    private static VertexBatchRenderer batchRenderer;
+
+    /**
+     * Rejects shapes outside of the visible area. Null if shapes should not be culled.
+     */
+    private static ViewportCuller culler;
+
+    /**
+     * Sets the mode that is used to submit shapes to OpenGL.
+     * <p>
+     * Shapes that are still batched from a previous mode will be drawn during the next {@link #flush()} call.
+     *
+     * @param mode the render mode
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static void setRenderMode(RenderMode mode)
+    {
+        if (mode == RenderMode.BATCHED && triangleBatch == null)
+        {
+            triangleBatch = new VertexBatch();
+            lineBatch = new VertexBatch();
+        }
+
+        if (mode == RenderMode.BATCHED && batchRenderer == null)
+        {
+            batchRenderer = new VertexBatchRenderer();
+        }
+
+        renderMode = mode;
+    }
+
+    /**
+     * Sets the renderer that draws the batched shapes, i.e. a {@link bt2d.utils.render.batch.ShaderVertexBatchRenderer}
+     * for the {@link RenderPipeline#CORE_PROFILE core profile} pipeline.
+     * <p>
+     * The previous renderer is killed. This has to be called on the thread that owns the OpenGL context.
+     *
+     * @param renderer the renderer
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static void setBatchRenderer(VertexBatchRenderer renderer)
+    {
+        if (batchRenderer != null && batchRenderer != renderer)
+        {
+            flush();
+            batchRenderer.kill();
+        }
+
+        batchRenderer = renderer;
+    }
+
+    /**
+     * Gets the mode that is used to submit shapes to OpenGL.
+     *
+     * @return the render mode
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static RenderMode getRenderMode()
+    {
+        return renderMode;
+    }
+
+    /**
+     * Draws all batched shapes with a single draw call per primitive type.
+     * <p>
+     * This is called by the {@link bt2d.core.container.GameContainer GameContainer} before the buffers are swapped.
+     * Calling it in {@link RenderMode#IMMEDIATE immediate} mode is a no-op unless shapes are left from a previous batched mode.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static void flush()
+    {
+        if (batchRenderer != null && triangleBatch != null)
+        {
+            batchRenderer.draw(triangleBatch, GL_TRIANGLES);
+            batchRenderer.draw(lineBatch, GL_LINES);
+        }
+    }
+
+    /**
+     * Drops all batched shapes without drawing them.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    static void clearBatches()
+    {
+        if (triangleBatch != null)
+        {
+            triangleBatch.clear();
+            lineBatch.clear();
+        }
+    }
+
+    /**
+     * Draws the remaining batched shapes and releases the batches and the batch renderer.
+     * <p>
+     * The render mode falls back to {@link RenderMode#IMMEDIATE immediate}. Setting {@link RenderMode#BATCHED batched}
+     * mode again creates new batches. This has to be called on the thread that owns the OpenGL context.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static void kill()
+    {
+        flush();
+
+        if (triangleBatch != null)
+        {
+            triangleBatch.kill();
+            lineBatch.kill();
+            triangleBatch = null;
+            lineBatch = null;
+        }
+
+        if (batchRenderer != null)
+        {
+            batchRenderer.kill();
+            batchRenderer = null;
+        }
+
+        renderMode = RenderMode.IMMEDIATE;
+    }
+
+    /**
+     * Sets the culler that rejects shapes outside of the visible area before they are batched or drawn.
+     * <p>
+     * Outlined rectangles are checked as a whole and count as a single primitive.
+     *
+     * @param viewportCuller the culler or null to draw every shape.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static void setCuller(ViewportCuller viewportCuller)
+    {
+        culler = viewportCuller;
+    }
+
+    /**
+     * Gets the culler that rejects shapes outside of the visible area.
+     *
+     * @return the culler or null if shapes are not culled.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public static ViewportCuller getCuller()
+    {
+        return culler;
+    }
+
     /**
      * Sets the default color that is used by methods of this class if no other color was given.
      *
@@ -63,11 +246,11 @@ public final class ShapeRenderer
      */
     public static void fillRectangle(double gameUnitX, double gameUnitY, double gameUnitWidth, double gameUnitHeight, Color color)
     {
-        fillRectangle(Unit.forGameUnits(gameUnitX),
-                      Unit.forGameUnits(gameUnitY),
-                      Unit.forGameUnits(gameUnitWidth),
-                      Unit.forGameUnits(gameUnitHeight),
-                      color);
+        fillGlRectangle(Unit.toGlUnits(gameUnitX),
+                        Unit.toGlUnits(gameUnitY),
+                        Unit.toGlUnits(gameUnitX + gameUnitWidth),
+                        Unit.toGlUnits(gameUnitY + gameUnitHeight),
+                        color);
     }
 
     /**
@@ -106,14 +289,11 @@ public final class ShapeRenderer
      */
     public static void fillRectangle(Unit x, Unit y, Unit width, Unit height, Color color)
     {
-        glColor4f(color.getRed(), color.getGreen(), color.getBlue(), color.getAlpha());
-
-        glBegin(GL_QUADS);
-        glVertex3d(x.glUnits(), y.glUnits(), 0);
-        glVertex3d(x.addGameUnits(width).glUnits(), y.glUnits(), 0);
-        glVertex3d(x.addGameUnits(width).glUnits(), y.addGameUnits(height).glUnits(), 0);
-        glVertex3d(x.glUnits(), y.addGameUnits(height).glUnits(), 0);
-        glEnd();
+        fillGlRectangle(x.glUnits(),
+                        y.glUnits(),
+                        x.glUnits() + width.glUnits(),
+                        y.glUnits() + height.glUnits(),
+                        color);
     }
 
     /**
@@ -122,7 +302,7 @@ public final class ShapeRenderer
      * <p>
      * The rectangle will be outlined with the default color.
      * <p>
-     * This is just a convenience method that calls {@link #line(Unit, Unit, Unit, Unit, Color)} for the four borders.
+     * The four borders are drawn the same way as {@link #line(Unit, Unit, Unit, Unit, Color)} would draw them.
      *
      * @param gameUnitX      the game unit x
      * @param gameUnitY      the game unit y
@@ -143,7 +323,7 @@ public final class ShapeRenderer
      * <p>
      * The rectangle will be outlined with the given color.
      * <p>
-     * This is just a convenience method that calls {@link #line(Unit, Unit, Unit, Unit, Color)} for the four borders.
+     * The four borders are drawn the same way as {@link #line(Unit, Unit, Unit, Unit, Color)} would draw them.
      *
      * @param gameUnitX      the game unit x
      * @param gameUnitY      the game unit y
@@ -156,11 +336,11 @@ public final class ShapeRenderer
      */
     public static void drawRectangle(double gameUnitX, double gameUnitY, double gameUnitWidth, double gameUnitHeight, Color color)
     {
-        drawRectangle(Unit.forGameUnits(gameUnitX),
-                      Unit.forGameUnits(gameUnitY),
-                      Unit.forGameUnits(gameUnitWidth),
-                      Unit.forGameUnits(gameUnitHeight),
-                      color);
+        drawGlRectangle(Unit.toGlUnits(gameUnitX),
+                        Unit.toGlUnits(gameUnitY),
+                        Unit.toGlUnits(gameUnitX + gameUnitWidth),
+                        Unit.toGlUnits(gameUnitY + gameUnitHeight),
+                        color);
     }
 
     /**
@@ -169,7 +349,7 @@ public final class ShapeRenderer
      * <p>
      * The rectangle will be outlined with the default color.
      * <p>
-     * This is just a convenience method that calls {@link #line(Unit, Unit, Unit, Unit, Color)} for the four borders.
+     * The four borders are drawn the same way as {@link #line(Unit, Unit, Unit, Unit, Color)} would draw them.
      *
      * @param x      the x
      * @param y      the y
@@ -190,7 +370,7 @@ public final class ShapeRenderer
      * <p>
      * The rectangle will be outlined with the given color.
      * <p>
-     * This is just a convenience method that calls {@link #line(Unit, Unit, Unit, Unit, Color)} for the four borders.
+     * The four borders are drawn the same way as {@link #line(Unit, Unit, Unit, Unit, Color)} would draw them.
      *
      * @param x      the x
      * @param y      the y
@@ -203,10 +383,11 @@ public final class ShapeRenderer
      */
     public static void drawRectangle(Unit x, Unit y, Unit width, Unit height, Color color)
     {
-        line(x, y, x.addGameUnits(width), y, color);
-        line(x, y, x, y.addGameUnits(height), color);
-        line(x, y.addGameUnits(height), x.addGameUnits(width), y.addGameUnits(height), color);
-        line(x.addGameUnits(width), y, x.addGameUnits(width), y.addGameUnits(height), color);
+        drawGlRectangle(x.glUnits(),
+                        y.glUnits(),
+                        x.glUnits() + width.glUnits(),
+                        y.glUnits() + height.glUnits(),
+                        color);
     }
 
     /**
@@ -247,11 +428,11 @@ public final class ShapeRenderer
      */
     public static void line(double gameUnitX1, double gameUnitY1, double gameUnitX2, double gameUnitY2, Color color)
     {
-        line(Unit.forGameUnits(gameUnitX1),
-             Unit.forGameUnits(gameUnitY1),
-             Unit.forGameUnits(gameUnitX2),
-             Unit.forGameUnits(gameUnitY2),
-             color);
+        glLine(Unit.toGlUnits(gameUnitX1),
+               Unit.toGlUnits(gameUnitY1),
+               Unit.toGlUnits(gameUnitX2),
+               Unit.toGlUnits(gameUnitY2),
+               color);
     }
 
     /**
@@ -288,11 +469,162 @@ public final class ShapeRenderer
      */
     public static void line(Unit x1, Unit y1, Unit x2, Unit y2, Color color)
     {
+        glLine(x1.glUnits(), y1.glUnits(), x2.glUnits(), y2.glUnits(), color);
+    }
+
+    /**
+     * Fills a straight rectangle between the given corners which are already converted to OpenGL units.
+     *
+     * @param glX1  the x of the upper left corner in OpenGL units.
+     * @param glY1  the y of the upper left corner in OpenGL units.
+     * @param glX2  the x of the bottom right corner in OpenGL units.
+     * @param glY2  the y of the bottom right corner in OpenGL units.
+     * @param color the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private static void fillGlRectangle(double glX1, double glY1, double glX2, double glY2, Color color)
+    {
+        if (!isVisible(glX1, glY1, glX2, glY2))
+        {
+            return;
+        }
+
+        if (renderMode == RenderMode.BATCHED)
+        {
+            float x1 = (float)glX1;
+            float y1 = (float)glY1;
+            float x2 = (float)glX2;
+            float y2 = (float)glY2;
+
+            // two triangles per rectangle
+            triangleBatch.ensureCapacity(6);
+            vertex(triangleBatch, x1, y1, color);
+            vertex(triangleBatch, x2, y1, color);
+            vertex(triangleBatch, x2, y2, color);
+            vertex(triangleBatch, x2, y2, color);
+            vertex(triangleBatch, x1, y2, color);
+            vertex(triangleBatch, x1, y1, color);
+            return;
+        }
+
+        glColor4f(color.getRed(), color.getGreen(), color.getBlue(), color.getAlpha());
+
+        glBegin(GL_QUADS);
+        glVertex3d(glX1, glY1, 0);
+        glVertex3d(glX2, glY1, 0);
+        glVertex3d(glX2, glY2, 0);
+        glVertex3d(glX1, glY2, 0);
+        glEnd();
+    }
+
+    /**
+     * Outlines a straight rectangle between the given corners which are already converted to OpenGL units.
+     *
+     * @param glX1  the x of the upper left corner in OpenGL units.
+     * @param glY1  the y of the upper left corner in OpenGL units.
+     * @param glX2  the x of the bottom right corner in OpenGL units.
+     * @param glY2  the y of the bottom right corner in OpenGL units.
+     * @param color the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private static void drawGlRectangle(double glX1, double glY1, double glX2, double glY2, Color color)
+    {
+        if (!isVisible(glX1, glY1, glX2, glY2))
+        {
+            return;
+        }
+
+        lineSegment(glX1, glY1, glX2, glY1, color);
+        lineSegment(glX1, glY1, glX1, glY2, color);
+        lineSegment(glX1, glY2, glX2, glY2, color);
+        lineSegment(glX2, glY1, glX2, glY2, color);
+    }
+
+    /**
+     * Draws a line between the given points which are already converted to OpenGL units.
+     *
+     * @param glX1  the x of the first point in OpenGL units.
+     * @param glY1  the y of the first point in OpenGL units.
+     * @param glX2  the x of the second point in OpenGL units.
+     * @param glY2  the y of the second point in OpenGL units.
+     * @param color the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private static void glLine(double glX1, double glY1, double glX2, double glY2, Color color)
+    {
+        if (isVisible(glX1, glY1, glX2, glY2))
+        {
+            lineSegment(glX1, glY1, glX2, glY2, color);
+        }
+    }
+
+    /**
+     * Draws a line between the given points without culling it.
+     *
+     * @param glX1  the x of the first point in OpenGL units.
+     * @param glY1  the y of the first point in OpenGL units.
+     * @param glX2  the x of the second point in OpenGL units.
+     * @param glY2  the y of the second point in OpenGL units.
+     * @param color the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private static void lineSegment(double glX1, double glY1, double glX2, double glY2, Color color)
+    {
+        if (renderMode == RenderMode.BATCHED)
+        {
+            lineBatch.ensureCapacity(2);
+            vertex(lineBatch, (float)glX1, (float)glY1, color);
+            vertex(lineBatch, (float)glX2, (float)glY2, color);
+            return;
+        }
+
         glColor4f(color.getRed(), color.getGreen(), color.getBlue(), color.getAlpha());
 
         glBegin(GL_LINES);
-        glVertex3d(x1.glUnits(), y1.glUnits(), 0);
-        glVertex3d(x2.glUnits(), y2.glUnits(), 0);
+        glVertex3d(glX1, glY1, 0);
+        glVertex3d(glX2, glY2, 0);
         glEnd();
     }
+
+    /**
+     * Checks the given bounding box against the set culler.
+     *
+     * @param glX1 the x of the first corner in OpenGL units.
+     * @param glY1 the y of the first corner in OpenGL units.
+     * @param glX2 the x of the second corner in OpenGL units.
+     * @param glY2 the y of the second corner in OpenGL units.
+     *
+     * @return true if the shape should be drawn.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private static boolean isVisible(double glX1, double glY1, double glX2, double glY2)
+    {
+        return culler == null || culler.isVisible(glX1, glY1, glX2, glY2);
+    }
+
+    /**
+     * Adds a single vertex with the given color to the given batch.
+     *
+     * @param batch the batch
+     * @param x     the x position in OpenGL units.
+     * @param y     the y position in OpenGL units.
+     * @param color the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    private static void vertex(VertexBatch batch, float x, float y, Color color)
+    {
+        batch.vertex(x, y, color.getPacked());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,263 @@
+package bt2d.utils.render;
+
+import bt.types.Killable;
+import bt2d.utils.Unit;
+import bt2d.utils.render.batch.TexturedVertexBatch;
+import bt2d.utils.render.batch.VertexBatchRenderer;
+import bt2d.utils.render.texture.AtlasPage;
+import bt2d.utils.render.texture.Sprite;
+import bt2d.utils.render.texture.Texture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects sprites and draws them with a single draw call per {@link AtlasPage atlas page}.
+ * <p>
+ * Sprites are sorted into one vertex batch per page while they are drawn, so every page texture is only bound
+ * once per {@link #flush()} no matter in which order the sprites were drawn. Draw order is kept within a page.
+ * <p>
+ * {@link #flush()} has to be called on the thread that owns the OpenGL context.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class SpriteBatch implements Killable
+{
+    /**
+     * The pages that were drawn by this batch. The vertex batch for a page is stored at the same index in {@link #batches}.
+     */
+    protected List<AtlasPage> pages;
+
+    /**
+     * The vertex batches for the pages in {@link #pages}.
+     */
+    protected List<TexturedVertexBatch> batches;
+
+    /**
+     * The page of the last draw call. Consecutive sprites usually share a page, so this avoids searching the page list.
+     */
+    protected AtlasPage lastPage;
+
+    /**
+     * The vertex batch of {@link #lastPage}.
+     */
+    protected TexturedVertexBatch lastBatch;
+
+    /**
+     * Uploads and draws the batches during {@link #flush()}.
+     */
+    protected VertexBatchRenderer renderer;
+
+    /**
+     * Rejects sprites outside of the visible area. Null if sprites should not be culled.
+     */
+    protected ViewportCuller culler;
+
+    /**
+     * Instantiates a new SpriteBatch.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public SpriteBatch()
+    {
+        this(new VertexBatchRenderer());
+    }
+
+    /**
+     * Instantiates a new SpriteBatch that draws with the given renderer.
+     *
+     * @param renderer the renderer, i.e. a {@link bt2d.utils.render.batch.ShaderVertexBatchRenderer} for the
+     *                 {@link RenderPipeline#CORE_PROFILE core profile} pipeline. It is killed together with this batch.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public SpriteBatch(VertexBatchRenderer renderer)
+    {
+        this.pages = new ArrayList<>();
+        this.batches = new ArrayList<>();
+        this.renderer = renderer;
+    }
+
+    /**
+     * Draws the given sprite stretched to the given rectangle without tint.
+     *
+     * @param sprite         the sprite
+     * @param gameUnitX      the game unit x of the upper left corner.
+     * @param gameUnitY      the game unit y of the upper left corner.
+     * @param gameUnitWidth  the game unit width
+     * @param gameUnitHeight the game unit height
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void draw(Sprite sprite, double gameUnitX, double gameUnitY, double gameUnitWidth, double gameUnitHeight)
+    {
+        draw(sprite, gameUnitX, gameUnitY, gameUnitWidth, gameUnitHeight, Color.WHITE);
+    }
+
+    /**
+     * Draws the given sprite stretched to the given rectangle. The colors of the sprite are multiplied with the given tint.
+     *
+     * @param sprite         the sprite
+     * @param gameUnitX      the game unit x of the upper left corner.
+     * @param gameUnitY      the game unit y of the upper left corner.
+     * @param gameUnitWidth  the game unit width
+     * @param gameUnitHeight the game unit height
+     * @param tint           the tint, {@link Color#WHITE} to draw the sprite unchanged.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void draw(Sprite sprite, double gameUnitX, double gameUnitY, double gameUnitWidth, double gameUnitHeight, Color tint)
+    {
+        float x1 = (float)Unit.toGlUnits(gameUnitX);
+        float y1 = (float)Unit.toGlUnits(gameUnitY);
+        float x2 = (float)Unit.toGlUnits(gameUnitX + gameUnitWidth);
+        float y2 = (float)Unit.toGlUnits(gameUnitY + gameUnitHeight);
+
+        if (this.culler != null && !this.culler.isVisible(x1, y1, x2, y2))
+        {
+            return;
+        }
+
+        TexturedVertexBatch batch = getBatch(sprite.page());
+        int color = tint.getPacked();
+
+        // two triangles per sprite
+        batch.ensureCapacity(6);
+        batch.vertex(x1, y1, sprite.u0(), sprite.v0(), color);
+        batch.vertex(x2, y1, sprite.u1(), sprite.v0(), color);
+        batch.vertex(x2, y2, sprite.u1(), sprite.v1(), color);
+        batch.vertex(x2, y2, sprite.u1(), sprite.v1(), color);
+        batch.vertex(x1, y2, sprite.u0(), sprite.v1(), color);
+        batch.vertex(x1, y1, sprite.u0(), sprite.v0(), color);
+    }
+
+    /**
+     * Sets the culler that rejects sprites outside of the visible area before they are batched.
+     *
+     * @param culler the culler or null to draw every sprite.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setCuller(ViewportCuller culler)
+    {
+        this.culler = culler;
+    }
+
+    /**
+     * Gets the vertex batch for the given page, creating one if the page is drawn for the first time.
+     *
+     * @param page the page
+     *
+     * @return the batch
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected TexturedVertexBatch getBatch(AtlasPage page)
+    {
+        if (page != this.lastPage)
+        {
+            int index = this.pages.indexOf(page);
+
+            if (index < 0)
+            {
+                this.pages.add(page);
+                this.batches.add(new TexturedVertexBatch());
+                index = this.pages.size() - 1;
+            }
+
+            this.lastPage = page;
+            this.lastBatch = this.batches.get(index);
+        }
+
+        return this.lastBatch;
+    }
+
+    /**
+     * Draws all collected sprites with one draw call per page.
+     * <p>
+     * Pages are drawn in the order in which they were first used since the batch was created. Pages are uploaded to
+     * the GPU the first time they are drawn. Pages that were killed in the meantime are forgotten by this batch.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void flush()
+    {
+        // pages are drawn in the order they were first used, killed pages are dropped by moving the others forward
+        int kept = 0;
+
+        for (int i = 0; i < this.pages.size(); i++)
+        {
+            AtlasPage page = this.pages.get(i);
+            TexturedVertexBatch batch = this.batches.get(i);
+
+            if (page.isKilled())
+            {
+                // the page may have been killed on a loading thread, its texture can only be deleted here
+                page.deleteTexture();
+                batch.kill();
+                continue;
+            }
+
+            if (batch.getVertexCount() > 0)
+            {
+                Texture texture = page.getTexture();
+
+                // null if the page was killed on another thread since the check above, it is dropped next flush
+                if (texture != null)
+                {
+                    this.renderer.drawTextured(batch, texture.getId());
+                }
+
+                batch.clear();
+            }
+
+            this.pages.set(kept, page);
+            this.batches.set(kept, batch);
+            kept++;
+        }
+
+        for (int i = this.pages.size() - 1; i >= kept; i--)
+        {
+            this.pages.remove(i);
+            this.batches.remove(i);
+        }
+
+        this.lastPage = null;
+        this.lastBatch = null;
+    }
+
+    /**
+     * Frees all vertex batches and the vertex buffer of this batch. The textures of drawn pages that were killed
+     * in the meantime are deleted, other pages are not touched.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        for (int i = 0; i < this.pages.size(); i++)
+        {
+            if (this.pages.get(i).isKilled())
+            {
+                this.pages.get(i).deleteTexture();
+            }
+
+            this.batches.get(i).kill();
+        }
+
+        this.pages.clear();
+        this.batches.clear();
+        this.lastPage = null;
+        this.lastBatch = null;
+        this.renderer.kill();
+    }
+}
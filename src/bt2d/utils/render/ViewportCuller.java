@@ -0,0 +1,180 @@
+package bt2d.utils.render;
+
+/**
+ * Rejects primitives whose bounding box lies completely outside of the visible area before they are batched or drawn.
+ * <p>
+ * The bounds are given in OpenGL units, i.e. the same space that is set up by the orthographic projection of the
+ * game container. The culler counts how many primitives passed and how many were rejected since the last
+ * {@link #resetCounters()} call.
+ * <p>
+ * The culler is not thread safe and has to be used on the thread that draws.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ViewportCuller
+{
+    /**
+     * The visible left border in OpenGL units.
+     */
+    protected double minX;
+
+    /**
+     * The visible top border in OpenGL units.
+     */
+    protected double minY;
+
+    /**
+     * The visible right border in OpenGL units.
+     */
+    protected double maxX;
+
+    /**
+     * The visible bottom border in OpenGL units.
+     */
+    protected double maxY;
+
+    /**
+     * Indicates whether primitives are actually rejected. Disabled cullers still count drawn primitives.
+     */
+    protected boolean enabled;
+
+    /**
+     * The number of primitives that passed since the last reset.
+     */
+    protected long drawn;
+
+    /**
+     * The number of primitives that were rejected since the last reset.
+     */
+    protected long culled;
+
+    /**
+     * Instantiates a new enabled ViewportCuller with unbounded bounds.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ViewportCuller()
+    {
+        this.minX = Double.NEGATIVE_INFINITY;
+        this.minY = Double.NEGATIVE_INFINITY;
+        this.maxX = Double.POSITIVE_INFINITY;
+        this.maxY = Double.POSITIVE_INFINITY;
+        this.enabled = true;
+    }
+
+    /**
+     * Sets the visible area. Primitives touching the border are considered visible.
+     *
+     * @param glX1 the x of the upper left corner in OpenGL units.
+     * @param glY1 the y of the upper left corner in OpenGL units.
+     * @param glX2 the x of the bottom right corner in OpenGL units.
+     * @param glY2 the y of the bottom right corner in OpenGL units.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setBounds(double glX1, double glY1, double glX2, double glY2)
+    {
+        this.minX = Math.min(glX1, glX2);
+        this.minY = Math.min(glY1, glY2);
+        this.maxX = Math.max(glX1, glX2);
+        this.maxY = Math.max(glY1, glY2);
+    }
+
+    /**
+     * Checks whether the bounding box between the given points intersects the visible area and counts the result.
+     * <p>
+     * The points do not have to be ordered, so the end points of a line can be passed directly.
+     *
+     * @param glX1 the x of the first point in OpenGL units.
+     * @param glY1 the y of the first point in OpenGL units.
+     * @param glX2 the x of the second point in OpenGL units.
+     * @param glY2 the y of the second point in OpenGL units.
+     *
+     * @return true if the primitive should be drawn, false if it can be skipped.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isVisible(double glX1, double glY1, double glX2, double glY2)
+    {
+        if (this.enabled
+                && (Math.max(glX1, glX2) < this.minX
+                || Math.min(glX1, glX2) > this.maxX
+                || Math.max(glY1, glY2) < this.minY
+                || Math.min(glY1, glY2) > this.maxY))
+        {
+            this.culled++;
+            return false;
+        }
+
+        this.drawn++;
+        return true;
+    }
+
+    /**
+     * Enables or disables culling. A disabled culler lets every primitive pass.
+     *
+     * @param enabled true to reject invisible primitives, false otherwise.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Indicates whether this culler rejects invisible primitives.
+     *
+     * @return true if culling is enabled.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isEnabled()
+    {
+        return this.enabled;
+    }
+
+    /**
+     * Gets the number of primitives that passed since the last {@link #resetCounters()} call.
+     *
+     * @return the drawn count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getDrawnCount()
+    {
+        return this.drawn;
+    }
+
+    /**
+     * Gets the number of primitives that were rejected since the last {@link #resetCounters()} call.
+     *
+     * @return the culled count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public long getCulledCount()
+    {
+        return this.culled;
+    }
+
+    /**
+     * Sets the drawn and culled counters back to 0.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void resetCounters()
+    {
+        this.drawn = 0;
+        this.culled = 0;
+    }
+}
@@ -0,0 +1,146 @@
+package bt2d.utils.render.batch;
+
+import bt.types.Killable;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A growable off-heap buffer of interleaved vertices. Subclasses define the layout of a vertex and how it is added.
+ * <p>
+ * Every layout starts with an x and y float position and contains a color packed into 4 unsigned bytes
+ * (see {@link bt2d.utils.render.Color#getPacked()}).
+ * <p>
+ * This class does not require an OpenGL context. The collected data is uploaded and drawn by a {@link VertexBatchRenderer}.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public abstract class AbstractVertexBatch implements Killable
+{
+    /**
+     * The number of position components per vertex.
+     */
+    public static final int POSITION_COMPONENTS = 2;
+
+    /**
+     * The number of color components per vertex. Every component is stored as an unsigned byte.
+     */
+    public static final int COLOR_COMPONENTS = 4;
+
+    /**
+     * The number of vertices that a batch can hold before it has to grow for the first time.
+     */
+    protected static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The size of a single vertex of this batch in bytes.
+     */
+    protected final int stride;
+
+    /**
+     * The off-heap buffer holding the vertex data.
+     */
+    protected ByteBuffer buffer;
+
+    /**
+     * The number of vertices that were added since the last {@link #clear()}.
+     */
+    protected int vertexCount;
+
+    /**
+     * Instantiates a new batch for vertices of the given size.
+     *
+     * @param vertexCapacity the number of vertices the batch can hold before it has to grow.
+     * @param stride         the size of a single vertex in bytes.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected AbstractVertexBatch(int vertexCapacity, int stride)
+    {
+        if (vertexCapacity <= 0)
+        {
+            throw new IllegalArgumentException("vertexCapacity has to be above 0");
+        }
+
+        this.stride = stride;
+        this.buffer = MemoryUtil.memAlloc(vertexCapacity * stride);
+    }
+
+    /**
+     * Makes sure that the given amount of vertices can be added without exceeding the buffer.
+     * <p>
+     * The buffer will at least double its size when it needs to grow.
+     *
+     * @param vertices the number of vertices that are about to be added.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void ensureCapacity(int vertices)
+    {
+        int required = this.buffer.position() + vertices * this.stride;
+
+        if (required > this.buffer.capacity())
+        {
+            int position = this.buffer.position();
+            this.buffer = MemoryUtil.memRealloc(this.buffer, Math.max(this.buffer.capacity() * 2, required));
+            this.buffer.position(position);
+        }
+    }
+
+    /**
+     * Gets the number of vertices that were added since the last {@link #clear()}.
+     *
+     * @return the vertex count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getVertexCount()
+    {
+        return this.vertexCount;
+    }
+
+    /**
+     * Gets the underlying buffer.
+     * <p>
+     * The position of the buffer marks the end of the written data. The buffer has to be flipped before it is read.
+     *
+     * @return the buffer
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ByteBuffer getBuffer()
+    {
+        return this.buffer;
+    }
+
+    /**
+     * Removes all vertices from this batch. The allocated memory is kept for the next use.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void clear()
+    {
+        this.buffer.clear();
+        this.vertexCount = 0;
+    }
+
+    /**
+     * Frees the off-heap memory of this batch. The batch can not be used anymore after this call.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        MemoryUtil.memFree(this.buffer);
+        this.buffer = null;
+        this.vertexCount = 0;
+    }
+}
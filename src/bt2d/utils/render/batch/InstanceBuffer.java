@@ -0,0 +1,213 @@
+package bt2d.utils.render.batch;
+
+import bt.types.Killable;
+import bt2d.utils.Unit;
+import bt2d.utils.render.Color;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A growable off-heap buffer of per-instance attributes for drawing many copies of the same {@link ShapeTemplate}.
+ * <p>
+ * Each instance consists of an x and y float offset, an x and y float scale and the color packed into 4 unsigned bytes
+ * (see {@link Color#getPacked()}), which makes an instance 20 bytes large. Offsets and scales are stored in OpenGL units.
+ * <p>
+ * This class does not require an OpenGL context. The collected instances are drawn by an {@link InstancedRenderer}.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class InstanceBuffer implements Killable
+{
+    /**
+     * The number of offset components per instance.
+     */
+    public static final int OFFSET_COMPONENTS = 2;
+
+    /**
+     * The number of scale components per instance.
+     */
+    public static final int SCALE_COMPONENTS = 2;
+
+    /**
+     * The byte offset of the scale within an instance.
+     */
+    public static final int SCALE_OFFSET = OFFSET_COMPONENTS * Float.BYTES;
+
+    /**
+     * The byte offset of the color within an instance.
+     */
+    public static final int COLOR_OFFSET = SCALE_OFFSET + SCALE_COMPONENTS * Float.BYTES;
+
+    /**
+     * The size of a single instance in bytes.
+     */
+    public static final int STRIDE = COLOR_OFFSET + VertexBatch.COLOR_COMPONENTS;
+
+    /**
+     * The number of instances that a buffer can hold before it has to grow for the first time.
+     */
+    protected static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The off-heap buffer holding the instance data.
+     */
+    protected ByteBuffer buffer;
+
+    /**
+     * The number of instances that were added since the last {@link #clear()}.
+     */
+    protected int instanceCount;
+
+    /**
+     * Instantiates a new InstanceBuffer with a default capacity.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public InstanceBuffer()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new InstanceBuffer.
+     *
+     * @param instanceCapacity the number of instances the buffer can hold before it has to grow.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public InstanceBuffer(int instanceCapacity)
+    {
+        if (instanceCapacity <= 0)
+        {
+            throw new IllegalArgumentException("instanceCapacity has to be above 0");
+        }
+
+        this.buffer = MemoryUtil.memAlloc(instanceCapacity * STRIDE);
+    }
+
+    /**
+     * Adds an instance that covers the given rectangle. The template is scaled to the given size and moved to the given position.
+     *
+     * @param gameUnitX      the game unit x of the upper left corner.
+     * @param gameUnitY      the game unit y of the upper left corner.
+     * @param gameUnitWidth  the game unit width
+     * @param gameUnitHeight the game unit height
+     * @param color          the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void add(double gameUnitX, double gameUnitY, double gameUnitWidth, double gameUnitHeight, Color color)
+    {
+        instance((float)Unit.toGlUnits(gameUnitX),
+                 (float)Unit.toGlUnits(gameUnitY),
+                 (float)Unit.toGlUnits(gameUnitWidth),
+                 (float)Unit.toGlUnits(gameUnitHeight),
+                 color.getPacked());
+    }
+
+    /**
+     * Adds a single instance.
+     *
+     * @param x      the x offset in OpenGL units.
+     * @param y      the y offset in OpenGL units.
+     * @param scaleX the x scale in OpenGL units.
+     * @param scaleY the y scale in OpenGL units.
+     * @param color  the packed color, see {@link Color#getPacked()}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void instance(float x, float y, float scaleX, float scaleY, int color)
+    {
+        ensureCapacity(1);
+
+        this.buffer.putFloat(x)
+                   .putFloat(y)
+                   .putFloat(scaleX)
+                   .putFloat(scaleY)
+                   .putInt(color);
+
+        this.instanceCount++;
+    }
+
+    /**
+     * Makes sure that the given amount of instances can be added without exceeding the buffer.
+     * <p>
+     * The buffer will at least double its size when it needs to grow.
+     *
+     * @param instances the number of instances that are about to be added.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void ensureCapacity(int instances)
+    {
+        int required = this.buffer.position() + instances * STRIDE;
+
+        if (required > this.buffer.capacity())
+        {
+            int position = this.buffer.position();
+            this.buffer = MemoryUtil.memRealloc(this.buffer, Math.max(this.buffer.capacity() * 2, required));
+            this.buffer.position(position);
+        }
+    }
+
+    /**
+     * Gets the number of instances that were added since the last {@link #clear()}.
+     *
+     * @return the instance count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getInstanceCount()
+    {
+        return this.instanceCount;
+    }
+
+    /**
+     * Gets the underlying buffer.
+     * <p>
+     * The position of the buffer marks the end of the written data. The buffer has to be flipped before it is read.
+     *
+     * @return the buffer
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ByteBuffer getBuffer()
+    {
+        return this.buffer;
+    }
+
+    /**
+     * Removes all instances from this buffer. The allocated memory is kept for the next use.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void clear()
+    {
+        this.buffer.clear();
+        this.instanceCount = 0;
+    }
+
+    /**
+     * Frees the off-heap memory of this buffer. The buffer can not be used anymore after this call.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        MemoryUtil.memFree(this.buffer);
+        this.buffer = null;
+        this.instanceCount = 0;
+    }
+}
@@ -0,0 +1,96 @@
+package bt2d.utils.render.batch;
+
+import bt.types.Killable;
+import bt.utils.Null;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Draws all instances of an {@link InstanceBuffer} as copies of a {@link ShapeTemplate}.
+ * <p>
+ * This implementation is meant for the fixed-function pipeline which has no instanced draw calls. It expands every
+ * instance into a vertex batch on the CPU and draws the result with a single draw call. The
+ * {@link ShaderInstancedRenderer} of the core profile pipeline uploads only the instance attributes instead.
+ * <p>
+ * Instances are drawn right away and are not culled. All methods of this class have to be called from the thread
+ * that owns the OpenGL context.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class InstancedRenderer implements Killable
+{
+    /**
+     * The vertices of the expanded instances. Null until the first draw call.
+     */
+    protected VertexBatch expanded;
+
+    /**
+     * Draws {@link #expanded}. Null until the first draw call.
+     */
+    protected VertexBatchRenderer renderer;
+
+    /**
+     * Draws one copy of the given template per instance of the given buffer.
+     * <p>
+     * The instance buffer is cleared afterwards.
+     *
+     * @param template  the shape to draw.
+     * @param instances the offsets, scales and colors of the copies.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void draw(ShapeTemplate template, InstanceBuffer instances)
+    {
+        int count = instances.getInstanceCount();
+
+        if (count == 0)
+        {
+            return;
+        }
+
+        if (this.expanded == null)
+        {
+            this.expanded = new VertexBatch();
+            this.renderer = new VertexBatchRenderer();
+        }
+
+        ByteBuffer data = instances.getBuffer();
+        int vertices = template.getVertexCount();
+        this.expanded.ensureCapacity(count * vertices);
+
+        for (int i = 0; i < count; i++)
+        {
+            int offset = i * InstanceBuffer.STRIDE;
+            float x = data.getFloat(offset);
+            float y = data.getFloat(offset + Float.BYTES);
+            float scaleX = data.getFloat(offset + InstanceBuffer.SCALE_OFFSET);
+            float scaleY = data.getFloat(offset + InstanceBuffer.SCALE_OFFSET + Float.BYTES);
+            int color = data.getInt(offset + InstanceBuffer.COLOR_OFFSET);
+
+            for (int j = 0; j < vertices; j++)
+            {
+                this.expanded.vertex(x + template.getX(j) * scaleX, y + template.getY(j) * scaleY, color);
+            }
+        }
+
+        this.renderer.draw(this.expanded, template.getPrimitive());
+        instances.clear();
+    }
+
+    /**
+     * Frees the buffers of this renderer.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        Null.checkKill(this.expanded);
+        Null.checkKill(this.renderer);
+        this.expanded = null;
+        this.renderer = null;
+    }
+}
@@ -0,0 +1,190 @@
+package bt2d.utils.render.batch;
+
+import bt2d.utils.render.shader.DefaultShaders;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL20.glEnableVertexAttribArray;
+import static org.lwjgl.opengl.GL20.glVertexAttribPointer;
+import static org.lwjgl.opengl.GL30.glBindVertexArray;
+import static org.lwjgl.opengl.GL30.glDeleteVertexArrays;
+import static org.lwjgl.opengl.GL30.glGenVertexArrays;
+import static org.lwjgl.opengl.GL31.glDrawArraysInstanced;
+import static org.lwjgl.opengl.GL33.glVertexAttribDivisor;
+
+/**
+ * Draws all instances of an {@link InstanceBuffer} with a single instanced draw call of the core profile pipeline.
+ * <p>
+ * The vertices of every {@link ShapeTemplate} are uploaded once into their own static buffer. Per draw call only the
+ * instance attributes are streamed into an orphaned buffer and the shape is transformed per instance on the GPU.
+ * <p>
+ * All methods of this class have to be called from the thread that owns the OpenGL context.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ShaderInstancedRenderer extends InstancedRenderer
+{
+    /**
+     * The programs that are used to draw.
+     */
+    protected DefaultShaders shaders;
+
+    /**
+     * The buffer that the instance attributes are streamed into. 0 until the first draw call.
+     */
+    protected int instanceVbo;
+
+    /**
+     * The vertex arrays of the templates that were drawn so far.
+     */
+    protected Map<ShapeTemplate, Integer> vertexArrays;
+
+    /**
+     * The static vertex buffers of the templates that were drawn so far.
+     */
+    protected Map<ShapeTemplate, Integer> templateBuffers;
+
+    /**
+     * Instantiates a new ShaderInstancedRenderer.
+     *
+     * @param shaders the programs that are used to draw.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderInstancedRenderer(DefaultShaders shaders)
+    {
+        this.shaders = shaders;
+        this.vertexArrays = new HashMap<>();
+        this.templateBuffers = new HashMap<>();
+    }
+
+    /**
+     * @see InstancedRenderer#draw(ShapeTemplate, InstanceBuffer)
+     */
+    @Override
+    public void draw(ShapeTemplate template, InstanceBuffer instances)
+    {
+        int count = instances.getInstanceCount();
+
+        if (count == 0)
+        {
+            return;
+        }
+
+        int vao = getVertexArray(template);
+
+        ByteBuffer data = instances.getBuffer();
+        data.flip();
+
+        glBindBuffer(GL_ARRAY_BUFFER, this.instanceVbo);
+
+        // reallocating the storage every upload orphans the previous buffer instead of waiting for the gpu to release it
+        glBufferData(GL_ARRAY_BUFFER, data, GL_STREAM_DRAW);
+
+        this.shaders.getInstanceProgram().use();
+        glBindVertexArray(vao);
+        glDrawArraysInstanced(template.getPrimitive(), 0, template.getVertexCount(), count);
+        glBindVertexArray(0);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+
+        instances.clear();
+    }
+
+    /**
+     * Gets the vertex array of the given template, uploading the template and recording its layout on first use.
+     *
+     * @param template the template
+     *
+     * @return the id of the vertex array.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected int getVertexArray(ShapeTemplate template)
+    {
+        Integer vao = this.vertexArrays.get(template);
+
+        if (vao != null)
+        {
+            return vao;
+        }
+
+        if (this.instanceVbo == 0)
+        {
+            this.instanceVbo = glGenBuffers();
+        }
+
+        float[] vertices = new float[template.getVertexCount() * 2];
+
+        for (int i = 0; i < template.getVertexCount(); i++)
+        {
+            vertices[i * 2] = template.getX(i);
+            vertices[i * 2 + 1] = template.getY(i);
+        }
+
+        vao = glGenVertexArrays();
+        glBindVertexArray(vao);
+
+        int templateVbo = glGenBuffers();
+        glBindBuffer(GL_ARRAY_BUFFER, templateVbo);
+        glBufferData(GL_ARRAY_BUFFER, vertices, GL_STATIC_DRAW);
+        glEnableVertexAttribArray(DefaultShaders.POSITION_LOCATION);
+        glVertexAttribPointer(DefaultShaders.POSITION_LOCATION, 2, GL_FLOAT, false, 0, 0L);
+
+        // the instance attributes advance once per instance instead of once per vertex
+        glBindBuffer(GL_ARRAY_BUFFER, this.instanceVbo);
+        glEnableVertexAttribArray(DefaultShaders.OFFSET_LOCATION);
+        glEnableVertexAttribArray(DefaultShaders.SCALE_LOCATION);
+        glEnableVertexAttribArray(DefaultShaders.COLOR_LOCATION);
+        glVertexAttribPointer(DefaultShaders.OFFSET_LOCATION, InstanceBuffer.OFFSET_COMPONENTS, GL_FLOAT, false, InstanceBuffer.STRIDE, 0L);
+        glVertexAttribPointer(DefaultShaders.SCALE_LOCATION, InstanceBuffer.SCALE_COMPONENTS, GL_FLOAT, false, InstanceBuffer.STRIDE, InstanceBuffer.SCALE_OFFSET);
+        glVertexAttribPointer(DefaultShaders.COLOR_LOCATION, VertexBatch.COLOR_COMPONENTS, GL_UNSIGNED_BYTE, true, InstanceBuffer.STRIDE, InstanceBuffer.COLOR_OFFSET);
+        glVertexAttribDivisor(DefaultShaders.OFFSET_LOCATION, 1);
+        glVertexAttribDivisor(DefaultShaders.SCALE_LOCATION, 1);
+        glVertexAttribDivisor(DefaultShaders.COLOR_LOCATION, 1);
+
+        glBindVertexArray(0);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+
+        this.vertexArrays.put(template, vao);
+        this.templateBuffers.put(template, templateVbo);
+        return vao;
+    }
+
+    /**
+     * Deletes all vertex arrays and buffers of this renderer.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        for (int vao : this.vertexArrays.values())
+        {
+            glDeleteVertexArrays(vao);
+        }
+
+        for (int vbo : this.templateBuffers.values())
+        {
+            glDeleteBuffers(vbo);
+        }
+
+        this.vertexArrays.clear();
+        this.templateBuffers.clear();
+
+        if (this.instanceVbo != 0)
+        {
+            glDeleteBuffers(this.instanceVbo);
+            this.instanceVbo = 0;
+        }
+
+        super.kill();
+    }
+}
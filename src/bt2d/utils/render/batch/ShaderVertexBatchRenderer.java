@@ -0,0 +1,160 @@
+package bt2d.utils.render.batch;
+
+import bt2d.utils.render.shader.DefaultShaders;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL13.GL_TEXTURE0;
+import static org.lwjgl.opengl.GL13.glActiveTexture;
+import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.glBindBuffer;
+import static org.lwjgl.opengl.GL20.glEnableVertexAttribArray;
+import static org.lwjgl.opengl.GL20.glVertexAttribPointer;
+import static org.lwjgl.opengl.GL30.*;
+
+/**
+ * Draws vertex batches with the {@link DefaultShaders} and vertex array objects instead of fixed-function client state.
+ * <p>
+ * This is the renderer of the core profile pipeline. The vertex layout of both batch types is recorded once into a
+ * vertex array object each, so a draw call only uploads the vertices, binds the program and the array and draws.
+ * <p>
+ * All methods of this class have to be called from the thread that owns the OpenGL context.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ShaderVertexBatchRenderer extends VertexBatchRenderer
+{
+    /**
+     * The programs that are used to draw.
+     */
+    protected DefaultShaders shaders;
+
+    /**
+     * The vertex array of the {@link VertexBatch} layout. 0 until the first draw call.
+     */
+    protected int colorVao;
+
+    /**
+     * The vertex array of the {@link TexturedVertexBatch} layout. 0 until the first draw call.
+     */
+    protected int textureVao;
+
+    /**
+     * Instantiates a new ShaderVertexBatchRenderer.
+     *
+     * @param shaders the programs that are used to draw.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderVertexBatchRenderer(DefaultShaders shaders)
+    {
+        this.shaders = shaders;
+    }
+
+    /**
+     * @see VertexBatchRenderer#draw(VertexBatch, int)
+     */
+    @Override
+    public void draw(VertexBatch batch, int primitive)
+    {
+        if (batch.getVertexCount() == 0)
+        {
+            return;
+        }
+
+        upload(batch);
+        createVertexArrays();
+
+        this.shaders.getColorProgram().use();
+        glBindVertexArray(this.colorVao);
+        glDrawArrays(primitive, 0, batch.getVertexCount());
+        glBindVertexArray(0);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+
+        batch.clear();
+    }
+
+    /**
+     * @see VertexBatchRenderer#drawTextured(TexturedVertexBatch, int)
+     */
+    @Override
+    public void drawTextured(TexturedVertexBatch batch, int textureId)
+    {
+        if (batch.getVertexCount() == 0)
+        {
+            return;
+        }
+
+        upload(batch);
+        createVertexArrays();
+
+        glEnable(GL_BLEND);
+        glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+        glActiveTexture(GL_TEXTURE0);
+        glBindTexture(GL_TEXTURE_2D, textureId);
+
+        this.shaders.getTextureProgram().use();
+        glBindVertexArray(this.textureVao);
+        glDrawArrays(GL_TRIANGLES, 0, batch.getVertexCount());
+        glBindVertexArray(0);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+
+        glBindTexture(GL_TEXTURE_2D, 0);
+        glDisable(GL_BLEND);
+
+        batch.clear();
+    }
+
+    /**
+     * Records the vertex layouts of both batch types if that was not done yet. The vertex buffer has to exist and be bound.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void createVertexArrays()
+    {
+        if (this.colorVao != 0)
+        {
+            return;
+        }
+
+        this.colorVao = glGenVertexArrays();
+        glBindVertexArray(this.colorVao);
+        glEnableVertexAttribArray(DefaultShaders.POSITION_LOCATION);
+        glEnableVertexAttribArray(DefaultShaders.COLOR_LOCATION);
+        glVertexAttribPointer(DefaultShaders.POSITION_LOCATION, VertexBatch.POSITION_COMPONENTS, GL_FLOAT, false, VertexBatch.STRIDE, 0L);
+        glVertexAttribPointer(DefaultShaders.COLOR_LOCATION, VertexBatch.COLOR_COMPONENTS, GL_UNSIGNED_BYTE, true, VertexBatch.STRIDE, VertexBatch.COLOR_OFFSET);
+
+        this.textureVao = glGenVertexArrays();
+        glBindVertexArray(this.textureVao);
+        glEnableVertexAttribArray(DefaultShaders.POSITION_LOCATION);
+        glEnableVertexAttribArray(DefaultShaders.COLOR_LOCATION);
+        glEnableVertexAttribArray(DefaultShaders.TEXTURE_LOCATION);
+        glVertexAttribPointer(DefaultShaders.POSITION_LOCATION, VertexBatch.POSITION_COMPONENTS, GL_FLOAT, false, TexturedVertexBatch.STRIDE, 0L);
+        glVertexAttribPointer(DefaultShaders.COLOR_LOCATION, VertexBatch.COLOR_COMPONENTS, GL_UNSIGNED_BYTE, true, TexturedVertexBatch.STRIDE, TexturedVertexBatch.COLOR_OFFSET);
+        glVertexAttribPointer(DefaultShaders.TEXTURE_LOCATION, TexturedVertexBatch.TEXTURE_COMPONENTS, GL_FLOAT, false, TexturedVertexBatch.STRIDE, TexturedVertexBatch.TEXTURE_OFFSET);
+
+        glBindVertexArray(0);
+    }
+
+    /**
+     * Deletes the vertex arrays and the vertex buffer object of this renderer.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        if (this.colorVao != 0)
+        {
+            glDeleteVertexArrays(this.colorVao);
+            glDeleteVertexArrays(this.textureVao);
+            this.colorVao = 0;
+            this.textureVao = 0;
+        }
+
+        super.kill();
+    }
+}
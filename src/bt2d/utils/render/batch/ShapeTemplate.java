@@ -0,0 +1,122 @@
+package bt2d.utils.render.batch;
+
+import static org.lwjgl.opengl.GL11.GL_LINES;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLES;
+
+/**
+ * The vertices of a shape that is drawn many times by an {@link InstancedRenderer}.
+ * <p>
+ * The vertices are given in a unit space in which 0|0 is the upper left and 1|1 the bottom right corner of the shape.
+ * Every instance scales them by its scale and moves them by its offset.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public final class ShapeTemplate
+{
+    /**
+     * A filled rectangle made of two triangles.
+     */
+    public static final ShapeTemplate FILLED_RECTANGLE = new ShapeTemplate(GL_TRIANGLES,
+                                                                           0, 0,
+                                                                           1, 0,
+                                                                           1, 1,
+                                                                           1, 1,
+                                                                           0, 1,
+                                                                           0, 0);
+
+    /**
+     * The outline of a rectangle made of four lines.
+     */
+    public static final ShapeTemplate OUTLINED_RECTANGLE = new ShapeTemplate(GL_LINES,
+                                                                             0, 0, 1, 0,
+                                                                             0, 0, 0, 1,
+                                                                             0, 1, 1, 1,
+                                                                             1, 0, 1, 1);
+
+    /**
+     * The OpenGL primitive type of the vertices.
+     */
+    private final int primitive;
+
+    /**
+     * The x and y components of all vertices.
+     */
+    private final float[] vertices;
+
+    /**
+     * Instantiates a new ShapeTemplate.
+     *
+     * @param primitive the OpenGL primitive type, i.e. {@link org.lwjgl.opengl.GL11#GL_TRIANGLES GL_TRIANGLES}.
+     * @param vertices  the x and y components of all vertices in unit space.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShapeTemplate(int primitive, float... vertices)
+    {
+        if (vertices.length == 0 || vertices.length % 2 != 0)
+        {
+            throw new IllegalArgumentException("vertices has to contain an x and y component for at least one vertex");
+        }
+
+        this.primitive = primitive;
+        this.vertices = vertices.clone();
+    }
+
+    /**
+     * Gets the OpenGL primitive type of the vertices.
+     *
+     * @return the primitive
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getPrimitive()
+    {
+        return this.primitive;
+    }
+
+    /**
+     * Gets the number of vertices of this template.
+     *
+     * @return the vertex count
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getVertexCount()
+    {
+        return this.vertices.length / 2;
+    }
+
+    /**
+     * Gets the x component of the vertex at the given index.
+     *
+     * @param index the index of the vertex.
+     *
+     * @return the x in unit space.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public float getX(int index)
+    {
+        return this.vertices[index * 2];
+    }
+
+    /**
+     * Gets the y component of the vertex at the given index.
+     *
+     * @param index the index of the vertex.
+     *
+     * @return the y in unit space.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public float getY(int index)
+    {
+        return this.vertices[index * 2 + 1];
+    }
+}
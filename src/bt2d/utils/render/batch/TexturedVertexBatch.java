@@ -0,0 +1,82 @@
+package bt2d.utils.render.batch;
+
+/**
+ * A batch of textured vertices.
+ * <p>
+ * Each vertex consists of an x and y float position, u and v float texture coordinates and
+ * a packed color (see {@link bt2d.utils.render.Color#getPacked()}) which is used to tint the texture.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class TexturedVertexBatch extends AbstractVertexBatch
+{
+    /**
+     * The number of texture coordinate components per vertex.
+     */
+    public static final int TEXTURE_COMPONENTS = 2;
+
+    /**
+     * The byte offset of the texture coordinates within a vertex.
+     */
+    public static final int TEXTURE_OFFSET = POSITION_COMPONENTS * Float.BYTES;
+
+    /**
+     * The byte offset of the color within a vertex.
+     */
+    public static final int COLOR_OFFSET = TEXTURE_OFFSET + TEXTURE_COMPONENTS * Float.BYTES;
+
+    /**
+     * The size of a single vertex in bytes.
+     */
+    public static final int STRIDE = COLOR_OFFSET + COLOR_COMPONENTS;
+
+    /**
+     * Instantiates a new TexturedVertexBatch with a default capacity.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TexturedVertexBatch()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new TexturedVertexBatch.
+     *
+     * @param vertexCapacity the number of vertices the batch can hold before it has to grow.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TexturedVertexBatch(int vertexCapacity)
+    {
+        super(vertexCapacity, STRIDE);
+    }
+
+    /**
+     * Adds a single vertex.
+     *
+     * @param x     the x position in OpenGL units.
+     * @param y     the y position in OpenGL units.
+     * @param u     the horizontal texture coordinate in a range of 0-1.
+     * @param v     the vertical texture coordinate in a range of 0-1.
+     * @param color the packed tint color, see {@link bt2d.utils.render.Color#getPacked()}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void vertex(float x, float y, float u, float v, int color)
+    {
+        ensureCapacity(1);
+
+        this.buffer.putFloat(x)
+                   .putFloat(y)
+                   .putFloat(u)
+                   .putFloat(v)
+                   .putInt(color);
+
+        this.vertexCount++;
+    }
+}
@@ -0,0 +1,70 @@
+package bt2d.utils.render.batch;
+
+/**
+ * A growable off-heap buffer of interleaved position/color vertices.
+ * <p>
+ * Each vertex consists of an x and y float position followed by the color packed into 4 unsigned bytes
+ * (see {@link bt2d.utils.render.Color#getPacked()}), which makes a vertex 12 bytes large.
+ * <p>
+ * This class does not require an OpenGL context. The collected data is uploaded and drawn by a {@link VertexBatchRenderer}.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class VertexBatch extends AbstractVertexBatch
+{
+    /**
+     * The byte offset of the color within a vertex.
+     */
+    public static final int COLOR_OFFSET = POSITION_COMPONENTS * Float.BYTES;
+
+    /**
+     * The size of a single vertex in bytes.
+     */
+    public static final int STRIDE = COLOR_OFFSET + COLOR_COMPONENTS;
+
+    /**
+     * Instantiates a new VertexBatch with a default capacity.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public VertexBatch()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new VertexBatch.
+     *
+     * @param vertexCapacity the number of vertices the batch can hold before it has to grow.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public VertexBatch(int vertexCapacity)
+    {
+        super(vertexCapacity, STRIDE);
+    }
+
+    /**
+     * Adds a single vertex.
+     *
+     * @param x     the x position in OpenGL units.
+     * @param y     the y position in OpenGL units.
+     * @param color the packed color, see {@link bt2d.utils.render.Color#getPacked()}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void vertex(float x, float y, int color)
+    {
+        ensureCapacity(1);
+
+        this.buffer.putFloat(x)
+                   .putFloat(y)
+                   .putInt(color);
+
+        this.vertexCount++;
+    }
+}
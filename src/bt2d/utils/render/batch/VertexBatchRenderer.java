@@ -0,0 +1,144 @@
+package bt2d.utils.render.batch;
+
+import bt.types.Killable;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL15.*;
+
+/**
+ * Uploads the contents of a {@link VertexBatch} or {@link TexturedVertexBatch} into a vertex buffer object and draws them with a single draw call.
+ * <p>
+ * All methods of this class have to be called from the thread that owns the OpenGL context.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class VertexBatchRenderer implements Killable
+{
+    /**
+     * The id of the vertex buffer object. 0 until the first draw call.
+     */
+    protected int vbo;
+
+    /**
+     * Uploads the vertices of the given batch and draws them as the given primitive type.
+     * <p>
+     * The batch is cleared afterwards.
+     *
+     * @param batch     the batch to draw.
+     * @param primitive the OpenGL primitive type, i.e. {@link org.lwjgl.opengl.GL11#GL_TRIANGLES GL_TRIANGLES}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void draw(VertexBatch batch, int primitive)
+    {
+        if (batch.getVertexCount() == 0)
+        {
+            return;
+        }
+
+        upload(batch);
+
+        glEnableClientState(GL_VERTEX_ARRAY);
+        glEnableClientState(GL_COLOR_ARRAY);
+        glVertexPointer(VertexBatch.POSITION_COMPONENTS, GL_FLOAT, VertexBatch.STRIDE, 0L);
+        glColorPointer(VertexBatch.COLOR_COMPONENTS, GL_UNSIGNED_BYTE, VertexBatch.STRIDE, VertexBatch.COLOR_OFFSET);
+
+        glDrawArrays(primitive, 0, batch.getVertexCount());
+
+        glDisableClientState(GL_COLOR_ARRAY);
+        glDisableClientState(GL_VERTEX_ARRAY);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+
+        batch.clear();
+    }
+
+    /**
+     * Uploads the vertices of the given batch and draws them as triangles textured with the given texture.
+     * <p>
+     * The batch is cleared afterwards.
+     *
+     * @param batch     the batch to draw.
+     * @param textureId the id of the OpenGL texture that the texture coordinates of the batch refer to.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void drawTextured(TexturedVertexBatch batch, int textureId)
+    {
+        if (batch.getVertexCount() == 0)
+        {
+            return;
+        }
+
+        glEnable(GL_TEXTURE_2D);
+        glEnable(GL_BLEND);
+        glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+        glBindTexture(GL_TEXTURE_2D, textureId);
+
+        upload(batch);
+
+        glEnableClientState(GL_VERTEX_ARRAY);
+        glEnableClientState(GL_TEXTURE_COORD_ARRAY);
+        glEnableClientState(GL_COLOR_ARRAY);
+        glVertexPointer(VertexBatch.POSITION_COMPONENTS, GL_FLOAT, TexturedVertexBatch.STRIDE, 0L);
+        glTexCoordPointer(TexturedVertexBatch.TEXTURE_COMPONENTS, GL_FLOAT, TexturedVertexBatch.STRIDE, TexturedVertexBatch.TEXTURE_OFFSET);
+        glColorPointer(VertexBatch.COLOR_COMPONENTS, GL_UNSIGNED_BYTE, TexturedVertexBatch.STRIDE, TexturedVertexBatch.COLOR_OFFSET);
+
+        glDrawArrays(GL_TRIANGLES, 0, batch.getVertexCount());
+
+        glDisableClientState(GL_COLOR_ARRAY);
+        glDisableClientState(GL_TEXTURE_COORD_ARRAY);
+        glDisableClientState(GL_VERTEX_ARRAY);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+
+        glBindTexture(GL_TEXTURE_2D, 0);
+        glDisable(GL_BLEND);
+        glDisable(GL_TEXTURE_2D);
+
+        batch.clear();
+    }
+
+    /**
+     * Uploads the vertices of the given batch into the vertex buffer object and leaves the buffer bound.
+     *
+     * @param batch the batch to upload.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void upload(AbstractVertexBatch batch)
+    {
+        if (this.vbo == 0)
+        {
+            this.vbo = glGenBuffers();
+        }
+
+        ByteBuffer data = batch.getBuffer();
+        data.flip();
+
+        glBindBuffer(GL_ARRAY_BUFFER, this.vbo);
+
+        // reallocating the storage every upload orphans the previous buffer instead of waiting for the gpu to release it
+        glBufferData(GL_ARRAY_BUFFER, data, GL_STREAM_DRAW);
+    }
+
+    /**
+     * Deletes the vertex buffer object of this renderer.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        if (this.vbo != 0)
+        {
+            glDeleteBuffers(this.vbo);
+            this.vbo = 0;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package bt2d.utils.render.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Records multiple {@link RenderLayer render layers} in parallel and merges their commands in layer order.
+ * <p>
+ * Every layer records into its own buffer on a {@link ForkJoinPool}. Afterwards the buffers are appended to the
+ * target buffer in the order of the given list, so the result is the same as if the layers were recorded one after another.
+ * <p>
+ * Buffers and tasks are kept between calls, so recording the same number of layers every frame does not create any objects.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class LayerRecorder
+{
+    /**
+     * The pool that the layers are recorded on.
+     */
+    protected ForkJoinPool pool;
+
+    /**
+     * One reusable task per layer index.
+     */
+    protected List<LayerTask> tasks;
+
+    /**
+     * The task that forks the layer tasks inside of the pool.
+     */
+    protected RecordTask recordTask;
+
+    /**
+     * Instantiates a new LayerRecorder that uses the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public LayerRecorder()
+    {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Instantiates a new LayerRecorder.
+     *
+     * @param pool the pool that the layers are recorded on.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public LayerRecorder(ForkJoinPool pool)
+    {
+        this.pool = pool;
+        this.tasks = new ArrayList<>();
+        this.recordTask = new RecordTask();
+    }
+
+    /**
+     * Records the given layers and appends their commands to the given buffer in layer order.
+     * <p>
+     * A single layer is recorded directly on the calling thread. Exceptions thrown by a layer are rethrown by this method.
+     *
+     * @param layers         the layers to record.
+     * @param target         the buffer that receives the merged commands.
+     * @param debugRendering true if additional debug rendering is enabled and expected, false otherwise.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void record(List<RenderLayer> layers, RenderCommandBuffer target, boolean debugRendering)
+    {
+        int count = layers.size();
+
+        if (count == 0)
+        {
+            return;
+        }
+
+        if (count == 1)
+        {
+            layers.get(0).record(target, debugRendering);
+            return;
+        }
+
+        while (this.tasks.size() < count)
+        {
+            this.tasks.add(new LayerTask());
+        }
+
+        for (int i = 0; i < count; i++)
+        {
+            LayerTask task = this.tasks.get(i);
+            task.reinitialize();
+            task.layer = layers.get(i);
+            task.debugRendering = debugRendering;
+        }
+
+        this.recordTask.reinitialize();
+        this.recordTask.count = count;
+        this.pool.invoke(this.recordTask);
+
+        // merge in layer order to keep the result deterministic
+        for (int i = 0; i < count; i++)
+        {
+            LayerTask task = this.tasks.get(i);
+            target.append(task.commands);
+            task.layer = null;
+        }
+    }
+
+    /**
+     * Forks all layer tasks but the first, records the first one itself and waits for the others.
+     * <p>
+     * All layers are finished before an exception of any of them is propagated.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected class RecordTask extends RecursiveAction
+    {
+        /**
+         * The number of layer tasks to run.
+         */
+        protected int count;
+
+        @Override
+        protected void compute()
+        {
+            for (int i = this.count - 1; i > 0; i--)
+            {
+                tasks.get(i).fork();
+            }
+
+            try
+            {
+                tasks.get(0).invoke();
+            }
+            finally
+            {
+                // wait for every layer even if the first one failed, otherwise they would keep writing into
+                // buffers that the next frame clears
+                for (int i = 1; i < this.count; i++)
+                {
+                    tasks.get(i).quietlyJoin();
+                }
+            }
+
+            // rethrows the exception of the first failed layer
+            for (int i = 1; i < this.count; i++)
+            {
+                tasks.get(i).join();
+            }
+        }
+    }
+
+    /**
+     * Records a single layer into its own buffer.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected static class LayerTask extends RecursiveAction
+    {
+        /**
+         * The buffer of this task which is reused every frame.
+         */
+        protected final RenderCommandBuffer commands = new RenderCommandBuffer();
+
+        /**
+         * The layer to record.
+         */
+        protected RenderLayer layer;
+
+        /**
+         * The debug rendering flag that is passed to the layer.
+         */
+        protected boolean debugRendering;
+
+        @Override
+        protected void compute()
+        {
+            this.commands.clear();
+            this.layer.record(this.commands, this.debugRendering);
+        }
+    }
+}
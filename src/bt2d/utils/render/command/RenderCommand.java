@@ -0,0 +1,201 @@
+package bt2d.utils.render.command;
+
+import bt2d.utils.render.Color;
+import bt2d.utils.render.texture.Sprite;
+
+/**
+ * A single recorded draw command.
+ * <p>
+ * Commands are preallocated and reused by their {@link RenderCommandBuffer}, so a command must not be
+ * kept beyond the submission of the frame it was recorded for.
+ * <p>
+ * The meaning of the four values depends on the type:
+ * <ul>
+ *     <li>{@link #FILL_RECTANGLE}, {@link #DRAW_RECTANGLE}, {@link #SPRITE}, {@link #CLIP}: x, y, width, height</li>
+ *     <li>{@link #LINE}: x1, y1, x2, y2</li>
+ *     <li>{@link #PUSH_TRANSFORM}: translate x, translate y, scale x, scale y</li>
+ * </ul>
+ * All positions and sizes are in game units.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class RenderCommand
+{
+    /**
+     * Fills a rectangle with a color.
+     */
+    public static final int FILL_RECTANGLE = 0;
+
+    /**
+     * Outlines a rectangle with a color.
+     */
+    public static final int DRAW_RECTANGLE = 1;
+
+    /**
+     * Draws a line with a color.
+     */
+    public static final int LINE = 2;
+
+    /**
+     * Draws a tinted sprite.
+     */
+    public static final int SPRITE = 3;
+
+    /**
+     * Pushes a translation and scale that is applied to all following commands until the matching {@link #POP_TRANSFORM}.
+     */
+    public static final int PUSH_TRANSFORM = 4;
+
+    /**
+     * Removes the last pushed transform.
+     */
+    public static final int POP_TRANSFORM = 5;
+
+    /**
+     * Restricts all following commands to a rectangle until the next {@link #CLIP} or {@link #CLEAR_CLIP}.
+     */
+    public static final int CLIP = 6;
+
+    /**
+     * Removes the current clip rectangle.
+     */
+    public static final int CLEAR_CLIP = 7;
+
+    private int type;
+    private double a;
+    private double b;
+    private double c;
+    private double d;
+    private Color color;
+    private Sprite sprite;
+
+    /**
+     * Overwrites all values of this command.
+     *
+     * @param type   the type, i.e. {@link #FILL_RECTANGLE}.
+     * @param a      the first value
+     * @param b      the second value
+     * @param c      the third value
+     * @param d      the fourth value
+     * @param color  the color or null
+     * @param sprite the sprite or null
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    void set(int type, double a, double b, double c, double d, Color color, Sprite sprite)
+    {
+        this.type = type;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.color = color;
+        this.sprite = sprite;
+    }
+
+    /**
+     * Copies all values from the given command.
+     *
+     * @param other the command to copy.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    void set(RenderCommand other)
+    {
+        set(other.type, other.a, other.b, other.c, other.d, other.color, other.sprite);
+    }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return the type, i.e. {@link #FILL_RECTANGLE}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getType()
+    {
+        return this.type;
+    }
+
+    /**
+     * Gets the first value, usually an x position.
+     *
+     * @return the first value
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getA()
+    {
+        return this.a;
+    }
+
+    /**
+     * Gets the second value, usually a y position.
+     *
+     * @return the second value
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getB()
+    {
+        return this.b;
+    }
+
+    /**
+     * Gets the third value, usually a width.
+     *
+     * @return the third value
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getC()
+    {
+        return this.c;
+    }
+
+    /**
+     * Gets the fourth value, usually a height.
+     *
+     * @return the fourth value
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public double getD()
+    {
+        return this.d;
+    }
+
+    /**
+     * Gets the color of this command.
+     *
+     * @return the color or null if the type does not use one.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public Color getColor()
+    {
+        return this.color;
+    }
+
+    /**
+     * Gets the sprite of this command.
+     *
+     * @return the sprite or null if the type is not {@link #SPRITE}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public Sprite getSprite()
+    {
+        return this.sprite;
+    }
+}
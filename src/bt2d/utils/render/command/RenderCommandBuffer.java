@@ -0,0 +1,296 @@
+package bt2d.utils.render.command;
+
+import bt2d.utils.render.Color;
+import bt2d.utils.render.texture.Sprite;
+
+/**
+ * A reusable list of {@link RenderCommand render commands} for one frame.
+ * <p>
+ * All commands are preallocated and overwritten on every recording, so recording does not create any objects
+ * unless the buffer has to grow. The buffer does not touch OpenGL and can be filled on any thread.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class RenderCommandBuffer
+{
+    /**
+     * The number of commands that a buffer can hold before it has to grow for the first time.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The preallocated commands. Only the first {@link #size} commands are valid.
+     */
+    protected RenderCommand[] commands;
+
+    /**
+     * The number of recorded commands.
+     */
+    protected int size;
+
+    /**
+     * Instantiates a new RenderCommandBuffer with a default capacity.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderCommandBuffer()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new RenderCommandBuffer.
+     *
+     * @param capacity the number of commands that are preallocated.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderCommandBuffer(int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("capacity has to be above 0");
+        }
+
+        this.commands = new RenderCommand[capacity];
+
+        for (int i = 0; i < capacity; i++)
+        {
+            this.commands[i] = new RenderCommand();
+        }
+    }
+
+    /**
+     * Records a filled rectangle.
+     *
+     * @param gameUnitX      the game unit x
+     * @param gameUnitY      the game unit y
+     * @param gameUnitWidth  the game unit width
+     * @param gameUnitHeight the game unit height
+     * @param color          the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void fillRectangle(double gameUnitX, double gameUnitY, double gameUnitWidth, double gameUnitHeight, Color color)
+    {
+        next().set(RenderCommand.FILL_RECTANGLE, gameUnitX, gameUnitY, gameUnitWidth, gameUnitHeight, color, null);
+    }
+
+    /**
+     * Records an outlined rectangle.
+     *
+     * @param gameUnitX      the game unit x
+     * @param gameUnitY      the game unit y
+     * @param gameUnitWidth  the game unit width
+     * @param gameUnitHeight the game unit height
+     * @param color          the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void drawRectangle(double gameUnitX, double gameUnitY, double gameUnitWidth, double gameUnitHeight, Color color)
+    {
+        next().set(RenderCommand.DRAW_RECTANGLE, gameUnitX, gameUnitY, gameUnitWidth, gameUnitHeight, color, null);
+    }
+
+    /**
+     * Records a line from gameUnitX1|gameUnitY1 to gameUnitX2|gameUnitY2.
+     *
+     * @param gameUnitX1 the game unit x 1
+     * @param gameUnitY1 the game unit y 1
+     * @param gameUnitX2 the game unit x 2
+     * @param gameUnitY2 the game unit y 2
+     * @param color      the color
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void line(double gameUnitX1, double gameUnitY1, double gameUnitX2, double gameUnitY2, Color color)
+    {
+        next().set(RenderCommand.LINE, gameUnitX1, gameUnitY1, gameUnitX2, gameUnitY2, color, null);
+    }
+
+    /**
+     * Records a sprite stretched to the given rectangle.
+     *
+     * @param sprite         the sprite
+     * @param gameUnitX      the game unit x
+     * @param gameUnitY      the game unit y
+     * @param gameUnitWidth  the game unit width
+     * @param gameUnitHeight the game unit height
+     * @param tint           the tint, {@link Color#WHITE} to draw the sprite unchanged.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void sprite(Sprite sprite, double gameUnitX, double gameUnitY, double gameUnitWidth, double gameUnitHeight, Color tint)
+    {
+        next().set(RenderCommand.SPRITE, gameUnitX, gameUnitY, gameUnitWidth, gameUnitHeight, tint, sprite);
+    }
+
+    /**
+     * Records a transform that applies to all following commands until the matching {@link #popTransform()}.
+     * <p>
+     * Positions are first scaled and then translated. Transforms are combined with already pushed transforms.
+     *
+     * @param translateX the game units to move along the x axis.
+     * @param translateY the game units to move along the y axis.
+     * @param scaleX     the factor to scale along the x axis.
+     * @param scaleY     the factor to scale along the y axis.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void pushTransform(double translateX, double translateY, double scaleX, double scaleY)
+    {
+        next().set(RenderCommand.PUSH_TRANSFORM, translateX, translateY, scaleX, scaleY, null, null);
+    }
+
+    /**
+     * Records the removal of the last pushed transform.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void popTransform()
+    {
+        next().set(RenderCommand.POP_TRANSFORM, 0, 0, 0, 0, null, null);
+    }
+
+    /**
+     * Records a clip rectangle. Following commands are only visible within that rectangle.
+     *
+     * @param gameUnitX      the game unit x
+     * @param gameUnitY      the game unit y
+     * @param gameUnitWidth  the game unit width
+     * @param gameUnitHeight the game unit height
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void clip(double gameUnitX, double gameUnitY, double gameUnitWidth, double gameUnitHeight)
+    {
+        next().set(RenderCommand.CLIP, gameUnitX, gameUnitY, gameUnitWidth, gameUnitHeight, null, null);
+    }
+
+    /**
+     * Records the removal of the current clip rectangle.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void clearClip()
+    {
+        next().set(RenderCommand.CLEAR_CLIP, 0, 0, 0, 0, null, null);
+    }
+
+    /**
+     * Appends copies of all commands of the given buffer to this buffer.
+     *
+     * @param other the buffer to copy from.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void append(RenderCommandBuffer other)
+    {
+        ensureCapacity(this.size + other.size);
+
+        for (int i = 0; i < other.size; i++)
+        {
+            this.commands[this.size++].set(other.commands[i]);
+        }
+    }
+
+    /**
+     * Gets the recorded command at the given index.
+     *
+     * @param index the index, has to be lower than {@link #size()}.
+     *
+     * @return the command
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderCommand get(int index)
+    {
+        if (index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+        }
+
+        return this.commands[index];
+    }
+
+    /**
+     * Gets the number of recorded commands.
+     *
+     * @return the size
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Removes all recorded commands. The preallocated commands are kept.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void clear()
+    {
+        // drop references so that killed sprites and pages can be collected
+        for (int i = 0; i < this.size; i++)
+        {
+            this.commands[i].set(0, 0, 0, 0, 0, null, null);
+        }
+
+        this.size = 0;
+    }
+
+    /**
+     * Gets the next free command and counts it as recorded.
+     *
+     * @return the command that has to be overwritten by the caller.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected RenderCommand next()
+    {
+        ensureCapacity(this.size + 1);
+        return this.commands[this.size++];
+    }
+
+    /**
+     * Makes sure that the buffer can hold the given number of commands. The buffer will at least double its size when it needs to grow.
+     *
+     * @param capacity the required capacity.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void ensureCapacity(int capacity)
+    {
+        if (capacity > this.commands.length)
+        {
+            RenderCommand[] grown = new RenderCommand[Math.max(this.commands.length * 2, capacity)];
+            System.arraycopy(this.commands, 0, grown, 0, this.commands.length);
+
+            for (int i = this.commands.length; i < grown.length; i++)
+            {
+                grown[i] = new RenderCommand();
+            }
+
+            this.commands = grown;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package bt2d.utils.render.command;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A ring of {@link RenderCommandBuffer command buffers} that hands recorded frames from a recording stage to a submission stage.
+ * <p>
+ * Frames are submitted in the order they were published. With a ring of n buffers the recorder can be up to
+ * n - 1 frames ahead of the submitter, i.e. with the default of two buffers frame N+1 can be recorded on
+ * one thread while frame N is submitted on another.
+ * <p>
+ * The queue supports exactly one recording thread and one submitting thread.
+ * <p>
+ * Usage:
+ * <pre>
+ *     // recording thread
+ *     RenderCommandBuffer commands = queue.beginRecording();
+ *     if (commands != null)
+ *     {
+ *         scene.record(commands, false);
+ *         queue.publish();
+ *     }
+ *
+ *     // submitting thread
+ *     RenderCommandBuffer frame = queue.beginSubmission();
+ *     if (frame != null)
+ *     {
+ *         submitter.submit(frame);
+ *         queue.finishSubmission();
+ *     }
+ * </pre>
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class RenderCommandQueue
+{
+    /**
+     * The ring of buffers.
+     */
+    protected final RenderCommandBuffer[] buffers;
+
+    /**
+     * The number of frames that were published so far.
+     */
+    protected final AtomicLong published;
+
+    /**
+     * The number of frames that were fully submitted so far.
+     */
+    protected final AtomicLong submitted;
+
+    /**
+     * Instantiates a new RenderCommandQueue with two buffers.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderCommandQueue()
+    {
+        this(2);
+    }
+
+    /**
+     * Instantiates a new RenderCommandQueue.
+     *
+     * @param bufferCount the number of buffers in the ring. Has to be at least 1.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderCommandQueue(int bufferCount)
+    {
+        if (bufferCount < 1)
+        {
+            throw new IllegalArgumentException("bufferCount has to be at least 1");
+        }
+
+        this.buffers = new RenderCommandBuffer[bufferCount];
+
+        for (int i = 0; i < bufferCount; i++)
+        {
+            this.buffers[i] = new RenderCommandBuffer();
+        }
+
+        this.published = new AtomicLong();
+        this.submitted = new AtomicLong();
+    }
+
+    /**
+     * Gets the cleared buffer for the next frame.
+     * <p>
+     * The buffer has to be handed over via {@link #publish()} once the frame is recorded.
+     *
+     * @return the buffer or null if all buffers are still waiting for submission.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderCommandBuffer beginRecording()
+    {
+        long frame = this.published.get();
+
+        if (frame - this.submitted.get() >= this.buffers.length)
+        {
+            return null;
+        }
+
+        RenderCommandBuffer buffer = this.buffers[(int)(frame % this.buffers.length)];
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Hands the buffer of the last {@link #beginRecording()} call over to the submission stage.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void publish()
+    {
+        this.published.incrementAndGet();
+    }
+
+    /**
+     * Gets the oldest published buffer that was not submitted yet.
+     * <p>
+     * {@link #finishSubmission()} has to be called once the buffer was submitted.
+     *
+     * @return the buffer or null if no frame is waiting for submission.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderCommandBuffer beginSubmission()
+    {
+        long frame = this.submitted.get();
+
+        if (frame >= this.published.get())
+        {
+            return null;
+        }
+
+        return this.buffers[(int)(frame % this.buffers.length)];
+    }
+
+    /**
+     * Releases the buffer of the last {@link #beginSubmission()} call so that it can be recorded into again.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void finishSubmission()
+    {
+        this.submitted.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of published frames that were not submitted yet.
+     *
+     * @return the number of pending frames.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getPendingFrames()
+    {
+        return (int)(this.published.get() - this.submitted.get());
+    }
+}
@@ -0,0 +1,338 @@
+package bt2d.utils.render.command;
+
+import bt2d.core.window.Window;
+import bt2d.utils.Unit;
+import bt2d.utils.render.ShapeRenderer;
+import bt2d.utils.render.SpriteBatch;
+
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL11.*;
+
+/**
+ * Executes recorded {@link RenderCommand render commands} by forwarding them to the {@link ShapeRenderer} and a {@link SpriteBatch}.
+ * <p>
+ * Transforms are applied on the CPU while submitting, so they also work for batched shapes and sprites.
+ * Clip rectangles are realized via the scissor test which requires the batches to be flushed whenever the clip changes.
+ * They are transformed into window pixels with the projection-view matrix of the frame, see {@link #setProjection(float[])}.
+ * Since the scissor box is always axis aligned, a rotated camera clips to the bounding box of the rotated rectangle.
+ * <p>
+ * This has to be used on the thread that owns the OpenGL context.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class RenderCommandSubmitter
+{
+    /**
+     * The distance in pixels below which a transformed clip border is treated as lying exactly on a pixel border.
+     */
+    private static final double PIXEL_EPSILON = 0.01;
+
+    /**
+     * The sprite batch that receives sprite commands.
+     */
+    protected SpriteBatch spriteBatch;
+
+    /**
+     * The window whichs viewport is needed to convert clip rectangles to scissor boxes.
+     */
+    protected Window window;
+
+    /**
+     * The projection-view matrix of the current frame in column-major order.
+     */
+    protected final float[] projection;
+
+    /**
+     * The scissor box of the last clip command as x, y, width and height. Reused to avoid allocations.
+     */
+    protected final int[] scissorBox;
+
+    /**
+     * The x translations of the transform stack. Index 0 is the identity.
+     */
+    protected double[] translateX;
+
+    /**
+     * The y translations of the transform stack. Index 0 is the identity.
+     */
+    protected double[] translateY;
+
+    /**
+     * The x scales of the transform stack. Index 0 is the identity.
+     */
+    protected double[] scaleX;
+
+    /**
+     * The y scales of the transform stack. Index 0 is the identity.
+     */
+    protected double[] scaleY;
+
+    /**
+     * The index of the current transform.
+     */
+    protected int depth;
+
+    /**
+     * Indicates whether the scissor test was enabled by a clip command.
+     */
+    protected boolean clipping;
+
+    /**
+     * Instantiates a new RenderCommandSubmitter.
+     *
+     * @param spriteBatch the sprite batch that receives sprite commands.
+     * @param window      the window that is rendered to.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderCommandSubmitter(SpriteBatch spriteBatch, Window window)
+    {
+        this.spriteBatch = spriteBatch;
+        this.window = window;
+        this.projection = new float[16];
+        this.scissorBox = new int[4];
+        this.translateX = new double[16];
+        this.translateY = new double[16];
+        this.scaleX = new double[16];
+        this.scaleY = new double[16];
+    }
+
+    /**
+     * Executes all commands of the given buffer in order.
+     * <p>
+     * Transforms and clipping do not leak into the next submission, even if the buffer did not pop or clear them.
+     *
+     * @param buffer the buffer to submit.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void submit(RenderCommandBuffer buffer)
+    {
+        this.depth = 0;
+        this.translateX[0] = 0;
+        this.translateY[0] = 0;
+        this.scaleX[0] = 1;
+        this.scaleY[0] = 1;
+
+        for (int i = 0; i < buffer.size(); i++)
+        {
+            RenderCommand command = buffer.get(i);
+
+            switch (command.getType())
+            {
+                case RenderCommand.FILL_RECTANGLE -> ShapeRenderer.fillRectangle(x(command.getA()),
+                                                                                 y(command.getB()),
+                                                                                 width(command.getC()),
+                                                                                 height(command.getD()),
+                                                                                 command.getColor());
+                case RenderCommand.DRAW_RECTANGLE -> ShapeRenderer.drawRectangle(x(command.getA()),
+                                                                                 y(command.getB()),
+                                                                                 width(command.getC()),
+                                                                                 height(command.getD()),
+                                                                                 command.getColor());
+                case RenderCommand.LINE -> ShapeRenderer.line(x(command.getA()),
+                                                              y(command.getB()),
+                                                              x(command.getC()),
+                                                              y(command.getD()),
+                                                              command.getColor());
+                case RenderCommand.SPRITE -> this.spriteBatch.draw(command.getSprite(),
+                                                                   x(command.getA()),
+                                                                   y(command.getB()),
+                                                                   width(command.getC()),
+                                                                   height(command.getD()),
+                                                                   command.getColor());
+                case RenderCommand.PUSH_TRANSFORM -> pushTransform(command.getA(), command.getB(), command.getC(), command.getD());
+                case RenderCommand.POP_TRANSFORM -> this.depth = Math.max(0, this.depth - 1);
+                case RenderCommand.CLIP -> clip(x(command.getA()),
+                                                y(command.getB()),
+                                                width(command.getC()),
+                                                height(command.getD()));
+                case RenderCommand.CLEAR_CLIP -> clearClip();
+                default -> throw new IllegalArgumentException("Unknown render command type " + command.getType());
+            }
+        }
+
+        clearClip();
+    }
+
+    /**
+     * Combines the given transform with the current one and makes the result the current transform.
+     *
+     * @param translateX the game units to move along the x axis.
+     * @param translateY the game units to move along the y axis.
+     * @param scaleX     the factor to scale along the x axis.
+     * @param scaleY     the factor to scale along the y axis.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void pushTransform(double translateX, double translateY, double scaleX, double scaleY)
+    {
+        int next = this.depth + 1;
+
+        if (next == this.translateX.length)
+        {
+            this.translateX = Arrays.copyOf(this.translateX, next * 2);
+            this.translateY = Arrays.copyOf(this.translateY, next * 2);
+            this.scaleX = Arrays.copyOf(this.scaleX, next * 2);
+            this.scaleY = Arrays.copyOf(this.scaleY, next * 2);
+        }
+
+        this.translateX[next] = x(translateX);
+        this.translateY[next] = y(translateY);
+        this.scaleX[next] = width(scaleX);
+        this.scaleY[next] = height(scaleY);
+        this.depth = next;
+    }
+
+    /**
+     * Restricts all following drawing to the given rectangle.
+     *
+     * @param gameUnitX      the transformed game unit x
+     * @param gameUnitY      the transformed game unit y
+     * @param gameUnitWidth  the transformed game unit width
+     * @param gameUnitHeight the transformed game unit height
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void clip(double gameUnitX, double gameUnitY, double gameUnitWidth, double gameUnitHeight)
+    {
+        // everything that was batched so far has to be drawn with the previous scissor box
+        flushBatches();
+
+        toScissorBox(this.projection,
+                     this.window.getViewportWidth(),
+                     this.window.getViewportHeight(),
+                     Unit.toGlUnits(gameUnitX),
+                     Unit.toGlUnits(gameUnitY),
+                     Unit.toGlUnits(gameUnitX + gameUnitWidth),
+                     Unit.toGlUnits(gameUnitY + gameUnitHeight),
+                     this.scissorBox);
+
+        glEnable(GL_SCISSOR_TEST);
+        glScissor(this.scissorBox[0], this.scissorBox[1], this.scissorBox[2], this.scissorBox[3]);
+        this.clipping = true;
+    }
+
+    /**
+     * Sets the projection-view matrix that the following commands are drawn with, so that clip rectangles can be
+     * converted to window pixels. This has to be called whenever a new matrix is uploaded.
+     *
+     * @param matrix the 16 values of the matrix in column-major order. The values are copied.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setProjection(float[] matrix)
+    {
+        System.arraycopy(matrix, 0, this.projection, 0, this.projection.length);
+    }
+
+    /**
+     * Converts a rectangle in OpenGL units to the scissor box that covers it on screen.
+     * <p>
+     * The corners are transformed by the given matrix into normalized device coordinates and then into viewport
+     * pixels. The resulting box is the bounding box of the transformed corners, with its origin at the bottom left
+     * corner of the viewport.
+     *
+     * @param matrix         the projection-view matrix in column-major order.
+     * @param viewportWidth  the width of the viewport in pixels.
+     * @param viewportHeight the height of the viewport in pixels.
+     * @param glX1           the left border in OpenGL units.
+     * @param glY1           the top border in OpenGL units.
+     * @param glX2           the right border in OpenGL units.
+     * @param glY2           the bottom border in OpenGL units.
+     * @param box            the array that receives x, y, width and height of the box.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    static void toScissorBox(float[] matrix, int viewportWidth, int viewportHeight,
+                             double glX1, double glY1, double glX2, double glY2, int[] box)
+    {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+
+        for (int corner = 0; corner < 4; corner++)
+        {
+            double x = (corner & 1) == 0 ? glX1 : glX2;
+            double y = (corner & 2) == 0 ? glY1 : glY2;
+            double w = matrix[3] * x + matrix[7] * y + matrix[15];
+
+            // normalized device coordinates from -1 to 1, y pointing up just like the scissor box
+            double ndcX = (matrix[0] * x + matrix[4] * y + matrix[12]) / w;
+            double ndcY = (matrix[1] * x + matrix[5] * y + matrix[13]) / w;
+
+            double pixelX = (ndcX + 1) / 2 * viewportWidth;
+            double pixelY = (ndcY + 1) / 2 * viewportHeight;
+
+            minX = Math.min(minX, pixelX);
+            minY = Math.min(minY, pixelY);
+            maxX = Math.max(maxX, pixelX);
+            maxY = Math.max(maxY, pixelY);
+        }
+
+        // the matrix is stored in floats, so values within a fraction of a pixel are snapped instead of rounded outwards
+        int x = (int)Math.floor(minX + PIXEL_EPSILON);
+        int y = (int)Math.floor(minY + PIXEL_EPSILON);
+        box[0] = x;
+        box[1] = y;
+        box[2] = Math.max((int)Math.ceil(maxX - PIXEL_EPSILON) - x, 0);
+        box[3] = Math.max((int)Math.ceil(maxY - PIXEL_EPSILON) - y, 0);
+    }
+
+    /**
+     * Removes the current clip rectangle if there is one.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void clearClip()
+    {
+        if (this.clipping)
+        {
+            flushBatches();
+            glDisable(GL_SCISSOR_TEST);
+            this.clipping = false;
+        }
+    }
+
+    /**
+     * Draws everything that was batched so far.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void flushBatches()
+    {
+        this.spriteBatch.flush();
+        ShapeRenderer.flush();
+    }
+
+    private double x(double gameUnitX)
+    {
+        return gameUnitX * this.scaleX[this.depth] + this.translateX[this.depth];
+    }
+
+    private double y(double gameUnitY)
+    {
+        return gameUnitY * this.scaleY[this.depth] + this.translateY[this.depth];
+    }
+
+    private double width(double gameUnitWidth)
+    {
+        return gameUnitWidth * this.scaleX[this.depth];
+    }
+
+    private double height(double gameUnitHeight)
+    {
+        return gameUnitHeight * this.scaleY[this.depth];
+    }
+}
@@ -0,0 +1,99 @@
+package bt2d.utils.render.command;
+
+import bt2d.utils.render.Camera;
+import bt2d.utils.render.ViewportCuller;
+
+/**
+ * Everything that a render thread needs to draw one frame: the recorded commands and a copy of the camera state.
+ * <p>
+ * The camera is copied while recording, so the simulation can keep moving it while the frame is drawn.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class RenderFrame
+{
+    /**
+     * The recorded draw commands.
+     */
+    protected final RenderCommandBuffer commands;
+
+    /**
+     * The projection-view matrix of the camera in column-major order.
+     */
+    protected final float[] projection;
+
+    /**
+     * The visible area of the camera in OpenGL units, in the order min x, min y, max x, max y.
+     */
+    protected final double[] visibleBounds;
+
+    /**
+     * Instantiates a new empty RenderFrame.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderFrame()
+    {
+        this.commands = new RenderCommandBuffer();
+        this.projection = new float[16];
+        this.visibleBounds = new double[4];
+    }
+
+    /**
+     * Copies the current matrix and visible area of the given camera into this frame.
+     *
+     * @param camera the camera
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setView(Camera camera)
+    {
+        System.arraycopy(camera.getMatrix(), 0, this.projection, 0, this.projection.length);
+        this.visibleBounds[0] = camera.getVisibleMinX();
+        this.visibleBounds[1] = camera.getVisibleMinY();
+        this.visibleBounds[2] = camera.getVisibleMaxX();
+        this.visibleBounds[3] = camera.getVisibleMaxY();
+    }
+
+    /**
+     * Sets the bounds of the given culler to the visible area of this frame.
+     *
+     * @param culler the culler to update.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void applyBounds(ViewportCuller culler)
+    {
+        culler.setBounds(this.visibleBounds[0], this.visibleBounds[1], this.visibleBounds[2], this.visibleBounds[3]);
+    }
+
+    /**
+     * Gets the recorded draw commands.
+     *
+     * @return the commands
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public RenderCommandBuffer getCommands()
+    {
+        return this.commands;
+    }
+
+    /**
+     * Gets the copied projection-view matrix.
+     *
+     * @return the matrix in column-major order.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public float[] getProjection()
+    {
+        return this.projection;
+    }
+}
@@ -0,0 +1,25 @@
+package bt2d.utils.render.command;
+
+/**
+ * An independent part of a scene that records its own draw commands, i.e. background, entities or UI.
+ * <p>
+ * Layers of the same scene may be recorded in parallel, so a layer must not modify state that another layer reads
+ * during recording. The recorded commands of all layers are merged in layer order before they are submitted.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface RenderLayer
+{
+    /**
+     * Records the draw commands of this layer into the given buffer.
+     *
+     * @param commands       the buffer of this layer. It is empty when this method is called.
+     * @param debugRendering true if additional debug rendering, such as drawing hitboxes, is enabled and expected, false otherwise.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void record(RenderCommandBuffer commands, boolean debugRendering);
+}
@@ -0,0 +1,120 @@
+package bt2d.utils.render.shader;
+
+import static org.lwjgl.opengl.GL20.*;
+
+/**
+ * A {@link GLFacade} that forwards all calls to the OpenGL context of the current thread via LWJGL.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class DefaultGLFacade implements GLFacade
+{
+    @Override
+    public int createShader(int type)
+    {
+        return glCreateShader(type);
+    }
+
+    @Override
+    public void shaderSource(int shader, String source)
+    {
+        glShaderSource(shader, source);
+    }
+
+    @Override
+    public void compileShader(int shader)
+    {
+        glCompileShader(shader);
+    }
+
+    @Override
+    public int getShaderi(int shader, int parameter)
+    {
+        return glGetShaderi(shader, parameter);
+    }
+
+    @Override
+    public String getShaderInfoLog(int shader)
+    {
+        return glGetShaderInfoLog(shader);
+    }
+
+    @Override
+    public void deleteShader(int shader)
+    {
+        glDeleteShader(shader);
+    }
+
+    @Override
+    public int createProgram()
+    {
+        return glCreateProgram();
+    }
+
+    @Override
+    public void attachShader(int program, int shader)
+    {
+        glAttachShader(program, shader);
+    }
+
+    @Override
+    public void detachShader(int program, int shader)
+    {
+        glDetachShader(program, shader);
+    }
+
+    @Override
+    public void linkProgram(int program)
+    {
+        glLinkProgram(program);
+    }
+
+    @Override
+    public int getProgrami(int program, int parameter)
+    {
+        return glGetProgrami(program, parameter);
+    }
+
+    @Override
+    public String getProgramInfoLog(int program)
+    {
+        return glGetProgramInfoLog(program);
+    }
+
+    @Override
+    public void deleteProgram(int program)
+    {
+        glDeleteProgram(program);
+    }
+
+    @Override
+    public void useProgram(int program)
+    {
+        glUseProgram(program);
+    }
+
+    @Override
+    public int getUniformLocation(int program, String name)
+    {
+        return glGetUniformLocation(program, name);
+    }
+
+    @Override
+    public void uniform1i(int location, int value)
+    {
+        glUniform1i(location, value);
+    }
+
+    @Override
+    public void uniform4f(int location, float x, float y, float z, float w)
+    {
+        glUniform4f(location, x, y, z, w);
+    }
+
+    @Override
+    public void uniformMatrix4fv(int location, boolean transpose, float[] value)
+    {
+        glUniformMatrix4fv(location, transpose, value);
+    }
+}
@@ -0,0 +1,202 @@
+package bt2d.utils.render.shader;
+
+/**
+ * The built-in programs of the core profile pipeline. They draw colored vertices, textured and tinted vertices and
+ * instanced shapes.
+ * <p>
+ * All programs expect the position at attribute {@link #POSITION_LOCATION}, the normalized color at
+ * {@link #COLOR_LOCATION} and the texture coordinates at {@link #TEXTURE_LOCATION}. The instance program additionally
+ * reads a per-instance offset at {@link #OFFSET_LOCATION} and scale at {@link #SCALE_LOCATION}.
+ * Positions are transformed by the {@value #PROJECTION_UNIFORM} matrix which is set via {@link #setProjection(float[])}.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class DefaultShaders
+{
+    /**
+     * The attribute location of the vertex position.
+     */
+    public static final int POSITION_LOCATION = 0;
+
+    /**
+     * The attribute location of the vertex color.
+     */
+    public static final int COLOR_LOCATION = 1;
+
+    /**
+     * The attribute location of the texture coordinates.
+     */
+    public static final int TEXTURE_LOCATION = 2;
+
+    /**
+     * The attribute location of the instance offset.
+     */
+    public static final int OFFSET_LOCATION = 3;
+
+    /**
+     * The attribute location of the instance scale.
+     */
+    public static final int SCALE_LOCATION = 4;
+
+    /**
+     * The name of the projection-view matrix uniform.
+     */
+    public static final String PROJECTION_UNIFORM = "projection";
+
+    /**
+     * The name of the texture sampler uniform.
+     */
+    public static final String TEXTURE_UNIFORM = "sprite";
+
+    private static final String COLOR_VERTEX_SOURCE = """
+            layout(location = 0) in vec2 position;
+            layout(location = 1) in vec4 color;
+            uniform mat4 projection;
+            out vec4 vertexColor;
+            void main()
+            {
+                vertexColor = color;
+                gl_Position = projection * vec4(position, 0.0, 1.0);
+            }
+            """;
+
+    private static final String COLOR_FRAGMENT_SOURCE = """
+            in vec4 vertexColor;
+            out vec4 fragmentColor;
+            void main()
+            {
+                fragmentColor = vertexColor;
+            }
+            """;
+
+    private static final String TEXTURE_VERTEX_SOURCE = """
+            layout(location = 0) in vec2 position;
+            layout(location = 1) in vec4 color;
+            layout(location = 2) in vec2 textureCoordinates;
+            uniform mat4 projection;
+            out vec4 vertexColor;
+            out vec2 vertexTextureCoordinates;
+            void main()
+            {
+                vertexColor = color;
+                vertexTextureCoordinates = textureCoordinates;
+                gl_Position = projection * vec4(position, 0.0, 1.0);
+            }
+            """;
+
+    private static final String TEXTURE_FRAGMENT_SOURCE = """
+            in vec4 vertexColor;
+            in vec2 vertexTextureCoordinates;
+            uniform sampler2D sprite;
+            out vec4 fragmentColor;
+            void main()
+            {
+                fragmentColor = texture(sprite, vertexTextureCoordinates) * vertexColor;
+            }
+            """;
+
+    private static final String INSTANCE_VERTEX_SOURCE = """
+            layout(location = 0) in vec2 position;
+            layout(location = 1) in vec4 color;
+            layout(location = 3) in vec2 offset;
+            layout(location = 4) in vec2 scale;
+            uniform mat4 projection;
+            out vec4 vertexColor;
+            void main()
+            {
+                vertexColor = color;
+                gl_Position = projection * vec4(offset + position * scale, 0.0, 1.0);
+            }
+            """;
+
+    /**
+     * The program for colored vertices.
+     */
+    protected ShaderProgram colorProgram;
+
+    /**
+     * The program for textured vertices.
+     */
+    protected ShaderProgram textureProgram;
+
+    /**
+     * The program for instanced shapes.
+     */
+    protected ShaderProgram instanceProgram;
+
+    /**
+     * Compiles the built-in programs with the given manager.
+     *
+     * @param shaderManager the manager that owns the programs.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public DefaultShaders(ShaderManager shaderManager)
+    {
+        this.colorProgram = shaderManager.getProgram("bt2d.color", COLOR_VERTEX_SOURCE, COLOR_FRAGMENT_SOURCE);
+        this.textureProgram = shaderManager.getProgram("bt2d.texture", TEXTURE_VERTEX_SOURCE, TEXTURE_FRAGMENT_SOURCE);
+        this.instanceProgram = shaderManager.getProgram("bt2d.instance", INSTANCE_VERTEX_SOURCE, COLOR_FRAGMENT_SOURCE);
+
+        this.textureProgram.use();
+        this.textureProgram.setUniform(TEXTURE_UNIFORM, 0);
+    }
+
+    /**
+     * Sets the projection-view matrix of all programs.
+     *
+     * @param matrix the 16 values of the matrix in column-major order.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setProjection(float[] matrix)
+    {
+        this.colorProgram.use();
+        this.colorProgram.setUniform(PROJECTION_UNIFORM, matrix);
+        this.textureProgram.use();
+        this.textureProgram.setUniform(PROJECTION_UNIFORM, matrix);
+        this.instanceProgram.use();
+        this.instanceProgram.setUniform(PROJECTION_UNIFORM, matrix);
+    }
+
+    /**
+     * Gets the program for colored vertices.
+     *
+     * @return the color program
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderProgram getColorProgram()
+    {
+        return this.colorProgram;
+    }
+
+    /**
+     * Gets the program for textured vertices.
+     *
+     * @return the texture program
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderProgram getTextureProgram()
+    {
+        return this.textureProgram;
+    }
+
+    /**
+     * Gets the program for instanced shapes.
+     *
+     * @return the instance program
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderProgram getInstanceProgram()
+    {
+        return this.instanceProgram;
+    }
+}
@@ -0,0 +1,103 @@
+package bt2d.utils.render.shader;
+
+/**
+ * The OpenGL calls that are needed to compile, link and use shader programs.
+ * <p>
+ * {@link ShaderManager} and {@link ShaderProgram} only talk to OpenGL through this interface, so they can be used
+ * without a context by passing a different implementation. {@link DefaultGLFacade} forwards all calls to LWJGL.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public interface GLFacade
+{
+    /**
+     * @see org.lwjgl.opengl.GL20#glCreateShader(int)
+     */
+    public int createShader(int type);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glShaderSource(int, CharSequence)
+     */
+    public void shaderSource(int shader, String source);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glCompileShader(int)
+     */
+    public void compileShader(int shader);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glGetShaderi(int, int)
+     */
+    public int getShaderi(int shader, int parameter);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glGetShaderInfoLog(int)
+     */
+    public String getShaderInfoLog(int shader);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glDeleteShader(int)
+     */
+    public void deleteShader(int shader);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glCreateProgram()
+     */
+    public int createProgram();
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glAttachShader(int, int)
+     */
+    public void attachShader(int program, int shader);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glDetachShader(int, int)
+     */
+    public void detachShader(int program, int shader);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glLinkProgram(int)
+     */
+    public void linkProgram(int program);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glGetProgrami(int, int)
+     */
+    public int getProgrami(int program, int parameter);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glGetProgramInfoLog(int)
+     */
+    public String getProgramInfoLog(int program);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glDeleteProgram(int)
+     */
+    public void deleteProgram(int program);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glUseProgram(int)
+     */
+    public void useProgram(int program);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glGetUniformLocation(int, CharSequence)
+     */
+    public int getUniformLocation(int program, String name);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glUniform1i(int, int)
+     */
+    public void uniform1i(int location, int value);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glUniform4f(int, float, float, float, float)
+     */
+    public void uniform4f(int location, float x, float y, float z, float w);
+
+    /**
+     * @see org.lwjgl.opengl.GL20#glUniformMatrix4fv(int, boolean, float[])
+     */
+    public void uniformMatrix4fv(int location, boolean transpose, float[] value);
+}
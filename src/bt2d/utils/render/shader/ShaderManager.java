@@ -0,0 +1,255 @@
+package bt2d.utils.render.shader;
+
+import bt.log.Log;
+import bt.types.Killable;
+import bt2d.resource.load.exc.LoadException;
+import bt2d.utils.render.shader.exc.ShaderException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL20.*;
+
+/**
+ * Compiles, links and caches {@link ShaderProgram shader programs} by name.
+ * <p>
+ * Sources without a <code>#version</code> directive are prefixed with {@link #DEFAULT_VERSION}, so shader files
+ * can be kept free of the boilerplate. All OpenGL calls go through the {@link GLFacade} that the manager was created with.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ShaderManager implements Killable
+{
+    /**
+     * The directive that is added to sources without a version.
+     */
+    public static final String DEFAULT_VERSION = "#version 330 core";
+
+    /**
+     * The facade that is used for all OpenGL calls.
+     */
+    protected final GLFacade gl;
+
+    /**
+     * The linked programs by name.
+     */
+    protected Map<String, ShaderProgram> programs;
+
+    /**
+     * Instantiates a new ShaderManager that uses the OpenGL context of the current thread.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderManager()
+    {
+        this(new DefaultGLFacade());
+    }
+
+    /**
+     * Instantiates a new ShaderManager.
+     *
+     * @param gl the facade that is used for all OpenGL calls.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderManager(GLFacade gl)
+    {
+        this.gl = gl;
+        this.programs = new HashMap<>();
+    }
+
+    /**
+     * Gets the program with the given name, compiling and linking it from the given sources if it does not exist yet.
+     *
+     * @param name           the unique name of the program.
+     * @param vertexSource   the source of the vertex shader.
+     * @param fragmentSource the source of the fragment shader.
+     *
+     * @return the program
+     *
+     * @throws ShaderException if a shader could not be compiled or the program could not be linked.
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderProgram getProgram(String name, String vertexSource, String fragmentSource)
+    {
+        ShaderProgram program = this.programs.get(name);
+
+        if (program == null)
+        {
+            program = new ShaderProgram(this.gl, name, link(name, vertexSource, fragmentSource));
+            this.programs.put(name, program);
+            Log.debug("Created shader program {}", name);
+        }
+
+        return program;
+    }
+
+    /**
+     * Gets the program with the given name, reading its sources from the given files if it does not exist yet.
+     *
+     * @param name         the unique name of the program.
+     * @param vertexPath   the file of the vertex shader.
+     * @param fragmentPath the file of the fragment shader.
+     *
+     * @return the program
+     *
+     * @throws LoadException   if a file could not be read.
+     * @throws ShaderException if a shader could not be compiled or the program could not be linked.
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderProgram loadProgram(String name, Path vertexPath, Path fragmentPath) throws LoadException
+    {
+        ShaderProgram program = this.programs.get(name);
+
+        if (program != null)
+        {
+            return program;
+        }
+
+        try
+        {
+            return getProgram(name, Files.readString(vertexPath), Files.readString(fragmentPath));
+        }
+        catch (IOException e)
+        {
+            throw new LoadException("Failed to read shader sources of " + name, e);
+        }
+    }
+
+    /**
+     * Gets an already created program.
+     *
+     * @param name the name of the program.
+     *
+     * @return the program or null if no program with that name was created.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderProgram getProgram(String name)
+    {
+        return this.programs.get(name);
+    }
+
+    /**
+     * Adds the {@link #DEFAULT_VERSION} to the given source if it does not declare a version itself.
+     *
+     * @param source the shader source.
+     *
+     * @return the source that is passed to OpenGL.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected String prepareSource(String source)
+    {
+        if (source.stripLeading().startsWith("#version"))
+        {
+            return source;
+        }
+
+        return DEFAULT_VERSION + "\n" + source;
+    }
+
+    /**
+     * Compiles both shaders and links them into a new program. The shaders are deleted afterwards.
+     *
+     * @param name           the name of the program for error messages.
+     * @param vertexSource   the source of the vertex shader.
+     * @param fragmentSource the source of the fragment shader.
+     *
+     * @return the id of the linked program.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected int link(String name, String vertexSource, String fragmentSource)
+    {
+        int vertexShader = compile(name, GL_VERTEX_SHADER, vertexSource);
+        int fragmentShader;
+
+        try
+        {
+            fragmentShader = compile(name, GL_FRAGMENT_SHADER, fragmentSource);
+        }
+        catch (ShaderException e)
+        {
+            this.gl.deleteShader(vertexShader);
+            throw e;
+        }
+
+        int program = this.gl.createProgram();
+        this.gl.attachShader(program, vertexShader);
+        this.gl.attachShader(program, fragmentShader);
+        this.gl.linkProgram(program);
+
+        // the program keeps its own copy of the compiled code
+        this.gl.detachShader(program, vertexShader);
+        this.gl.detachShader(program, fragmentShader);
+        this.gl.deleteShader(vertexShader);
+        this.gl.deleteShader(fragmentShader);
+
+        if (this.gl.getProgrami(program, GL_LINK_STATUS) == GL_FALSE)
+        {
+            String log = this.gl.getProgramInfoLog(program);
+            this.gl.deleteProgram(program);
+            throw new ShaderException("Failed to link shader program " + name + ": " + log);
+        }
+
+        return program;
+    }
+
+    /**
+     * Compiles a single shader.
+     *
+     * @param name   the name of the program for error messages.
+     * @param type   the OpenGL shader type, i.e. {@link org.lwjgl.opengl.GL20#GL_VERTEX_SHADER GL_VERTEX_SHADER}.
+     * @param source the source of the shader.
+     *
+     * @return the id of the compiled shader.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected int compile(String name, int type, String source)
+    {
+        int shader = this.gl.createShader(type);
+        this.gl.shaderSource(shader, prepareSource(source));
+        this.gl.compileShader(shader);
+
+        if (this.gl.getShaderi(shader, GL_COMPILE_STATUS) == GL_FALSE)
+        {
+            String log = this.gl.getShaderInfoLog(shader);
+            this.gl.deleteShader(shader);
+            throw new ShaderException("Failed to compile " + (type == GL_VERTEX_SHADER ? "vertex" : "fragment")
+                                              + " shader of program " + name + ": " + log);
+        }
+
+        return shader;
+    }
+
+    /**
+     * Deletes all programs of this manager.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        for (ShaderProgram program : this.programs.values())
+        {
+            program.kill();
+        }
+
+        this.programs.clear();
+    }
+}
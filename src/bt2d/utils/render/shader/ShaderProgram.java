@@ -0,0 +1,199 @@
+package bt2d.utils.render.shader;
+
+import bt.log.Log;
+import bt.types.Killable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A linked shader program. Programs are created by a {@link ShaderManager}.
+ * <p>
+ * Uniform locations are looked up once per name and cached afterwards. Names that do not exist in the program are
+ * cached as well, setting them is silently ignored after a single debug log.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ShaderProgram implements Killable
+{
+    /**
+     * The facade that is used for all OpenGL calls.
+     */
+    protected final GLFacade gl;
+
+    /**
+     * The name that the program was created with.
+     */
+    protected final String name;
+
+    /**
+     * The OpenGL id of the program. 0 after the program was killed.
+     */
+    protected int id;
+
+    /**
+     * The cached uniform locations by name. -1 for names that do not exist in the program.
+     */
+    protected Map<String, Integer> uniformLocations;
+
+    /**
+     * Instantiates a new ShaderProgram for an already linked program.
+     *
+     * @param gl   the facade that is used for all OpenGL calls.
+     * @param name the name of the program.
+     * @param id   the OpenGL id of the linked program.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderProgram(GLFacade gl, String name, int id)
+    {
+        this.gl = gl;
+        this.name = name;
+        this.id = id;
+        this.uniformLocations = new HashMap<>();
+    }
+
+    /**
+     * Makes this the active program of the current OpenGL context.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void use()
+    {
+        this.gl.useProgram(this.id);
+    }
+
+    /**
+     * Gets the location of the uniform with the given name. Only the first call per name reaches OpenGL.
+     *
+     * @param uniform the name of the uniform.
+     *
+     * @return the location or -1 if the program does not have an active uniform with that name.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getUniformLocation(String uniform)
+    {
+        Integer location = this.uniformLocations.get(uniform);
+
+        if (location == null)
+        {
+            location = this.gl.getUniformLocation(this.id, uniform);
+            this.uniformLocations.put(uniform, location);
+
+            if (location < 0)
+            {
+                Log.debug("Shader program {} has no active uniform {}", this.name, uniform);
+            }
+        }
+
+        return location;
+    }
+
+    /**
+     * Sets an int or sampler uniform. The program has to be {@link #use() in use}.
+     *
+     * @param uniform the name of the uniform.
+     * @param value   the value
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setUniform(String uniform, int value)
+    {
+        int location = getUniformLocation(uniform);
+
+        if (location >= 0)
+        {
+            this.gl.uniform1i(location, value);
+        }
+    }
+
+    /**
+     * Sets a vec4 uniform. The program has to be {@link #use() in use}.
+     *
+     * @param uniform the name of the uniform.
+     * @param x       the first component
+     * @param y       the second component
+     * @param z       the third component
+     * @param w       the fourth component
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setUniform(String uniform, float x, float y, float z, float w)
+    {
+        int location = getUniformLocation(uniform);
+
+        if (location >= 0)
+        {
+            this.gl.uniform4f(location, x, y, z, w);
+        }
+    }
+
+    /**
+     * Sets a mat4 uniform. The program has to be {@link #use() in use}.
+     *
+     * @param uniform the name of the uniform.
+     * @param matrix  the 16 values of the matrix in column-major order.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public void setUniform(String uniform, float[] matrix)
+    {
+        int location = getUniformLocation(uniform);
+
+        if (location >= 0)
+        {
+            this.gl.uniformMatrix4fv(location, false, matrix);
+        }
+    }
+
+    /**
+     * Gets the name that this program was created with.
+     *
+     * @return the name
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Gets the OpenGL id of this program.
+     *
+     * @return the id or 0 if the program was killed.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getId()
+    {
+        return this.id;
+    }
+
+    /**
+     * Deletes the OpenGL program.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        if (this.id != 0)
+        {
+            this.gl.deleteProgram(this.id);
+            this.id = 0;
+            this.uniformLocations.clear();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package bt2d.utils.render.shader.exc;
+
+/**
+ * An exception indicating that a shader could not be compiled or a shader program could not be linked.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ShaderException extends RuntimeException
+{
+    /**
+     * Creates a new exception with the given message.
+     *
+     * @param message The message of the exception.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderException(String message)
+    {
+        super(message);
+    }
+
+    /**
+     * Created a new exception with the given message and the given cause.
+     *
+     * @param message The message of the exception.
+     * @param cause   The cause of this exception.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public ShaderException(String message, Throwable cause)
+    {
+        super(message, cause);
+    }
+}
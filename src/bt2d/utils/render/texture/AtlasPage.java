@@ -0,0 +1,163 @@
+package bt2d.utils.render.texture;
+
+import bt.types.Killable;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A single page of a {@link TextureAtlas}.
+ * <p>
+ * Pages are packed on whatever thread loads the atlas. The pixel data is kept in memory until the page is used
+ * for the first time on the render thread, where it is uploaded into a {@link Texture} and released.
+ * <p>
+ * A page can be killed from any thread. The texture of a killed page stays alive until {@link #deleteTexture()} is
+ * called on the thread that owns the OpenGL context, which the {@link bt2d.utils.render.SpriteBatch SpriteBatch}
+ * does during its next flush.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class AtlasPage implements Killable
+{
+    /**
+     * The width of this page in pixels.
+     */
+    protected int width;
+
+    /**
+     * The height of this page in pixels.
+     */
+    protected int height;
+
+    /**
+     * The pixels of this page with 4 bytes per pixel. Null after the page was uploaded.
+     */
+    protected ByteBuffer pixels;
+
+    /**
+     * The texture of this page. Null until the page was uploaded.
+     */
+    protected Texture texture;
+
+    /**
+     * Indicates whether this page was killed.
+     */
+    protected volatile boolean killed;
+
+    /**
+     * Instantiates a new AtlasPage.
+     *
+     * @param width  the width in pixels.
+     * @param height the height in pixels.
+     * @param pixels the pixels with 4 bytes per pixel. The buffer is owned and freed by this page.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public AtlasPage(int width, int height, ByteBuffer pixels)
+    {
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+
+    /**
+     * Gets the texture of this page, uploading it if necessary.
+     * <p>
+     * This has to be called on the thread that owns the OpenGL context.
+     *
+     * @return the texture or null if the page was killed before it was uploaded.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public synchronized Texture getTexture()
+    {
+        if (this.texture == null && !this.killed)
+        {
+            this.texture = new Texture(this.width, this.height, this.pixels);
+            MemoryUtil.memFree(this.pixels);
+            this.pixels = null;
+        }
+
+        return this.texture;
+    }
+
+    /**
+     * Gets the width of this page in pixels.
+     *
+     * @return the width
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getWidth()
+    {
+        return this.width;
+    }
+
+    /**
+     * Gets the height of this page in pixels.
+     *
+     * @return the height
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getHeight()
+    {
+        return this.height;
+    }
+
+    /**
+     * Indicates whether this page was killed and can not be drawn anymore.
+     *
+     * @return true if the page was killed, false otherwise.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public boolean isKilled()
+    {
+        return this.killed;
+    }
+
+    /**
+     * Deletes the texture of this page if it was uploaded.
+     * <p>
+     * This has to be called on the thread that owns the OpenGL context, usually after the page was {@link #kill() killed}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public synchronized void deleteTexture()
+    {
+        if (this.texture != null)
+        {
+            this.texture.kill();
+            this.texture = null;
+        }
+    }
+
+    /**
+     * Marks this page as killed and frees its pixel data if it was not uploaded yet.
+     * <p>
+     * This can be called from any thread, i.e. while an atlas is reloaded on a loading thread. An uploaded texture
+     * is not deleted here, see {@link #deleteTexture()}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public synchronized void kill()
+    {
+        if (this.pixels != null)
+        {
+            MemoryUtil.memFree(this.pixels);
+            this.pixels = null;
+        }
+
+        this.killed = true;
+    }
+}
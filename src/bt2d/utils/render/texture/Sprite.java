@@ -0,0 +1,19 @@
+package bt2d.utils.render.texture;
+
+/**
+ * A rectangular region of an {@link AtlasPage}.
+ *
+ * @param page   the page that contains the sprite.
+ * @param width  the width of the sprite in pixels.
+ * @param height the height of the sprite in pixels.
+ * @param u0     the left texture coordinate.
+ * @param v0     the top texture coordinate.
+ * @param u1     the right texture coordinate.
+ * @param v1     the bottom texture coordinate.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public record Sprite(AtlasPage page, int width, int height, float u0, float v0, float u1, float v1)
+{
+}
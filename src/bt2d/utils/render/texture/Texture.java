@@ -0,0 +1,119 @@
+package bt2d.utils.render.texture;
+
+import bt.types.Killable;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL12.GL_CLAMP_TO_EDGE;
+
+/**
+ * A two dimensional OpenGL texture.
+ * <p>
+ * Creating and killing a texture has to happen on the thread that owns the OpenGL context.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class Texture implements Killable
+{
+    /**
+     * The OpenGL id of this texture.
+     */
+    protected int id;
+
+    /**
+     * The width of this texture in pixels.
+     */
+    protected int width;
+
+    /**
+     * The height of this texture in pixels.
+     */
+    protected int height;
+
+    /**
+     * Creates a new texture and uploads the given pixels.
+     *
+     * @param width  the width in pixels.
+     * @param height the height in pixels.
+     * @param pixels the pixel data with 4 bytes (RGBA) per pixel, row by row starting at the top.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public Texture(int width, int height, ByteBuffer pixels)
+    {
+        this.width = width;
+        this.height = height;
+        this.id = glGenTextures();
+
+        glBindTexture(GL_TEXTURE_2D, this.id);
+
+        // nearest filtering keeps pixel art crisp and avoids sampling neighbouring atlas regions
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_NEAREST);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+
+        glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, width, height, 0, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+
+        glBindTexture(GL_TEXTURE_2D, 0);
+    }
+
+    /**
+     * Gets the OpenGL id of this texture.
+     *
+     * @return the id
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getId()
+    {
+        return this.id;
+    }
+
+    /**
+     * Gets the width of this texture in pixels.
+     *
+     * @return the width
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getWidth()
+    {
+        return this.width;
+    }
+
+    /**
+     * Gets the height of this texture in pixels.
+     *
+     * @return the height
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public int getHeight()
+    {
+        return this.height;
+    }
+
+    /**
+     * Deletes this texture.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        if (this.id != 0)
+        {
+            glDeleteTextures(this.id);
+            this.id = 0;
+        }
+    }
+}
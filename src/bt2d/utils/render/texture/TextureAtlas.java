@@ -0,0 +1,362 @@
+package bt2d.utils.render.texture;
+
+import bt.log.Log;
+import bt.types.Killable;
+import bt2d.resource.load.exc.LoadException;
+import bt2d.resource.load.intf.Loadable;
+import org.lwjgl.stb.STBRPContext;
+import org.lwjgl.stb.STBRPNode;
+import org.lwjgl.stb.STBRPRect;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.lwjgl.stb.STBImage.*;
+import static org.lwjgl.stb.STBRectPack.stbrp_init_target;
+import static org.lwjgl.stb.STBRectPack.stbrp_pack_rects;
+import static org.lwjgl.system.MemoryStack.stackPush;
+
+/**
+ * A collection of images that are packed into as few {@link AtlasPage pages} as possible.
+ * <p>
+ * Usage:
+ * <pre>
+ *     TextureAtlas atlas = new TextureAtlas();
+ *     atlas.add("player", "textures/player.png");
+ *     atlas.add("tree", "textures/tree.png");
+ *     atlas.load(sceneName);
+ *
+ *     spriteBatch.draw(atlas.getSprite("player"), x, y, width, height);
+ * </pre>
+ * <p>
+ * Loading decodes the images via stb_image and packs them via stb_rect_pack. It does not need an OpenGL context,
+ * so it can be done on a loading thread. The pages are uploaded the first time they are drawn.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class TextureAtlas implements Loadable, Killable
+{
+    /**
+     * The default width and height of a page in pixels.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 2048;
+
+    /**
+     * The number of empty pixels that are kept between two images to avoid bleeding.
+     */
+    protected static final int PADDING = 1;
+
+    /**
+     * The width of a page in pixels.
+     */
+    protected int pageWidth;
+
+    /**
+     * The height of a page in pixels.
+     */
+    protected int pageHeight;
+
+    /**
+     * The file paths of the images mapped by the name of their sprite.
+     */
+    protected Map<String, String> imagePaths;
+
+    /**
+     * The packed sprites mapped by their name.
+     */
+    protected Map<String, Sprite> sprites;
+
+    /**
+     * The pages that were created during the last {@link #load(String)}.
+     */
+    protected List<AtlasPage> pages;
+
+    /**
+     * Instantiates a new TextureAtlas with pages of {@link #DEFAULT_PAGE_SIZE}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TextureAtlas()
+    {
+        this(DEFAULT_PAGE_SIZE, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Instantiates a new TextureAtlas.
+     *
+     * @param pageWidth  the width of a page in pixels.
+     * @param pageHeight the height of a page in pixels.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TextureAtlas(int pageWidth, int pageHeight)
+    {
+        if (pageWidth <= 0 || pageHeight <= 0)
+        {
+            throw new IllegalArgumentException("Page size has to be above 0");
+        }
+
+        this.pageWidth = pageWidth;
+        this.pageHeight = pageHeight;
+        this.imagePaths = new LinkedHashMap<>();
+        this.sprites = new HashMap<>();
+        this.pages = new ArrayList<>();
+    }
+
+    /**
+     * Adds an image that will be packed during the next {@link #load(String)} call.
+     *
+     * @param name the name that the sprite of the image can be retrieved by.
+     * @param path the file path of the image.
+     *
+     * @return This instance for chaining.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public TextureAtlas add(String name, String path)
+    {
+        Objects.requireNonNull(name, "name cant be null");
+        Objects.requireNonNull(path, "path cant be null");
+        this.imagePaths.put(name, path);
+        return this;
+    }
+
+    /**
+     * Gets the sprite that was packed for the image with the given name.
+     *
+     * @param name the name that was used to {@link #add(String, String) add} the image.
+     *
+     * @return the sprite or null if there is no loaded image for the name.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public Sprite getSprite(String name)
+    {
+        return this.sprites.get(name);
+    }
+
+    /**
+     * Gets the pages that were created during the last {@link #load(String)}.
+     *
+     * @return an unmodifiable view of the pages.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    public List<AtlasPage> getPages()
+    {
+        return Collections.unmodifiableList(this.pages);
+    }
+
+    /**
+     * Decodes all added images and packs them into pages. Pages of a previous load are killed.
+     *
+     * @param sceneContextName The context of this load call. This will usually be the name of the scene that is being loaded.
+     *
+     * @throws LoadException If an image can not be decoded or is larger than a page.
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void load(String sceneContextName) throws LoadException
+    {
+        Log.entry(sceneContextName);
+
+        kill();
+
+        List<String> names = new ArrayList<>(this.imagePaths.keySet());
+        ByteBuffer[] images = new ByteBuffer[names.size()];
+        int[] widths = new int[names.size()];
+        int[] heights = new int[names.size()];
+
+        try
+        {
+            try (MemoryStack stack = stackPush())
+            {
+                IntBuffer width = stack.mallocInt(1);
+                IntBuffer height = stack.mallocInt(1);
+                IntBuffer channels = stack.mallocInt(1);
+
+                for (int i = 0; i < names.size(); i++)
+                {
+                    String path = this.imagePaths.get(names.get(i));
+
+                    // always request 4 channels so that every page can be uploaded as RGBA
+                    images[i] = stbi_load(path, width, height, channels, 4);
+
+                    if (images[i] == null)
+                    {
+                        throw new LoadException("Failed to load image '" + path + "': " + stbi_failure_reason());
+                    }
+
+                    widths[i] = width.get(0);
+                    heights[i] = height.get(0);
+
+                    if (widths[i] + PADDING > this.pageWidth || heights[i] + PADDING > this.pageHeight)
+                    {
+                        throw new LoadException("Image '" + path + "' is larger than an atlas page");
+                    }
+                }
+            }
+
+            pack(names, images, widths, heights);
+        }
+        finally
+        {
+            for (ByteBuffer image : images)
+            {
+                if (image != null)
+                {
+                    stbi_image_free(image);
+                }
+            }
+        }
+
+        Log.debug("Packed {} images into {} atlas pages", names.size(), this.pages.size());
+        Log.exit();
+    }
+
+    /**
+     * Packs the given images into as many pages as needed and creates their sprites.
+     *
+     * @param names   the sprite names of the images.
+     * @param images  the decoded RGBA images.
+     * @param widths  the widths of the images in pixels.
+     * @param heights the heights of the images in pixels.
+     *
+     * @throws LoadException If the images can not be packed.
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void pack(List<String> names, ByteBuffer[] images, int[] widths, int[] heights) throws LoadException
+    {
+        int remaining = names.size();
+
+        try (STBRPContext context = STBRPContext.malloc();
+             STBRPNode.Buffer nodes = STBRPNode.malloc(this.pageWidth);
+             STBRPRect.Buffer rects = STBRPRect.malloc(Math.max(remaining, 1)))
+        {
+            for (int i = 0; i < remaining; i++)
+            {
+                rects.get(i)
+                     .id(i)
+                     .w((short)(widths[i] + PADDING))
+                     .h((short)(heights[i] + PADDING));
+            }
+
+            // every iteration fills one page, rects that did not fit are moved to the front for the next page
+            while (remaining > 0)
+            {
+                rects.position(0);
+                rects.limit(remaining);
+
+                stbrp_init_target(context, this.pageWidth, this.pageHeight, nodes);
+                stbrp_pack_rects(context, rects);
+
+                AtlasPage page = new AtlasPage(this.pageWidth,
+                                               this.pageHeight,
+                                               MemoryUtil.memCalloc(this.pageWidth * this.pageHeight * 4));
+                this.pages.add(page);
+
+                int unpacked = 0;
+
+                for (int i = 0; i < remaining; i++)
+                {
+                    STBRPRect rect = rects.get(i);
+                    int id = rect.id();
+
+                    if (rect.was_packed())
+                    {
+                        copyImage(images[id], widths[id], heights[id], page, rect.x(), rect.y());
+
+                        this.sprites.put(names.get(id),
+                                         new Sprite(page,
+                                                    widths[id],
+                                                    heights[id],
+                                                    (float)rect.x() / this.pageWidth,
+                                                    (float)rect.y() / this.pageHeight,
+                                                    (float)(rect.x() + widths[id]) / this.pageWidth,
+                                                    (float)(rect.y() + heights[id]) / this.pageHeight));
+                    }
+                    else
+                    {
+                        rects.get(unpacked++)
+                             .id(id)
+                             .w(rect.w())
+                             .h(rect.h());
+                    }
+                }
+
+                if (unpacked == remaining)
+                {
+                    throw new LoadException("Unable to pack remaining " + remaining + " images into an empty atlas page");
+                }
+
+                remaining = unpacked;
+            }
+        }
+    }
+
+    /**
+     * Copies the given image row by row into the pixels of the given page.
+     *
+     * @param image  the RGBA image.
+     * @param width  the width of the image in pixels.
+     * @param height the height of the image in pixels.
+     * @param page   the target page.
+     * @param x      the x position of the image on the page.
+     * @param y      the y position of the image on the page.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    protected void copyImage(ByteBuffer image, int width, int height, AtlasPage page, int x, int y)
+    {
+        long source = MemoryUtil.memAddress(image);
+        long target = MemoryUtil.memAddress(page.pixels);
+        long rowBytes = width * 4L;
+
+        for (int row = 0; row < height; row++)
+        {
+            MemoryUtil.memCopy(source + row * rowBytes,
+                               target + ((long)(y + row) * page.getWidth() + x) * 4L,
+                               rowBytes);
+        }
+    }
+
+    /**
+     * Kills all pages of this atlas and removes all sprites. The added image paths are kept,
+     * so the atlas can be loaded again.
+     * <p>
+     * This can be called from any thread. The textures of pages that were already drawn are deleted by the
+     * {@link bt2d.utils.render.SpriteBatch SpriteBatch} during its next flush, see {@link AtlasPage#deleteTexture()}.
+     *
+     * @author Lukas Hartwig
+     * @since 17.10.2026
+     */
+    @Override
+    public void kill()
+    {
+        for (AtlasPage page : this.pages)
+        {
+            page.kill();
+        }
+
+        this.pages.clear();
+        this.sprites.clear();
+    }
+}
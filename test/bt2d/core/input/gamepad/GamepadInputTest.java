@@ -0,0 +1,222 @@
+package bt2d.core.input.gamepad;
+
+import bt2d.core.input.key.Key;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Polls a {@link GamepadInput} from a fake {@link GamepadStateSource} and checks the button edges, the dead zones of
+ * sticks and triggers and the listener calls.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class GamepadInputTest
+{
+    private static final float EPSILON = 1e-6f;
+
+    private final FakeSource source = new FakeSource();
+
+    private final GamepadInput input = new GamepadInput(GLFW_JOYSTICK_1, this.source);
+
+    @Test
+    public void testButtonEdges()
+    {
+        this.source.buttons[GLFW_GAMEPAD_BUTTON_A] = GLFW_PRESS;
+        this.input.checkGamepadChanges();
+
+        assertTrue(this.input.isConnected());
+        assertTrue(this.input.isButtonJustDown(GLFW_GAMEPAD_BUTTON_A));
+        assertTrue(this.input.isButtonDown(GLFW_GAMEPAD_BUTTON_A));
+        assertFalse(this.input.isButtonDown(GLFW_GAMEPAD_BUTTON_B));
+
+        this.input.checkGamepadChanges();
+
+        assertFalse(this.input.isButtonJustDown(GLFW_GAMEPAD_BUTTON_A));
+        assertTrue(this.input.isButtonDown(GLFW_GAMEPAD_BUTTON_A));
+
+        this.source.buttons[GLFW_GAMEPAD_BUTTON_A] = GLFW_RELEASE;
+        this.input.checkGamepadChanges();
+
+        assertFalse(this.input.isButtonDown(GLFW_GAMEPAD_BUTTON_A));
+        assertTrue(this.input.isButtonReleased(GLFW_GAMEPAD_BUTTON_A));
+
+        this.input.checkGamepadChanges();
+
+        assertFalse(this.input.isButtonReleased(GLFW_GAMEPAD_BUTTON_A));
+        assertFalse(this.input.isButtonDown(-1));
+    }
+
+    @Test
+    public void testStickDeadZoneIsRadial()
+    {
+        // both axes are below the dead zone, but the deflection is not
+        setLeftStick(0.14f, 0.14f);
+        this.input.checkGamepadChanges();
+
+        assertTrue(this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_X) > 0);
+        assertTrue(this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_Y) > 0);
+
+        setLeftStick(0.1f, 0.1f);
+        this.input.checkGamepadChanges();
+
+        assertEquals(0, this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_X));
+        assertEquals(0, this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_Y));
+    }
+
+    @Test
+    public void testStickIsRescaledOutsideOfDeadZone()
+    {
+        float deadZone = this.input.getStickDeadZone();
+
+        // half deflection keeps its direction and maps the edge of the dead zone to 0
+        setLeftStick(0.3f, 0.4f);
+        this.input.checkGamepadChanges();
+
+        float x = this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_X);
+        float y = this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_Y);
+
+        assertEquals((0.5f - deadZone) / (1 - deadZone), Math.sqrt(x * x + y * y), EPSILON);
+        assertEquals(4f / 3, y / x, EPSILON);
+
+        // full deflection still reaches 1
+        setLeftStick(0.6f, -0.8f);
+        this.input.checkGamepadChanges();
+
+        assertEquals(0.6f, this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_X), EPSILON);
+        assertEquals(-0.8f, this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_Y), EPSILON);
+    }
+
+    @Test
+    public void testTriggerDeadZoneIsMeasuredFromRest()
+    {
+        float deadZone = this.input.getTriggerDeadZone();
+
+        // slightly pressed, but within the dead zone
+        this.source.axes[GLFW_GAMEPAD_AXIS_LEFT_TRIGGER] = -1 + deadZone;
+        this.input.checkGamepadChanges();
+
+        assertEquals(-1, this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_TRIGGER));
+
+        // half pressed
+        this.source.axes[GLFW_GAMEPAD_AXIS_LEFT_TRIGGER] = 0;
+        this.input.checkGamepadChanges();
+
+        assertEquals((0.5f - deadZone) / (1 - deadZone) * 2 - 1, this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_TRIGGER), EPSILON);
+
+        this.source.axes[GLFW_GAMEPAD_AXIS_LEFT_TRIGGER] = 1;
+        this.input.checkGamepadChanges();
+
+        assertEquals(1, this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_TRIGGER), EPSILON);
+        assertEquals(-1, this.input.getAxis(GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER));
+    }
+
+    @Test
+    public void testListenersOnlyFireOnChange()
+    {
+        List<String> buttonChanges = new ArrayList<>();
+        List<String> axisChanges = new ArrayList<>();
+        this.input.onButtonChange((button, status) -> buttonChanges.add(button + ":" + status));
+        this.input.onAxisChange((axis, value) -> axisChanges.add(axis + ":" + value));
+
+        // resting gamepad
+        this.input.checkGamepadChanges();
+
+        assertTrue(buttonChanges.isEmpty());
+        assertTrue(axisChanges.isEmpty());
+
+        this.source.buttons[GLFW_GAMEPAD_BUTTON_X] = GLFW_PRESS;
+        this.source.axes[GLFW_GAMEPAD_AXIS_RIGHT_X] = 1;
+        this.input.checkGamepadChanges();
+        this.input.checkGamepadChanges();
+
+        assertEquals(List.of(GLFW_GAMEPAD_BUTTON_X + ":" + Key.KEY_JUST_DOWN), buttonChanges);
+        assertEquals(List.of(GLFW_GAMEPAD_AXIS_RIGHT_X + ":1.0"), axisChanges);
+
+        this.source.buttons[GLFW_GAMEPAD_BUTTON_X] = GLFW_RELEASE;
+        this.input.checkGamepadChanges();
+        this.input.checkGamepadChanges();
+
+        assertEquals(List.of(GLFW_GAMEPAD_BUTTON_X + ":" + Key.KEY_JUST_DOWN,
+                             GLFW_GAMEPAD_BUTTON_X + ":" + Key.KEY_RELEASED),
+                     buttonChanges);
+        assertEquals(1, axisChanges.size());
+    }
+
+    @Test
+    public void testDisconnectResetsToRest()
+    {
+        List<Integer> buttonChanges = new ArrayList<>();
+        this.input.onButtonChange((button, status) -> buttonChanges.add(status));
+
+        this.source.buttons[GLFW_GAMEPAD_BUTTON_START] = GLFW_PRESS;
+        setLeftStick(1, 0);
+        this.source.axes[GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER] = 1;
+        this.input.checkGamepadChanges();
+
+        // the source keeps the last state, the input must not
+        this.source.connected = false;
+        this.input.checkGamepadChanges();
+
+        assertFalse(this.input.isConnected());
+        assertTrue(this.input.isButtonReleased(GLFW_GAMEPAD_BUTTON_START));
+        assertEquals(List.of(Key.KEY_JUST_DOWN, Key.KEY_RELEASED), buttonChanges);
+        assertEquals(0, this.input.getAxis(GLFW_GAMEPAD_AXIS_LEFT_X));
+        assertEquals(-1, this.input.getAxis(GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER));
+
+        this.source.connected = true;
+        this.input.checkGamepadChanges();
+
+        assertTrue(this.input.isConnected());
+        assertTrue(this.input.isButtonJustDown(GLFW_GAMEPAD_BUTTON_START));
+    }
+
+    @Test
+    public void testInvalidDeadZone()
+    {
+        assertThrows(IllegalArgumentException.class, () -> this.input.setStickDeadZone(1));
+        assertThrows(IllegalArgumentException.class, () -> this.input.setTriggerDeadZone(-0.1f));
+    }
+
+    private void setLeftStick(float x, float y)
+    {
+        this.source.axes[GLFW_GAMEPAD_AXIS_LEFT_X] = x;
+        this.source.axes[GLFW_GAMEPAD_AXIS_LEFT_Y] = y;
+    }
+
+    /**
+     * A gamepad whose state is set by the test. It starts connected and at rest.
+     */
+    private static class FakeSource implements GamepadStateSource
+    {
+        private final byte[] buttons = new byte[GLFW_GAMEPAD_BUTTON_LAST + 1];
+
+        private final float[] axes = new float[GLFW_GAMEPAD_AXIS_LAST + 1];
+
+        private boolean connected = true;
+
+        FakeSource()
+        {
+            this.axes[GLFW_GAMEPAD_AXIS_LEFT_TRIGGER] = -1;
+            this.axes[GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER] = -1;
+        }
+
+        @Override
+        public boolean read(int gamepad, byte[] buttons, float[] axes)
+        {
+            if (!this.connected)
+            {
+                return false;
+            }
+
+            System.arraycopy(this.buttons, 0, buttons, 0, buttons.length);
+            System.arraycopy(this.axes, 0, axes, 0, axes.length);
+            return true;
+        }
+    }
+}
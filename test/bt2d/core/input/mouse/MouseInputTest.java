@@ -0,0 +1,126 @@
+package bt2d.core.input.mouse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Feeds button, cursor and scroll events into a {@link MouseInput} that does not listen to a window and checks the
+ * values of the following ticks.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class MouseInputTest
+{
+    private final MouseInput input = new MouseInput();
+
+    @Test
+    public void testButtonEdges()
+    {
+        this.input.buttonPressed(GLFW_MOUSE_BUTTON_LEFT, 0);
+        this.input.checkMouseChanges();
+
+        assertTrue(this.input.isButtonJustDown(GLFW_MOUSE_BUTTON_LEFT));
+        assertTrue(this.input.isButtonDown(GLFW_MOUSE_BUTTON_LEFT));
+        assertFalse(this.input.isButtonReleased(GLFW_MOUSE_BUTTON_LEFT));
+        assertFalse(this.input.isButtonDown(GLFW_MOUSE_BUTTON_RIGHT));
+
+        // held without new events
+        this.input.checkMouseChanges();
+
+        assertFalse(this.input.isButtonJustDown(GLFW_MOUSE_BUTTON_LEFT));
+        assertTrue(this.input.isButtonDown(GLFW_MOUSE_BUTTON_LEFT));
+
+        this.input.buttonReleased(GLFW_MOUSE_BUTTON_LEFT, 0);
+        this.input.checkMouseChanges();
+
+        assertFalse(this.input.isButtonDown(GLFW_MOUSE_BUTTON_LEFT));
+        assertTrue(this.input.isButtonReleased(GLFW_MOUSE_BUTTON_LEFT));
+
+        this.input.checkMouseChanges();
+
+        assertFalse(this.input.isButtonReleased(GLFW_MOUSE_BUTTON_LEFT));
+    }
+
+    @Test
+    public void testClickWithinOneTickIsNotLost()
+    {
+        this.input.buttonPressed(GLFW_MOUSE_BUTTON_LEFT, GLFW_MOD_SHIFT);
+        this.input.buttonReleased(GLFW_MOUSE_BUTTON_LEFT, GLFW_MOD_SHIFT);
+
+        // the press is visible for one tick, the release for the next
+        this.input.checkMouseChanges();
+        assertTrue(this.input.isButtonJustDown(GLFW_MOUSE_BUTTON_LEFT, GLFW_MOD_SHIFT));
+        assertFalse(this.input.isButtonJustDown(GLFW_MOUSE_BUTTON_LEFT));
+
+        this.input.checkMouseChanges();
+        assertTrue(this.input.isButtonReleased(GLFW_MOUSE_BUTTON_LEFT, GLFW_MOD_SHIFT));
+    }
+
+    @Test
+    public void testInvalidButtonsAreIgnored()
+    {
+        this.input.buttonPressed(-1, 0);
+        this.input.buttonPressed(GLFW_MOUSE_BUTTON_LAST + 1, 0);
+        this.input.checkMouseChanges();
+
+        assertFalse(this.input.isButtonDown(-1));
+        assertFalse(this.input.isButtonDown(GLFW_MOUSE_BUTTON_LAST + 1));
+        assertEquals(0, this.input.getButtonTimestamp(-1));
+    }
+
+    @Test
+    public void testCursorDeltasAccumulateUntilTheNextTick()
+    {
+        this.input.onCursorMove(0, 10, 5);
+        this.input.onCursorMove(0, 12, 2);
+        this.input.onCursorMove(0, 20, 1);
+
+        // not visible before the tick
+        assertFalse(this.input.hasCursorMoved());
+        assertEquals(0, this.input.getCursorX());
+
+        this.input.checkMouseChanges();
+
+        assertTrue(this.input.hasCursorMoved());
+        assertEquals(3, this.input.getCursorEventCount());
+        assertEquals(20, this.input.getCursorX());
+        assertEquals(1, this.input.getCursorY());
+        assertEquals(20, this.input.getCursorDeltaX());
+        assertEquals(1, this.input.getCursorDeltaY());
+
+        // the next movement is relative to the last position
+        this.input.onCursorMove(0, 15, 4);
+        this.input.checkMouseChanges();
+
+        assertEquals(-5, this.input.getCursorDeltaX());
+        assertEquals(3, this.input.getCursorDeltaY());
+
+        // no movement during a tick resets the deltas but keeps the position
+        this.input.checkMouseChanges();
+
+        assertFalse(this.input.hasCursorMoved());
+        assertEquals(0, this.input.getCursorDeltaX());
+        assertEquals(0, this.input.getCursorDeltaY());
+        assertEquals(15, this.input.getCursorX());
+        assertEquals(4, this.input.getCursorY());
+    }
+
+    @Test
+    public void testScrollOffsetsAccumulateUntilTheNextTick()
+    {
+        this.input.onScroll(0, 0, 1);
+        this.input.onScroll(0, 0.5, 2);
+        this.input.checkMouseChanges();
+
+        assertEquals(0.5, this.input.getScrollX());
+        assertEquals(3, this.input.getScrollY());
+
+        this.input.checkMouseChanges();
+
+        assertEquals(0, this.input.getScrollX());
+        assertEquals(0, this.input.getScrollY());
+    }
+}
@@ -0,0 +1,200 @@
+package bt2d.core.loop;
+
+import bt2d.core.loop.clock.ManualClock;
+import bt2d.core.loop.rate.RenderDegradation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs a {@link GameLoop} on a {@link ManualClock} whose tick and render calls advance the clock by a synthetic cost,
+ * and checks how the rate controllers and the {@link RenderDegradation} react to it.
+ * <p>
+ * The loop runs for {@link #DURATION} of simulated time, which only takes a fraction of that in real time.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class GameLoopSimulationTest
+{
+    private static final long MILLIS = 1_000_000;
+
+    private static final long SECONDS = 1_000 * MILLIS;
+
+    private static final long DURATION = 30 * SECONDS;
+
+    private static final int TARGET_RATE = 60;
+
+    private ManualClock clock;
+
+    private final List<Sample> samples = new ArrayList<>();
+
+    private GameLoop loop;
+
+    @Test
+    public void testRenderDegradationIsDisabledByDefault()
+    {
+        assertNull(new GameLoop(delta -> {}, () -> {}).getRenderDegradation());
+    }
+
+    @Test
+    public void testOverriddenAdjustMethodsAreCalled()
+    {
+        ManualClock clock = new ManualClock();
+        AtomicInteger tickAdjustments = new AtomicInteger();
+        AtomicInteger renderAdjustments = new AtomicInteger();
+
+        GameLoop loop = new GameLoop(delta -> clock.advance(MILLIS), () -> clock.advance(MILLIS))
+        {
+            @Override
+            protected void adjustTickInterval()
+            {
+                tickAdjustments.incrementAndGet();
+            }
+
+            @Override
+            protected void adjustRenderInterval()
+            {
+                renderAdjustments.incrementAndGet();
+
+                if (clock.nanoTime() >= 5 * SECONDS)
+                {
+                    kill();
+                }
+            }
+        };
+
+        loop.setClock(clock);
+        loop.setRateChecksPerSecond(2);
+        loop.run();
+
+        // one adjustment per rate check window
+        assertEquals(10, tickAdjustments.get(), 1);
+        assertEquals(tickAdjustments.get(), renderAdjustments.get());
+    }
+
+    @Test
+    public void testTickRateConvergesUnderConstantLoad()
+    {
+        run(now -> 3 * MILLIS, 4 * MILLIS, null);
+
+        assertConverged(0, 5 * SECONDS, DURATION);
+        assertMaxTickRate(0, TARGET_RATE);
+    }
+
+    @Test
+    public void testTickRateConvergesAfterLoadSteps()
+    {
+        run(now -> now < 10 * SECONDS ? 1 * MILLIS : now < 20 * SECONDS ? 6 * MILLIS : 1 * MILLIS, 2 * MILLIS, null);
+
+        assertConverged(0, 5 * SECONDS, 10 * SECONDS);
+        assertConverged(10 * SECONDS, 15 * SECONDS, 20 * SECONDS);
+        assertConverged(20 * SECONDS, 25 * SECONDS, DURATION);
+
+        // the window in which the load drops still runs with the old interval, the controller may not overshoot much after it
+        assertMaxTickRate(21 * SECONDS, TARGET_RATE * 1.15);
+    }
+
+    @Test
+    public void testRenderDegradationProtectsTickRate()
+    {
+        // tick and render together take longer than a second at the desired rates
+        run(now -> 12 * MILLIS, 10 * MILLIS, null);
+        double plainTicks = meanTickRate(10 * SECONDS);
+        double plainFrames = meanFrameRate(10 * SECONDS);
+
+        this.samples.clear();
+        run(now -> 12 * MILLIS, 10 * MILLIS, new RenderDegradation());
+        double degradedTicks = meanTickRate(10 * SECONDS);
+        double degradedFrames = meanFrameRate(10 * SECONDS);
+
+        assertTrue(this.loop.getRenderDegradation().isDegraded());
+        assertTrue(degradedFrames < plainFrames * 0.75, "frame rate " + plainFrames + " -> " + degradedFrames);
+        assertTrue(degradedTicks > plainTicks * 1.15, "tick rate " + plainTicks + " -> " + degradedTicks);
+    }
+
+    /**
+     * Runs a new loop at the target tick and frame rate for the simulated {@link #DURATION} and records the measured
+     * rates of every rate check window.
+     *
+     * @param tickCost    the time that a tick takes, depending on the current simulated time.
+     * @param renderCost  the time that a render call takes.
+     * @param degradation the degradation policy or null.
+     */
+    private void run(LongUnaryOperator tickCost, long renderCost, RenderDegradation degradation)
+    {
+        this.clock = new ManualClock();
+        this.loop = new GameLoop(delta -> {
+            this.clock.advance(tickCost.applyAsLong(this.clock.nanoTime()));
+
+            if (this.clock.nanoTime() >= DURATION)
+            {
+                this.loop.kill();
+            }
+        }, () -> this.clock.advance(renderCost));
+
+        this.loop.setClock(this.clock);
+        this.loop.setFrameRate(TARGET_RATE);
+        this.loop.setTickRate(TARGET_RATE);
+        this.loop.setRateChecksPerSecond(2);
+        this.loop.setRenderDegradation(degradation);
+        this.loop.onFpsUpdate(frames -> this.samples.add(new Sample(this.clock.nanoTime(),
+                                                                    this.loop.getCurrentTicksPerSecond(),
+                                                                    frames)));
+        this.loop.run();
+    }
+
+    /**
+     * Fails if any tick rate that was measured between settle and end is more than one tick off the target rate.
+     * One tick is the resolution of the measured rates.
+     */
+    private void assertConverged(long loadChange, long settle, long end)
+    {
+        for (Sample sample : this.samples)
+        {
+            if (sample.time() >= settle && sample.time() < end)
+            {
+                assertEquals(TARGET_RATE, sample.ticks(), 1,
+                             "tick rate did not converge within " + (settle - loadChange) / SECONDS
+                                     + " seconds after the load changed, was " + sample.ticks() + " at " + sample.time() / MILLIS + " ms");
+            }
+        }
+    }
+
+    private void assertMaxTickRate(long start, double maxRate)
+    {
+        for (Sample sample : this.samples)
+        {
+            if (sample.time() >= start)
+            {
+                assertTrue(sample.ticks() <= maxRate, "overshoot to " + sample.ticks() + " at " + sample.time() / MILLIS + " ms");
+            }
+        }
+    }
+
+    private double meanTickRate(long start)
+    {
+        return this.samples.stream().filter(sample -> sample.time() >= start).mapToInt(Sample::ticks).average().orElseThrow();
+    }
+
+    private double meanFrameRate(long start)
+    {
+        return this.samples.stream().filter(sample -> sample.time() >= start).mapToInt(Sample::frames).average().orElseThrow();
+    }
+
+    /**
+     * The rates measured in a rate check window.
+     *
+     * @param time   the simulated time at the end of the window.
+     * @param ticks  the measured tick rate.
+     * @param frames the measured frame rate.
+     */
+    private record Sample(long time, int ticks, int frames)
+    {
+    }
+}
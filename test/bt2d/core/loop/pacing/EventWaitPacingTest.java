@@ -0,0 +1,41 @@
+package bt2d.core.loop.pacing;
+
+import bt2d.core.loop.clock.ManualClock;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link EventWaitPacing} waits on the set clock if that is not the system clock.
+ * <p>
+ * GLFW is never initialized here, so these tests would fail if the GLFW event wait was used.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class EventWaitPacingTest
+{
+    @Test
+    public void testWaitsOnManualClock()
+    {
+        ManualClock clock = new ManualClock(1_000, 1_000);
+        EventWaitPacing pacing = new EventWaitPacing(clock);
+
+        long end = pacing.sync(5_000_000);
+
+        assertEquals(5_001_000, end);
+        assertEquals(5_001_000, clock.nanoTime());
+    }
+
+    @Test
+    public void testFollowsClockChange()
+    {
+        EventWaitPacing pacing = new EventWaitPacing(new ManualClock());
+        ManualClock clock = new ManualClock(0, 1_000);
+        pacing.setClock(clock);
+
+        pacing.sync(2_000_000);
+
+        assertEquals(2_000_000, clock.nanoTime());
+    }
+}
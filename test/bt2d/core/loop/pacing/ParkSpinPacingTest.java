@@ -0,0 +1,170 @@
+package bt2d.core.loop.pacing;
+
+import bt2d.core.loop.clock.ManualClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the jitter of {@link ParkSpinPacing} and {@link SleepPacing} on a {@link ManualClock} whose park calls take
+ * longer than requested, like they do on a real scheduler, and checks the statistics of {@link JitterStats}.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ParkSpinPacingTest
+{
+    private static final long MICROS = 1_000;
+
+    private static final long SPIN_STEP = MICROS;
+
+    /**
+     * Roughly the length of a frame at 60 frames per second.
+     */
+    private static final long FRAME = 16_667 * MICROS;
+
+    @Test
+    public void testParkSpinHasLessJitterThanSleep()
+    {
+        ParkSpinPacing parkSpin = new ParkSpinPacing(new OvershootingClock(200 * MICROS, 400 * MICROS, 1));
+        SleepPacing sleep = new SleepPacing(new OvershootingClock(200 * MICROS, 400 * MICROS, 1));
+
+        // let the park spin pacing learn the overshoot first
+        syncFrames(parkSpin, 50);
+        syncFrames(sleep, 50);
+        parkSpin.getJitterStats().reset();
+        sleep.getJitterStats().reset();
+
+        syncFrames(parkSpin, 500);
+        syncFrames(sleep, 500);
+
+        JitterStats parkSpinJitter = parkSpin.getJitterStats();
+        JitterStats sleepJitter = sleep.getJitterStats();
+
+        assertEquals(500, parkSpinJitter.getCount());
+        assertEquals(500, sleepJitter.getCount());
+
+        // park spin only misses the deadline by less than one spin step
+        assertTrue(parkSpinJitter.getMin() >= 0, parkSpinJitter.toString());
+        assertTrue(parkSpinJitter.getMax() < SPIN_STEP, parkSpinJitter.toString());
+
+        // sleeping wakes up after the deadline by up to a full step plus the overshoot
+        assertTrue(sleepJitter.getMean() > 100 * parkSpinJitter.getMean() + 100 * MICROS, sleepJitter + " vs " + parkSpinJitter);
+        assertTrue(sleepJitter.getStandardDeviation() > 10 * parkSpinJitter.getStandardDeviation(), sleepJitter + " vs " + parkSpinJitter);
+    }
+
+    @Test
+    public void testOvershootEstimateConverges()
+    {
+        OvershootingClock clock = new OvershootingClock(300 * MICROS, 300 * MICROS, 1);
+        ParkSpinPacing pacing = new ParkSpinPacing(clock);
+
+        assertEquals(0, pacing.getOvershootEstimate());
+
+        pacing.sync(FRAME);
+        long firstEstimate = pacing.getOvershootEstimate();
+        assertTrue(firstEstimate > 0 && firstEstimate < 300 * MICROS, "estimate " + firstEstimate);
+
+        syncFrames(pacing, 100);
+
+        // the moving average only moves in steps of an eighth of the difference
+        assertEquals(300 * MICROS, pacing.getOvershootEstimate(), 8);
+
+        // once the estimate covers the overshoot the deadline is reached by spinning
+        pacing.getJitterStats().reset();
+        syncFrames(pacing, 10);
+        assertTrue(pacing.getJitterStats().getMax() < SPIN_STEP, pacing.getJitterStats().toString());
+
+        // and follows the overshoot back down
+        clock.setOvershoot(0, 0);
+        syncFrames(pacing, 200);
+        assertEquals(0, pacing.getOvershootEstimate());
+    }
+
+    @Test
+    public void testJitterStatsMeanAndStandardDeviation()
+    {
+        JitterStats stats = new JitterStats();
+
+        for (long deviation : new long[] { 2, 4, 4, 4, 5, 5, 7, 9 })
+        {
+            stats.record(deviation);
+        }
+
+        assertEquals(8, stats.getCount());
+        assertEquals(5, stats.getMean(), 1e-9);
+        assertEquals(Math.sqrt(32.0 / 7), stats.getStandardDeviation(), 1e-9);
+        assertEquals(2, stats.getMin());
+        assertEquals(9, stats.getMax());
+    }
+
+    @Test
+    public void testJitterStatsReset()
+    {
+        JitterStats stats = new JitterStats();
+        stats.record(2);
+        stats.record(9);
+
+        stats.reset();
+
+        assertEquals(0, stats.getCount());
+        assertEquals(0, stats.getMean());
+        assertEquals(0, stats.getStandardDeviation());
+        assertEquals(0, stats.getMin());
+        assertEquals(0, stats.getMax());
+
+        // min and max start over instead of keeping the values from before the reset
+        stats.record(-3);
+        stats.record(5);
+
+        assertEquals(-3, stats.getMin());
+        assertEquals(5, stats.getMax());
+        assertEquals(1, stats.getMean(), 1e-9);
+        assertEquals(Math.sqrt(32), stats.getStandardDeviation(), 1e-9);
+    }
+
+    /**
+     * Syncs the given number of frames of slightly varying length.
+     */
+    private static void syncFrames(PacingStrategy pacing, int frames)
+    {
+        for (int i = 0; i < frames; i++)
+        {
+            pacing.sync(FRAME + (i % 7) * 100 * MICROS);
+        }
+    }
+
+    /**
+     * A manual clock whose park calls advance the time by the requested duration plus a random overshoot.
+     */
+    private static class OvershootingClock extends ManualClock
+    {
+        private final Random random;
+
+        private long minOvershoot;
+
+        private long maxOvershoot;
+
+        OvershootingClock(long minOvershoot, long maxOvershoot, long seed)
+        {
+            super(0, SPIN_STEP);
+            this.random = new Random(seed);
+            setOvershoot(minOvershoot, maxOvershoot);
+        }
+
+        void setOvershoot(long minOvershoot, long maxOvershoot)
+        {
+            this.minOvershoot = minOvershoot;
+            this.maxOvershoot = maxOvershoot;
+        }
+
+        @Override
+        public void parkNanos(long nanos)
+        {
+            long spread = this.maxOvershoot - this.minOvershoot;
+            advance(nanos + this.minOvershoot + (spread > 0 ? (long)(this.random.nextDouble() * spread) : 0));
+        }
+    }
+}
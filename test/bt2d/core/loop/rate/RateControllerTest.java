@@ -0,0 +1,132 @@
+package bt2d.core.loop.rate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simulates a {@link RateController} against a loop whose calls take the set interval plus a synthetic overhead and
+ * checks how fast and how smoothly the measured rate converges on the target rate.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class RateControllerTest
+{
+    private static final int TARGET_RATE = 60;
+
+    /**
+     * The length of one rate check window in seconds.
+     */
+    private static final double WINDOW = 0.5;
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    public void testConvergesUnderConstantOverhead()
+    {
+        double[] rates = simulate(window -> 2 * MILLIS, 40);
+
+        assertConverged(rates, 0, 10, 0.01);
+        assertMaxRate(rates, 0, TARGET_RATE * 1.01);
+    }
+
+    @Test
+    public void testConvergesAfterLoadSteps()
+    {
+        // light load, a sudden heavy load and back
+        double[] rates = simulate(window -> window < 40 ? 1 * MILLIS : window < 80 ? 5 * MILLIS : 1 * MILLIS, 120);
+
+        assertConverged(rates, 0, 10, 0.01);
+        assertConverged(rates, 40, 10, 0.01);
+        assertConverged(rates, 80, 10, 0.01);
+
+        // the window in which the load drops runs with the old interval, afterwards the controller may not overshoot much
+        assertMaxRate(rates, 81, TARGET_RATE * 1.12);
+    }
+
+    @Test
+    public void testFollowsLoadRamp()
+    {
+        // overhead grows from 0 to 6 ms over 30 seconds
+        double[] rates = simulate(window -> Math.min(60, window) * MILLIS / 10, 100);
+
+        for (int window = 10; window < rates.length; window++)
+        {
+            assertEquals(TARGET_RATE, rates[window], TARGET_RATE * 0.02, "window " + window);
+        }
+    }
+
+    @Test
+    public void testRecoversFromSaturation()
+    {
+        // the overhead alone exceeds the interval for a while, which saturates the controller at its lower limit
+        double[] rates = simulate(window -> window < 20 ? 20 * MILLIS : 2 * MILLIS, 60);
+
+        // anti-windup: once the overhead drops the controller must not stay at the limit for long or overshoot heavily
+        assertConverged(rates, 20, 10, 0.01);
+        assertMaxRate(rates, 21, TARGET_RATE * 1.1);
+    }
+
+    @Test
+    public void testIntervalStaysWithinLimits()
+    {
+        RateController controller = new RateController(TARGET_RATE);
+        long baseInterval = controller.getInterval();
+
+        for (int i = 0; i < 100; i++)
+        {
+            long interval = controller.update(i % 2 == 0 ? 1 : 1000, WINDOW);
+
+            assertTrue(interval >= baseInterval * 0.5 - 1);
+            assertTrue(interval <= baseInterval * 1.5 + 1);
+        }
+    }
+
+    /**
+     * Runs the controller for the given number of rate check windows.
+     *
+     * @param overhead the time in nano seconds that every call takes on top of the interval, per window.
+     * @param windows  the number of windows.
+     *
+     * @return the measured rate of every window.
+     */
+    private double[] simulate(IntToLongFunction overhead, int windows)
+    {
+        RateController controller = new RateController(TARGET_RATE);
+        double[] rates = new double[windows];
+
+        for (int window = 0; window < windows; window++)
+        {
+            rates[window] = 1.0e9 / (controller.getInterval() + overhead.applyAsLong(window));
+            controller.update(rates[window], WINDOW);
+        }
+
+        return rates;
+    }
+
+    /**
+     * Fails if the rate is not within the given tolerance of the target rate from the given number of windows after
+     * the start window until the next load change or the end.
+     */
+    private void assertConverged(double[] rates, int start, int settleWindows, double tolerance)
+    {
+        int end = Math.min(rates.length, start + 40);
+
+        for (int window = start + settleWindows; window < end; window++)
+        {
+            assertEquals(TARGET_RATE, rates[window], TARGET_RATE * tolerance,
+                         "rate did not converge within " + settleWindows + " windows after window " + start);
+        }
+    }
+
+    private void assertMaxRate(double[] rates, int start, double maxRate)
+    {
+        for (int window = start; window < rates.length; window++)
+        {
+            assertTrue(rates[window] <= maxRate, "overshoot to " + rates[window] + " in window " + window);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package bt2d.core.scene.system;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks which systems a {@link SystemScheduler} runs in parallel and how it handles failing systems.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class SystemSchedulerTest
+{
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private final SystemScheduler scheduler = new SystemScheduler(this.pool);
+
+    /**
+     * The number of systems that are currently ticking.
+     */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * The highest number of systems that ticked at the same time.
+     */
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.pool.shutdownNow();
+    }
+
+    @Test
+    public void testSystemsWithoutAccessAreExclusive()
+    {
+        TickSystem first = this.scheduler.addSystem("first", delta -> {});
+        TickSystem second = this.scheduler.addSystem("second", delta -> {}).writes(Position.class);
+        TickSystem third = this.scheduler.addSystem("third", delta -> {}).reads(Velocity.class);
+
+        assertTrue(first.isExclusive());
+        assertTrue(first.conflictsWith(second));
+        assertTrue(third.conflictsWith(first));
+        assertFalse(second.conflictsWith(third));
+    }
+
+    @Test
+    public void testUndeclaredSystemsDoNotRunInParallel()
+    {
+        for (int i = 0; i < 4; i++)
+        {
+            this.scheduler.addSystem("system" + i, delta -> measure());
+        }
+
+        for (int i = 0; i < 5; i++)
+        {
+            this.scheduler.tick(0);
+        }
+
+        assertEquals(1, this.maxActive.get());
+    }
+
+    @Test
+    public void testConflictingSystemsDoNotRunInParallel()
+    {
+        this.scheduler.addSystem("movement", delta -> measure()).reads(Velocity.class).writes(Position.class);
+        this.scheduler.addSystem("collision", delta -> measure()).writes(Position.class);
+        this.scheduler.addSystem("ai", delta -> measure()).reads(Position.class);
+
+        for (int i = 0; i < 5; i++)
+        {
+            this.scheduler.tick(0);
+        }
+
+        assertEquals(1, this.maxActive.get());
+    }
+
+    @Test
+    public void testIndependentSystemsRunInParallel()
+    {
+        // each system waits for the other, so the tick only finishes in time if both run at the same time
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicInteger parallel = new AtomicInteger();
+
+        for (String name : new String[] { "animation", "ai" })
+        {
+            Class<?> component = name.equals("ai") ? Intent.class : Position.class;
+            this.scheduler.addSystem(name, delta -> {
+                bothStarted.countDown();
+
+                if (await(bothStarted))
+                {
+                    parallel.incrementAndGet();
+                }
+            }).writes(component);
+        }
+
+        this.scheduler.tick(0);
+
+        assertEquals(2, parallel.get());
+    }
+
+    @Test
+    public void testFailureIsRethrownAfterRunningSystemsFinished()
+    {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch failing = new CountDownLatch(1);
+        AtomicBoolean slowFinished = new AtomicBoolean();
+        AtomicBoolean successorRan = new AtomicBoolean();
+
+        this.scheduler.addSystem("slow", delta -> {
+            slowStarted.countDown();
+
+            // let the other system fail while this one is still running
+            await(failing);
+            sleep(50);
+            slowFinished.set(true);
+        }).writes(Position.class);
+
+        this.scheduler.addSystem("failing", delta -> {
+            await(slowStarted);
+            failing.countDown();
+            throw new IllegalStateException("broken system");
+        }).writes(Intent.class);
+
+        this.scheduler.addSystem("successor", delta -> successorRan.set(true)).reads(Intent.class);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> this.scheduler.tick(0));
+
+        assertEquals("broken system", e.getMessage());
+        assertTrue(slowFinished.get(), "tick returned while a system was still running");
+        assertFalse(successorRan.get(), "system after the failed one should be skipped");
+    }
+
+    @Test
+    public void testTickAfterFailure()
+    {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        AtomicInteger ticks = new AtomicInteger();
+
+        this.scheduler.addSystem("sometimesFailing", delta -> {
+            if (fail.get())
+            {
+                throw new IllegalStateException("broken system");
+            }
+        }).writes(Intent.class);
+
+        this.scheduler.addSystem("counting", delta -> ticks.incrementAndGet()).reads(Intent.class);
+        this.scheduler.addSystem("other", delta -> ticks.incrementAndGet()).writes(Position.class);
+
+        assertThrows(IllegalStateException.class, () -> this.scheduler.tick(0));
+
+        fail.set(false);
+        ticks.set(0);
+        this.scheduler.tick(0);
+
+        assertEquals(2, ticks.get());
+    }
+
+    /**
+     * Tracks how many systems tick at the same time for a short while.
+     */
+    private void measure()
+    {
+        int current = this.active.incrementAndGet();
+        this.maxActive.accumulateAndGet(current, Math::max);
+        sleep(5);
+        this.active.decrementAndGet();
+    }
+
+    private static boolean await(CountDownLatch latch)
+    {
+        try
+        {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Position
+    {
+    }
+
+    private static class Velocity
+    {
+    }
+
+    private static class Intent
+    {
+    }
+}
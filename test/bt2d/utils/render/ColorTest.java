@@ -0,0 +1,56 @@
+package bt2d.utils.render;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the float and packed forms of a {@link Color} always describe the same color.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ColorTest
+{
+    @Test
+    public void testComponentsMatchPackedValue()
+    {
+        Color color = new Color(255, 128, 0, 64);
+
+        assertEquals(0xFF800040, color.getRGBA());
+        assertEquals(1.0f, color.getRed());
+        assertEquals(128 / 255.0f, color.getGreen());
+        assertEquals(0.0f, color.getBlue());
+        assertEquals(64 / 255.0f, color.getAlpha());
+    }
+
+    @Test
+    public void testOutOfRangeComponentsAreRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new Color(256, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Color(0, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> Color.of(0, 0, 300, 255));
+        assertThrows(IllegalArgumentException.class, () -> Color.of(0, 0, 0, -255));
+    }
+
+    @Test
+    public void testCachedColorsEqualNewColors()
+    {
+        assertSame(Color.of(1, 2, 3, 4), Color.of(1, 2, 3, 4));
+        assertEquals(new Color(1, 2, 3, 4), Color.of(1, 2, 3, 4));
+        assertEquals(new Color(1, 2, 3, 4).hashCode(), Color.of(1, 2, 3, 4).hashCode());
+        assertEquals(Color.of(0x4e9962), Color.of("#4e9962"));
+    }
+
+    @Test
+    public void testHexCacheReturnsParsedColor()
+    {
+        for (int i = 0; i < 1000; i++)
+        {
+            String hex = String.format("#%06x", i * 4099);
+            assertEquals(Color.of(i * 4099), Color.of(hex));
+        }
+
+        assertSame(Color.of("#123456"), Color.of("#123456"));
+    }
+}
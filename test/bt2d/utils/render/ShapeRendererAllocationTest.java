@@ -0,0 +1,112 @@
+package bt2d.utils.render;
+
+import bt2d.utils.Unit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that drawing shapes in {@link RenderMode#BATCHED batched} mode does not create any objects.
+ * <p>
+ * Batched mode only writes into off-heap buffers, so no OpenGL context is required.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ShapeRendererAllocationTest
+{
+    private static final int ROUNDS = 2_000;
+
+    private static final int SHAPES_PER_ROUND = 100;
+
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+    @BeforeEach
+    public void setUp()
+    {
+        Unit.setRatio(2);
+        ShapeRenderer.setCuller(null);
+        ShapeRenderer.setRenderMode(RenderMode.BATCHED);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        ShapeRenderer.clearBatches();
+        ShapeRenderer.kill();
+        Unit.setRatio(1);
+    }
+
+    @Test
+    public void testPrimitiveOverloadsDoNotAllocate()
+    {
+        assertNoAllocation(() -> {
+            ShapeRenderer.fillRectangle(10, 20, 30, 40);
+            ShapeRenderer.fillRectangle(10, 20, 30, 40, Color.RED);
+            ShapeRenderer.drawRectangle(10, 20, 30, 40, Color.BLUE);
+            ShapeRenderer.line(0, 0, 50, 50, Color.GREEN);
+        });
+    }
+
+    @Test
+    public void testUnitOverloadsDoNotAllocate()
+    {
+        Unit x = Unit.forGameUnits(10);
+        Unit y = Unit.forGameUnits(20);
+        Unit width = Unit.forGameUnits(30);
+        Unit height = Unit.forGameUnits(40);
+
+        assertNoAllocation(() -> {
+            ShapeRenderer.fillRectangle(x, y, width, height, Color.RED);
+            ShapeRenderer.drawRectangle(x, y, width, height, Color.BLUE);
+            ShapeRenderer.line(x, y, width, height, Color.GREEN);
+        });
+    }
+
+    @Test
+    public void testCulledShapesDoNotAllocate()
+    {
+        ViewportCuller culler = new ViewportCuller();
+        culler.setBounds(0, 0, 10, 10);
+        ShapeRenderer.setCuller(culler);
+
+        assertNoAllocation(() -> ShapeRenderer.fillRectangle(100, 100, 5, 5, Color.RED));
+    }
+
+    /**
+     * Runs the given draw calls until they are compiled and fails if they allocated on average one byte or more
+     * per call afterwards.
+     * <p>
+     * The batches are cleared after every round so that they do not have to grow while the allocations are measured.
+     */
+    private void assertNoAllocation(Runnable draw)
+    {
+        // warm up so that the measured calls run compiled code with grown batches
+        runRounds(draw);
+
+        long id = Thread.currentThread().getId();
+        long before = this.threads.getThreadAllocatedBytes(id);
+        runRounds(draw);
+        long allocated = this.threads.getThreadAllocatedBytes(id) - before;
+
+        long calls = (long)ROUNDS * SHAPES_PER_ROUND;
+        assertTrue(allocated < calls, "Drawing allocated " + allocated + " bytes during " + calls + " calls");
+    }
+
+    private void runRounds(Runnable draw)
+    {
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            for (int i = 0; i < SHAPES_PER_ROUND; i++)
+            {
+                draw.run();
+            }
+
+            ShapeRenderer.clearBatches();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package bt2d.utils.render.batch;
+
+import bt2d.utils.Unit;
+import bt2d.utils.render.Color;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the layout of the per-instance attributes written by {@link InstanceBuffer} and that the buffer grows
+ * without losing already written instances.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class InstanceBufferTest
+{
+    private InstanceBuffer instances;
+
+    @AfterEach
+    public void tearDown()
+    {
+        if (this.instances != null)
+        {
+            this.instances.kill();
+        }
+
+        Unit.setRatio(1);
+    }
+
+    @Test
+    public void testLayout()
+    {
+        // offset floats, then scale floats, then one packed color per instance
+        assertEquals(2 * Float.BYTES, InstanceBuffer.SCALE_OFFSET);
+        assertEquals(4 * Float.BYTES, InstanceBuffer.COLOR_OFFSET);
+        assertEquals(4 * Float.BYTES + Integer.BYTES, InstanceBuffer.STRIDE);
+    }
+
+    @Test
+    public void testInstanceWritesAttributesAtStrideOffsets()
+    {
+        this.instances = new InstanceBuffer(4);
+
+        this.instances.instance(1, 2, 3, 4, 0x11223344);
+        this.instances.instance(5, 6, 7, 8, 0x55667788);
+
+        assertEquals(2, this.instances.getInstanceCount());
+        assertEquals(2 * InstanceBuffer.STRIDE, this.instances.getBuffer().position());
+
+        assertInstance(0, 1, 2, 3, 4, 0x11223344);
+        assertInstance(1, 5, 6, 7, 8, 0x55667788);
+    }
+
+    @Test
+    public void testAddConvertsGameUnits()
+    {
+        Unit.setRatio(2);
+        this.instances = new InstanceBuffer(1);
+
+        this.instances.add(10, 20, 30, 40, Color.RED);
+
+        assertInstance(0,
+                       (float)Unit.toGlUnits(10),
+                       (float)Unit.toGlUnits(20),
+                       (float)Unit.toGlUnits(30),
+                       (float)Unit.toGlUnits(40),
+                       Color.RED.getPacked());
+    }
+
+    @Test
+    public void testInstanceGrowsBufferAndKeepsData()
+    {
+        this.instances = new InstanceBuffer(2);
+        int initialCapacity = this.instances.getBuffer().capacity();
+
+        for (int i = 0; i < 100; i++)
+        {
+            this.instances.instance(i, -i, i * 2, i * 3, i);
+        }
+
+        assertEquals(100, this.instances.getInstanceCount());
+        assertTrue(this.instances.getBuffer().capacity() >= 100 * InstanceBuffer.STRIDE);
+        assertTrue(this.instances.getBuffer().capacity() > initialCapacity);
+
+        for (int i = 0; i < 100; i++)
+        {
+            assertInstance(i, i, -i, i * 2, i * 3, i);
+        }
+    }
+
+    @Test
+    public void testEnsureCapacity()
+    {
+        this.instances = new InstanceBuffer(2);
+        this.instances.instance(1, 2, 3, 4, 5);
+
+        // enough room left, the buffer must not be replaced
+        ByteBuffer buffer = this.instances.getBuffer();
+        this.instances.ensureCapacity(1);
+        assertSame(buffer, this.instances.getBuffer());
+
+        // growing has to at least double and keep the write position
+        this.instances.ensureCapacity(10);
+        assertTrue(this.instances.getBuffer().capacity() >= 11 * InstanceBuffer.STRIDE);
+        assertEquals(InstanceBuffer.STRIDE, this.instances.getBuffer().position());
+        assertInstance(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void testClearResetsInstances()
+    {
+        this.instances = new InstanceBuffer(2);
+        this.instances.instance(1, 2, 3, 4, 5);
+        this.instances.instance(1, 2, 3, 4, 5);
+        int capacity = this.instances.getBuffer().capacity();
+
+        this.instances.clear();
+
+        assertEquals(0, this.instances.getInstanceCount());
+        assertEquals(0, this.instances.getBuffer().position());
+        assertEquals(capacity, this.instances.getBuffer().capacity());
+    }
+
+    @Test
+    public void testInvalidCapacity()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new InstanceBuffer(0));
+    }
+
+    private void assertInstance(int index, float x, float y, float scaleX, float scaleY, int color)
+    {
+        ByteBuffer data = this.instances.getBuffer();
+        int offset = index * InstanceBuffer.STRIDE;
+
+        assertEquals(x, data.getFloat(offset));
+        assertEquals(y, data.getFloat(offset + Float.BYTES));
+        assertEquals(scaleX, data.getFloat(offset + InstanceBuffer.SCALE_OFFSET));
+        assertEquals(scaleY, data.getFloat(offset + InstanceBuffer.SCALE_OFFSET + Float.BYTES));
+        assertEquals(color, data.getInt(offset + InstanceBuffer.COLOR_OFFSET));
+    }
+}
@@ -0,0 +1,120 @@
+package bt2d.utils.render.command;
+
+import bt2d.utils.render.Color;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a {@link LayerRecorder} merges the layers in order and that a failing layer does not leave other layers
+ * running after the exception was propagated.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class LayerRecorderTest
+{
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private final LayerRecorder recorder = new LayerRecorder(this.pool);
+
+    @AfterEach
+    public void tearDown()
+    {
+        this.pool.shutdownNow();
+    }
+
+    @Test
+    public void testLayersAreMergedInOrder()
+    {
+        RenderCommandBuffer target = new RenderCommandBuffer();
+
+        this.recorder.record(List.of(layer(1), layer(2), layer(3)), target, false);
+
+        assertEquals(3, target.size());
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(i + 1, target.get(i).getA());
+        }
+    }
+
+    @Test
+    public void testFailingFirstLayerWaitsForOtherLayers()
+    {
+        AtomicBoolean slowFinished = new AtomicBoolean();
+
+        RenderLayer failing = (commands, debugRendering) -> {
+            throw new IllegalStateException("broken layer");
+        };
+
+        RenderLayer slow = (commands, debugRendering) -> {
+            sleep(50);
+            commands.fillRectangle(2, 0, 1, 1, Color.RED);
+            slowFinished.set(true);
+        };
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                                               () -> this.recorder.record(List.of(failing, slow, layer(3)),
+                                                                          new RenderCommandBuffer(),
+                                                                          false));
+
+        // the pool may wrap the exception into a new one of the same type when it crosses threads
+        assertTrue(e.getMessage().contains("broken layer"), e.getMessage());
+        assertTrue(slowFinished.get(), "record returned while a layer was still recording");
+    }
+
+    @Test
+    public void testFailingForkedLayerIsRethrown()
+    {
+        RenderLayer failing = (commands, debugRendering) -> {
+            throw new IllegalStateException("broken layer");
+        };
+
+        assertThrows(IllegalStateException.class,
+                     () -> this.recorder.record(List.of(layer(1), failing), new RenderCommandBuffer(), false));
+    }
+
+    @Test
+    public void testRecordAfterFailure()
+    {
+        RenderLayer failing = (commands, debugRendering) -> {
+            throw new IllegalStateException("broken layer");
+        };
+
+        assertThrows(IllegalStateException.class,
+                     () -> this.recorder.record(List.of(failing, layer(2)), new RenderCommandBuffer(), false));
+
+        RenderCommandBuffer target = new RenderCommandBuffer();
+        this.recorder.record(List.of(layer(1), layer(2)), target, false);
+
+        assertEquals(2, target.size());
+        assertEquals(1, target.get(0).getA());
+        assertEquals(2, target.get(1).getA());
+    }
+
+    /**
+     * Creates a layer that records a single rectangle at the given x position.
+     */
+    private static RenderLayer layer(double x)
+    {
+        return (commands, debugRendering) -> commands.fillRectangle(x, 0, 1, 1, Color.RED);
+    }
+
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package bt2d.utils.render.command;
+
+import bt2d.utils.render.Camera;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that clip rectangles are converted to scissor boxes through the camera matrix.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class RenderCommandSubmitterTest
+{
+    private static final int WIDTH = 800;
+
+    private static final int HEIGHT = 600;
+
+    private final int[] box = new int[4];
+
+    @Test
+    public void testCenteredCameraMapsUnitsToPixels()
+    {
+        Camera camera = centeredCamera();
+
+        toScissorBox(camera, WIDTH, HEIGHT, 10, 20, 110, 70);
+
+        // the scissor box starts at the bottom left corner
+        assertBox(10, 530, 100, 50);
+    }
+
+    @Test
+    public void testMovedCamera()
+    {
+        Camera camera = centeredCamera();
+        camera.move(100, -50);
+
+        toScissorBox(camera, WIDTH, HEIGHT, 10, 20, 110, 70);
+
+        assertBox(-90, 480, 100, 50);
+    }
+
+    @Test
+    public void testZoomedCamera()
+    {
+        Camera camera = centeredCamera();
+        camera.setZoom(2);
+
+        toScissorBox(camera, WIDTH, HEIGHT, 350, 250, 450, 350);
+
+        assertBox(300, 200, 200, 200);
+    }
+
+    @Test
+    public void testRotatedCameraUsesBoundingBox()
+    {
+        Camera camera = centeredCamera();
+        camera.setRotation(Math.PI / 2);
+
+        toScissorBox(camera, WIDTH, HEIGHT, 300, 275, 500, 325);
+
+        assertBox(375, 200, 50, 200);
+    }
+
+    @Test
+    public void testLargerFramebufferScalesBox()
+    {
+        Camera camera = centeredCamera();
+
+        toScissorBox(camera, WIDTH * 2, HEIGHT * 2, 10, 20, 110, 70);
+
+        assertBox(20, 1060, 200, 100);
+    }
+
+    private Camera centeredCamera()
+    {
+        Camera camera = new Camera(WIDTH, HEIGHT);
+        camera.setPosition(WIDTH / 2.0, HEIGHT / 2.0);
+        return camera;
+    }
+
+    private void toScissorBox(Camera camera, int viewportWidth, int viewportHeight, double x1, double y1, double x2, double y2)
+    {
+        RenderCommandSubmitter.toScissorBox(camera.getMatrix(), viewportWidth, viewportHeight, x1, y1, x2, y2, this.box);
+    }
+
+    /**
+     * Compares with a tolerance of one pixel since the matrix is stored in floats.
+     */
+    private void assertBox(int x, int y, int width, int height)
+    {
+        String message = String.format("expected [%d, %d, %d, %d] but was [%d, %d, %d, %d]",
+                                       x, y, width, height, this.box[0], this.box[1], this.box[2], this.box[3]);
+
+        assertTrue(Math.abs(this.box[0] - x) <= 1, message);
+        assertTrue(Math.abs(this.box[1] - y) <= 1, message);
+        assertTrue(Math.abs(this.box[2] - width) <= 1, message);
+        assertTrue(Math.abs(this.box[3] - height) <= 1, message);
+    }
+}
@@ -0,0 +1,151 @@
+package bt2d.utils.render.shader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL20.*;
+
+/**
+ * A {@link GLFacade} without an OpenGL context that hands out increasing ids and records the calls that the shader
+ * tests check.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+class FakeGLFacade implements GLFacade
+{
+    /**
+     * The next id that is returned by {@link #createShader(int)} and {@link #createProgram()}.
+     */
+    int nextId = 1;
+
+    /**
+     * The shader type whose compilation fails, or 0 if all shaders compile.
+     */
+    int failingShaderType;
+
+    /**
+     * Whether linking programs fails.
+     */
+    boolean failLinking;
+
+    /**
+     * The locations of the active uniforms. All other names return -1.
+     */
+    final Map<String, Integer> uniforms = new HashMap<>();
+
+    final Map<Integer, Integer> shaderTypes = new HashMap<>();
+
+    final Map<Integer, String> shaderSources = new HashMap<>();
+
+    final List<Integer> deletedShaders = new ArrayList<>();
+
+    final List<Integer> deletedPrograms = new ArrayList<>();
+
+    final List<String> uniformLookups = new ArrayList<>();
+
+    @Override
+    public int createShader(int type)
+    {
+        int shader = this.nextId++;
+        this.shaderTypes.put(shader, type);
+        return shader;
+    }
+
+    @Override
+    public void shaderSource(int shader, String source)
+    {
+        this.shaderSources.put(shader, source);
+    }
+
+    @Override
+    public void compileShader(int shader)
+    {
+    }
+
+    @Override
+    public int getShaderi(int shader, int parameter)
+    {
+        return this.shaderTypes.get(shader) == this.failingShaderType ? GL_FALSE : GL_TRUE;
+    }
+
+    @Override
+    public String getShaderInfoLog(int shader)
+    {
+        return "syntax error";
+    }
+
+    @Override
+    public void deleteShader(int shader)
+    {
+        this.deletedShaders.add(shader);
+    }
+
+    @Override
+    public int createProgram()
+    {
+        return this.nextId++;
+    }
+
+    @Override
+    public void attachShader(int program, int shader)
+    {
+    }
+
+    @Override
+    public void detachShader(int program, int shader)
+    {
+    }
+
+    @Override
+    public void linkProgram(int program)
+    {
+    }
+
+    @Override
+    public int getProgrami(int program, int parameter)
+    {
+        return this.failLinking ? GL_FALSE : GL_TRUE;
+    }
+
+    @Override
+    public String getProgramInfoLog(int program)
+    {
+        return "missing varying";
+    }
+
+    @Override
+    public void deleteProgram(int program)
+    {
+        this.deletedPrograms.add(program);
+    }
+
+    @Override
+    public void useProgram(int program)
+    {
+    }
+
+    @Override
+    public int getUniformLocation(int program, String name)
+    {
+        this.uniformLookups.add(name);
+        return this.uniforms.getOrDefault(name, -1);
+    }
+
+    @Override
+    public void uniform1i(int location, int value)
+    {
+    }
+
+    @Override
+    public void uniform4f(int location, float x, float y, float z, float w)
+    {
+    }
+
+    @Override
+    public void uniformMatrix4fv(int location, boolean transpose, float[] value)
+    {
+    }
+}
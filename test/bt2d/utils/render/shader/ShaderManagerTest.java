@@ -0,0 +1,112 @@
+package bt2d.utils.render.shader;
+
+import bt2d.utils.render.shader.exc.ShaderException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.opengl.GL20.*;
+
+/**
+ * Checks how a {@link ShaderManager} prepares sources, caches programs and cleans up after failed compilations and links.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ShaderManagerTest
+{
+    private static final String VERTEX = "void main() { gl_Position = vec4(0.0); }";
+
+    private static final String FRAGMENT = "out vec4 color; void main() { color = vec4(1.0); }";
+
+    private final FakeGLFacade gl = new FakeGLFacade();
+
+    private final ShaderManager manager = new ShaderManager(this.gl);
+
+    @Test
+    public void testDefaultVersionIsAdded()
+    {
+        this.manager.getProgram("plain", VERTEX, FRAGMENT);
+
+        // vertex shader is created first
+        assertEquals(ShaderManager.DEFAULT_VERSION + "\n" + VERTEX, this.gl.shaderSources.get(1));
+        assertEquals(ShaderManager.DEFAULT_VERSION + "\n" + FRAGMENT, this.gl.shaderSources.get(2));
+    }
+
+    @Test
+    public void testDeclaredVersionIsKept()
+    {
+        String vertex = "  #version 120\n" + VERTEX;
+        this.manager.getProgram("legacy", vertex, FRAGMENT);
+
+        assertEquals(vertex, this.gl.shaderSources.get(1));
+    }
+
+    @Test
+    public void testProgramsAreCachedByName()
+    {
+        ShaderProgram program = this.manager.getProgram("cached", VERTEX, FRAGMENT);
+
+        assertSame(program, this.manager.getProgram("cached", VERTEX, FRAGMENT));
+        assertSame(program, this.manager.getProgram("cached"));
+        assertEquals(2, this.gl.shaderSources.size());
+
+        // the compiled shaders are not needed once the program is linked
+        assertEquals(List.of(1, 2), this.gl.deletedShaders);
+    }
+
+    @Test
+    public void testCompileFailureDeletesShaders()
+    {
+        this.gl.failingShaderType = GL_FRAGMENT_SHADER;
+
+        ShaderException e = assertThrows(ShaderException.class, () -> this.manager.getProgram("broken", VERTEX, FRAGMENT));
+
+        assertTrue(e.getMessage().contains("fragment"), e.getMessage());
+        assertTrue(e.getMessage().contains("syntax error"), e.getMessage());
+
+        // the failed fragment shader and the already compiled vertex shader
+        assertEquals(List.of(2, 1), this.gl.deletedShaders);
+        assertNull(this.manager.getProgram("broken"));
+    }
+
+    @Test
+    public void testVertexCompileFailureDeletesShader()
+    {
+        this.gl.failingShaderType = GL_VERTEX_SHADER;
+
+        assertThrows(ShaderException.class, () -> this.manager.getProgram("broken", VERTEX, FRAGMENT));
+
+        assertEquals(List.of(1), this.gl.deletedShaders);
+        assertEquals(1, this.gl.shaderSources.size());
+    }
+
+    @Test
+    public void testLinkFailureDeletesShadersAndProgram()
+    {
+        this.gl.failLinking = true;
+
+        ShaderException e = assertThrows(ShaderException.class, () -> this.manager.getProgram("broken", VERTEX, FRAGMENT));
+
+        assertTrue(e.getMessage().contains("missing varying"), e.getMessage());
+        assertEquals(List.of(1, 2), this.gl.deletedShaders);
+        assertEquals(List.of(3), this.gl.deletedPrograms);
+        assertNull(this.manager.getProgram("broken"));
+    }
+
+    @Test
+    public void testKillDeletesAllPrograms()
+    {
+        ShaderProgram first = this.manager.getProgram("first", VERTEX, FRAGMENT);
+        ShaderProgram second = this.manager.getProgram("second", VERTEX, FRAGMENT);
+
+        this.manager.kill();
+
+        assertEquals(2, this.gl.deletedPrograms.size());
+        assertTrue(this.gl.deletedPrograms.containsAll(List.of(3, 6)));
+        assertEquals(0, first.getId());
+        assertEquals(0, second.getId());
+        assertNull(this.manager.getProgram("first"));
+    }
+}
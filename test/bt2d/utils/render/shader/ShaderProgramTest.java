@@ -0,0 +1,52 @@
+package bt2d.utils.render.shader;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the uniform location cache of a {@link ShaderProgram} and that a program is only deleted once.
+ *
+ * @author Lukas Hartwig
+ * @since 17.10.2026
+ */
+public class ShaderProgramTest
+{
+    private final FakeGLFacade gl = new FakeGLFacade();
+
+    private final ShaderProgram program = new ShaderProgram(this.gl, "test", 7);
+
+    @Test
+    public void testUniformLocationIsLookedUpOnce()
+    {
+        this.gl.uniforms.put("projection", 3);
+
+        assertEquals(3, this.program.getUniformLocation("projection"));
+        this.program.setUniform("projection", new float[16]);
+        this.program.setUniform("projection", new float[16]);
+
+        assertEquals(List.of("projection"), this.gl.uniformLookups);
+    }
+
+    @Test
+    public void testInactiveUniformIsCached()
+    {
+        assertEquals(-1, this.program.getUniformLocation("unused"));
+        this.program.setUniform("unused", 1);
+        this.program.setUniform("unused", 1, 2, 3, 4);
+
+        assertEquals(List.of("unused"), this.gl.uniformLookups);
+    }
+
+    @Test
+    public void testKillDeletesProgramOnce()
+    {
+        this.program.kill();
+        this.program.kill();
+
+        assertEquals(List.of(7), this.gl.deletedPrograms);
+        assertEquals(0, this.program.getId());
+    }
+}